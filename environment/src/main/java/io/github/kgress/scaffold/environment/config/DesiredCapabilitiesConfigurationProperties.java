@@ -1,5 +1,8 @@
 package io.github.kgress.scaffold.environment.config;
 
+import io.github.kgress.scaffold.models.enums.FillMode;
+import io.github.kgress.scaffold.models.enums.MetricsExportFormat;
+import io.github.kgress.scaffold.models.enums.SettleStrategyType;
 import io.github.kgress.scaffold.models.enums.desktop.BrowserType;
 import io.github.kgress.scaffold.models.enums.desktop.Platform;
 import io.github.kgress.scaffold.models.enums.desktop.RunType;
@@ -119,6 +122,71 @@ public class DesiredCapabilitiesConfigurationProperties {
    */
   private final AWSLambda awsLambda = new AWSLambda();
 
+  /**
+   * Creates a new {@link SessionPool} in the event browser sessions should be reused between tests
+   * instead of being started and quit for every test.
+   */
+  private final SessionPool sessionPool = new SessionPool();
+
+  /**
+   * Creates a new {@link SessionLimiter} that limits how many session start and quit requests are
+   * sent to a remote hub at the same time.
+   */
+  private final SessionLimiter sessionLimiter = new SessionLimiter();
+
+  /**
+   * Creates a new {@link AsyncQuit} in the event browsers should be quit in the background instead
+   * of on the test thread.
+   */
+  private final AsyncQuit asyncQuit = new AsyncQuit();
+
+  /**
+   * Creates a new {@link ElementLookup} in the event the way Scaffold elements find their raw
+   * {@link org.openqa.selenium.WebElement} should be tuned.
+   */
+  private final ElementLookup elementLookup = new ElementLookup();
+
+  /**
+   * Creates a new {@link BrowserSideWait} in the event waits should be evaluated inside the browser
+   * instead of being polled from the JVM.
+   */
+  private final BrowserSideWait browserSideWait = new BrowserSideWait();
+
+  /**
+   * Creates a new {@link Settle} in the event Scaffold should wait for something other than the
+   * document's ready state after clicking an element.
+   */
+  private final Settle settle = new Settle();
+
+  /**
+   * Creates a new {@link Interaction} in the event clicking and typing into elements should take
+   * fewer round trips to the browser.
+   */
+  private final Interaction interaction = new Interaction();
+
+  /**
+   * Creates a new {@link HttpClientPool} in the event the connections Scaffold makes to a remote
+   * hub should be pooled differently.
+   */
+  private final HttpClientPool httpClientPool = new HttpClientPool();
+
+  /**
+   * Creates a new {@link RemoteHttpClient} in the event the connections remote browser sessions
+   * send their commands over should be tuned.
+   */
+  private final RemoteHttpClient remoteHttpClient = new RemoteHttpClient();
+
+  /**
+   * Creates a new {@link CommandTiming} in the event the time each WebDriver command takes should be
+   * recorded.
+   */
+  private final CommandTiming commandTiming = new CommandTiming();
+
+  /**
+   * Creates a new {@link Metrics} in the event Scaffold's meters should be exported to a file.
+   */
+  private final Metrics metrics = new Metrics();
+
   /**
    * SauceAuthentication configuration properties are used for setting Sauce credentials up in your
    * Spring profile.
@@ -270,4 +338,377 @@ public class DesiredCapabilitiesConfigurationProperties {
      */
     private String userDataDir;
   }
+
+  /**
+   * SessionPool configuration properties are used for leasing {@link org.openqa.selenium.WebDriver}
+   * sessions out of a pool instead of starting a brand new browser for every test. Sessions are
+   * pooled per capability set, reset between tests (cookies, storage, extra windows, and the current
+   * URL), and health checked before they are handed out again.
+   * <p>
+   * Pooling is disabled by default. It has no effect on a {@link RunType#UNIT} execution.
+   */
+  @Getter
+  @Setter
+  public static class SessionPool {
+
+    /**
+     * Optional. Enables leasing sessions from the pool. Defaults to false. Sessions are never pooled
+     * for the SAUCE and SAUCE_MOBILE_EMULATOR run types, even when this is set, since every test has
+     * to be its own Sauce job for its name and result to be reported correctly.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Optional. The maximum number of sessions that can be open at once for a single capability set.
+     * This should usually match the number of tests that run in parallel. Defaults to 10.
+     */
+    private int maxSessions = 10;
+
+    /**
+     * Optional. How long a test will wait for a session to be returned to the pool when the pool is
+     * already at {@link #maxSessions}. Defaults to 300 seconds.
+     */
+    private Long leaseTimeoutInSeconds = 300L;
+
+    /**
+     * Optional. The number of tests a single session can serve before it is quit and replaced with a
+     * fresh one. This guards against browsers that slowly leak memory. Defaults to 50.
+     */
+    private int maxUsesPerSession = 50;
+
+    /**
+     * Optional. The number of sessions to start in the background as soon as the application context
+     * is ready, before the first test asks for one. As tests lease sessions, the pool starts new
+     * ones in the background to keep this many ready, up to {@link #maxSessions}. Sessions are not
+     * pre-warmed for the SAUCE and SAUCE_MOBILE_EMULATOR run types, since they are never pooled.
+     * Defaults to 0, which disables pre-warming.
+     */
+    private int prewarmSessions = 0;
+
+    /**
+     * Optional. The URL a session is navigated to when it is returned to the pool. Defaults to
+     * about:blank.
+     */
+    private String resetUrl = "about:blank";
+  }
+
+  /**
+   * SessionLimiter configuration properties are used for limiting the session start and quit
+   * requests that are sent at the same time across every test in the JVM. This keeps a large
+   * parallel run from stampeding a Selenium Grid hub or Sauce Labs without starting sessions one at
+   * a time.
+   * <p>
+   * The limiter is a fair semaphore, optionally combined with a token bucket that limits the rate of
+   * requests. The first configuration that starts a session is the one used for the rest of the
+   * JVM.
+   */
+  @Getter
+  @Setter
+  public static class SessionLimiter {
+
+    /**
+     * Optional. The maximum number of session start and quit requests that can be in flight at once.
+     * Defaults to 5.
+     */
+    private int maxConcurrentRequests = 5;
+
+    /**
+     * Optional. The maximum number of session start and quit requests per second. Defaults to 0,
+     * which does not limit the rate.
+     */
+    private double requestsPerSecond = 0;
+
+    /**
+     * Optional. The number of requests that can be sent back to back before
+     * {@link #requestsPerSecond} kicks in. Defaults to 1.
+     */
+    private int burstSize = 1;
+
+    /**
+     * Optional. How long a request will wait for its turn before failing. Defaults to 300 seconds.
+     */
+    private Long acquireTimeoutInSeconds = 300L;
+  }
+
+  /**
+   * AsyncQuit configuration properties are used for quitting browsers on a background executor once
+   * a test is finished, so the test thread can move on to the next test right away. Remote quit
+   * requests can take several seconds.
+   * <p>
+   * Any quits that are still queued when the JVM shuts down are given
+   * {@link #shutdownTimeoutInSeconds} to finish.
+   */
+  @Getter
+  @Setter
+  public static class AsyncQuit {
+
+    /**
+     * Optional. Enables quitting browsers in the background. Defaults to false.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Optional. The number of threads that quit browsers. Defaults to 4.
+     */
+    private int threads = 4;
+
+    /**
+     * Optional. The number of quits that can be queued before the test thread quits its own browser
+     * instead of handing it off. Defaults to 100.
+     */
+    private int queueCapacity = 100;
+
+    /**
+     * Optional. How long queued quits are given to finish when the JVM shuts down. Defaults to 60
+     * seconds.
+     */
+    private Long shutdownTimeoutInSeconds = 60L;
+  }
+
+  /**
+   * ElementLookup configuration properties are used for tuning how Scaffold elements find their raw
+   * {@link org.openqa.selenium.WebElement} on the page.
+   */
+  @Getter
+  @Setter
+  public static class ElementLookup {
+
+    /**
+     * Optional. Caches the raw element an element resolves to, so reading several properties of the
+     * same element only finds it once. The cache only lives as long as the current document and
+     * window. It is cleared when the browser navigates or switches windows through the
+     * WebDriverWrapper, and the element is found again if the cached one has gone stale. Defaults to
+     * false.
+     */
+    private boolean cacheEnabled = false;
+
+    /**
+     * Optional. Tries to find an element and check it's displayed with a single attempt before
+     * falling back to waiting for it. Elements that are already on the page skip the polling wait,
+     * and when the wait is needed, the element it found is used instead of finding it a second
+     * time. Defaults to false.
+     */
+    private boolean fastPathEnabled = false;
+  }
+
+  /**
+   * BrowserSideWait configuration properties are used for moving waits into the browser, where a
+   * single asynchronous script watches the page instead of the JVM polling it with a command every
+   * half second.
+   */
+  @Getter
+  @Setter
+  public static class BrowserSideWait {
+
+    /**
+     * Optional. Verifies pages by sending the locators of every verification element to the
+     * browser at once and waiting for all of them to be displayed in a single script. When the
+     * wait times out, every element that's still missing is reported. Elements with locators that
+     * can't be evaluated in the browser are still verified one by one. Defaults to false.
+     */
+    private boolean pageVerificationEnabled = false;
+
+    /**
+     * Optional. Evaluates the built in waits on {@code AutomationWait}, like waiting for an element
+     * to be displayed or for its text to contain a value, with a single asynchronous script that's
+     * triggered by changes to the page. This replaces polling from the JVM every half second, where
+     * every poll is a round trip to the browser. Custom conditions are always polled from the JVM.
+     * Defaults to false.
+     */
+    private boolean conditionsEnabled = false;
+  }
+
+  /**
+   * Settle configuration properties are used for choosing how Scaffold waits for the page to settle
+   * after an element is clicked. The strategy can also be chosen for a single page class with the
+   * {@code @Settle} annotation, or for a single click.
+   */
+  @Getter
+  @Setter
+  public static class Settle {
+
+    /**
+     * Optional. The {@link SettleStrategyType} used after every click. {@link
+     * SettleStrategyType#READY_STATE} waits for the document to be complete, which is what Scaffold
+     * has always done. {@link SettleStrategyType#NONE} skips the wait for clicks that only change
+     * the current page, like opening a drop down. {@link SettleStrategyType#CUSTOM} uses the
+     * {@link #customStrategy} class. Defaults to {@link SettleStrategyType#READY_STATE}.
+     */
+    private SettleStrategyType strategy = SettleStrategyType.READY_STATE;
+
+    /**
+     * Optional. How long the network or the DOM must be quiet for the {@link
+     * SettleStrategyType#NETWORK_IDLE} and {@link SettleStrategyType#DOM_STABLE} strategies.
+     * Defaults to 500.
+     */
+    private long quietPeriodInMillis = 500L;
+
+    /**
+     * Optional. The fully qualified name of a {@code SettleStrategy} implementation with a no
+     * argument constructor, used when the strategy is {@link SettleStrategyType#CUSTOM}.
+     */
+    private String customStrategy;
+  }
+
+  /**
+   * Interaction configuration properties are used for tuning how Scaffold clicks and types into
+   * elements.
+   */
+  @Getter
+  @Setter
+  public static class Interaction {
+
+    /**
+     * Optional. Clicks elements by finding, scrolling, and checking that the element will receive
+     * the click with a single script, then clicking the element the script returned. This takes two
+     * round trips to the browser instead of four or five. When the element isn't displayed yet, or
+     * something else is covering it, the click falls back to waiting for the element as usual.
+     * Defaults to false.
+     */
+    private boolean fusedClickEnabled = false;
+
+    /**
+     * Optional. How {@code clearAndSendKeys} fills text into inputs and text areas. {@link
+     * FillMode#FAST} sets the value with a single script and fires the {@code input} and {@code
+     * change} events frameworks like React and Angular listen for, instead of typing one key at a
+     * time, which makes long text much quicker to fill. Defaults to {@link FillMode#NATIVE}.
+     */
+    private FillMode fillMode = FillMode.NATIVE;
+  }
+
+  /**
+   * HttpClientPool configuration properties are used for tuning the pool of keep-alive connections
+   * shared by every request Scaffold makes to a remote hub. Without a pool, every test thread opens
+   * its own connection, and only two of them can be open to the hub at a time.
+   */
+  @Getter
+  @Setter
+  public static class HttpClientPool {
+
+    /**
+     * Optional. The most connections that can be open at a time, across every host. Defaults to
+     * 50.
+     */
+    private int maxTotal = 50;
+
+    /**
+     * Optional. The most connections that can be open to a single host at a time. This should be at
+     * least the number of tests running in parallel. Defaults to 20.
+     */
+    private int maxPerRoute = 20;
+
+    /**
+     * Optional. How long an idle connection is kept open for reuse when the server doesn't say how
+     * long it will keep the connection open. Defaults to 30000.
+     */
+    private long keepAliveInMillis = 30000L;
+
+    /**
+     * Optional. How long a connection can sit idle in the pool before a background thread closes
+     * it. Set this to 0 to keep idle connections until their keep-alive runs out. Defaults to 60.
+     */
+    private long idleEvictionInSeconds = 60L;
+
+    /**
+     * Optional. How long a connection can sit idle in the pool before it's checked for being closed
+     * by the server before it's reused. Defaults to 2000.
+     */
+    private int validateAfterInactivityInMillis = 2000;
+  }
+
+  /**
+   * RemoteHttpClient configuration properties are used for tuning the HTTP client that every remote
+   * browser session sends its commands through. Every element lookup, click, and read is its own
+   * request, so the connections are kept open and shared by every session in the JVM.
+   */
+  @Getter
+  @Setter
+  public static class RemoteHttpClient {
+
+    /**
+     * Optional. How long to wait for a connection to the remote URL to open. Defaults to 120.
+     */
+    private long connectTimeoutInSeconds = 120L;
+
+    /**
+     * Optional. How long to wait for the remote end to answer a command. Starting a session on a
+     * busy hub can take minutes, so this should stay well above the time a session takes to start.
+     * Defaults to 10800.
+     */
+    private long readTimeoutInSeconds = 10800L;
+
+    /**
+     * Optional. The most idle connections kept open for reuse. This should be at least the number
+     * of tests running in parallel. Defaults to 20.
+     */
+    private int maxIdleConnections = 20;
+
+    /**
+     * Optional. How long an idle connection is kept open for reuse. Defaults to 300.
+     */
+    private long keepAliveInSeconds = 300L;
+
+    /**
+     * Optional. Asks the remote end to gzip its responses, which mostly helps with screenshots and
+     * page sources. Turn this off for a remote end that sends broken compressed responses. Defaults
+     * to true.
+     */
+    private boolean gzipEnabled = true;
+
+    /**
+     * Optional. Opens a connection to the remote URL in the background as soon as the application
+     * context is refreshed, so the first session doesn't pay for the DNS lookup and TLS handshake.
+     * Defaults to false.
+     */
+    private boolean warmUpEnabled = false;
+  }
+
+  /**
+   * CommandTiming configuration properties are used for recording how long every WebDriver command
+   * a remote session sends takes, for each test.
+   */
+  @Getter
+  @Setter
+  public static class CommandTiming {
+
+    /**
+     * Optional. Times every command a remote session sends, like finding an element, clicking, or
+     * taking a screenshot, and logs the count, p50, p95, p99, and max of each command at the end
+     * of every test. Commands sent by local drivers aren't timed. Defaults to false.
+     */
+    private boolean enabled = false;
+  }
+
+  /**
+   * Metrics configuration properties are used for exporting the meters Scaffold records, like
+   * session start times and wait timeouts, so they can be trended across runs.
+   */
+  @Getter
+  @Setter
+  public static class Metrics {
+
+    /**
+     * Optional. Writes every meter to a file in {@link #exportDirectory} every {@link
+     * #exportIntervalInSeconds}, and once more when the application context is closed. Defaults to
+     * false.
+     */
+    private boolean exportEnabled = false;
+
+    /**
+     * Optional. The format of the export file, depicted by {@link MetricsExportFormat}. Defaults
+     * to {@link MetricsExportFormat#JSON}.
+     */
+    private MetricsExportFormat exportFormat = MetricsExportFormat.JSON;
+
+    /**
+     * Optional. The directory the export file is written to. Each run writes its own file, named
+     * after the time the run started. Defaults to target/scaffold-metrics.
+     */
+    private String exportDirectory = "target/scaffold-metrics";
+
+    /**
+     * Optional. How often the export file is rewritten while the tests run. Defaults to 60.
+     */
+    private long exportIntervalInSeconds = 60L;
+  }
 }
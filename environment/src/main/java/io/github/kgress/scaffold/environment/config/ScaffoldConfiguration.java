@@ -1,6 +1,9 @@
 package io.github.kgress.scaffold.environment.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.kgress.scaffold.environment.metrics.FileMeterExporter;
+import io.github.kgress.scaffold.environment.metrics.ScaffoldMeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
@@ -27,4 +30,32 @@ public class ScaffoldConfiguration {
     public ObjectMapper objectMapper() {
         return new ObjectMapper();
     }
+
+    /**
+     * The registry Scaffold records its meters into, like session start times and wait timeouts.
+     *
+     * @return the global {@link ScaffoldMeterRegistry}
+     */
+    @Bean
+    public ScaffoldMeterRegistry scaffoldMeterRegistry() {
+        return ScaffoldMeterRegistry.getGlobalRegistry();
+    }
+
+    /**
+     * Exports the meters to a file when {@link DesiredCapabilitiesConfigurationProperties.Metrics#isExportEnabled()}
+     * is set. The last export is written when the application context is closed.
+     *
+     * @param scaffoldMeterRegistry the {@link ScaffoldMeterRegistry} to export
+     * @param desiredCapabilities   the {@link DesiredCapabilitiesConfigurationProperties}
+     * @param objectMapper          the {@link ObjectMapper} for the JSON format
+     * @return the {@link FileMeterExporter}
+     */
+    @Bean
+    public FileMeterExporter fileMeterExporter(ScaffoldMeterRegistry scaffoldMeterRegistry,
+                                               DesiredCapabilitiesConfigurationProperties desiredCapabilities,
+                                               @Qualifier("objectMapper") ObjectMapper objectMapper) {
+        var exporter = new FileMeterExporter(scaffoldMeterRegistry, desiredCapabilities.getMetrics(), objectMapper);
+        exporter.start();
+        return exporter;
+    }
 }
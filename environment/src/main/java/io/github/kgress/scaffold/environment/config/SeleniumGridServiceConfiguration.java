@@ -2,7 +2,15 @@ package io.github.kgress.scaffold.environment.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.http.client.config.RequestConfig;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
 import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.client.IdleConnectionEvictor;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
@@ -15,17 +23,110 @@ import org.springframework.http.converter.json.MappingJackson2HttpMessageConvert
 import org.springframework.web.client.RestTemplate;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 public class SeleniumGridServiceConfiguration {
 
     private final static int THIRTY_SECONDS = 30000;
 
+    /**
+     * The pool of connections shared by every request to the remote hub, sized with the
+     * {@link DesiredCapabilitiesConfigurationProperties.HttpClientPool} properties. Inject it to read the pool's
+     * statistics with {@link PoolingHttpClientConnectionManager#getTotalStats()}, which shows how many connections are
+     * leased, available, and how many requests are waiting for one.
+     * <p>
+     * HTTPS connections use the JVM's system TLS settings, like {@code javax.net.ssl.keyStore}, {@code https.protocols}
+     * and {@code https.cipherSuites}. A client given its own connection manager doesn't read them from
+     * {@link HttpClientBuilder#useSystemProperties()}, so the manager is built with them instead.
+     *
+     * @param desiredCapabilities   the {@link DesiredCapabilitiesConfigurationProperties}
+     * @return the {@link PoolingHttpClientConnectionManager}
+     */
+    @Bean
+    public PoolingHttpClientConnectionManager seleniumGridConnectionManager(
+            DesiredCapabilitiesConfigurationProperties desiredCapabilities
+    ) {
+        var pool = desiredCapabilities.getHttpClientPool();
+        var socketFactories = RegistryBuilder.<ConnectionSocketFactory>create()
+                .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                .register("https", SSLConnectionSocketFactory.getSystemSocketFactory())
+                .build();
+        var connectionManager = new PoolingHttpClientConnectionManager(socketFactories);
+        connectionManager.setMaxTotal(pool.getMaxTotal());
+        connectionManager.setDefaultMaxPerRoute(pool.getMaxPerRoute());
+        connectionManager.setValidateAfterInactivity(pool.getValidateAfterInactivityInMillis());
+        return connectionManager;
+    }
+
+    /**
+     * The client behind {@link #seleniumGridRestTemplate(String, ObjectMapper, CloseableHttpClient)}. Any other REST
+     * calls to the hub or a cloud provider, like reporting test results, can inject it to reuse the same pool of
+     * keep-alive connections instead of opening their own.
+     *
+     * @param seleniumGridConnectionManager the {@link PoolingHttpClientConnectionManager}
+     * @param desiredCapabilities           the {@link DesiredCapabilitiesConfigurationProperties}
+     * @return the {@link CloseableHttpClient}
+     */
+    @Bean
+    public CloseableHttpClient seleniumGridHttpClient(
+            @Qualifier("seleniumGridConnectionManager") PoolingHttpClientConnectionManager seleniumGridConnectionManager,
+            DesiredCapabilitiesConfigurationProperties desiredCapabilities
+    ) {
+        var pool = desiredCapabilities.getHttpClientPool();
+        var config = RequestConfig.custom()
+                .setConnectTimeout(THIRTY_SECONDS)
+                .setConnectionRequestTimeout(THIRTY_SECONDS)
+                .setSocketTimeout(THIRTY_SECONDS)
+                .build();
+
+        // Build an HTTPCLIENT with SSL enabled. The connection manager is its own bean, so Spring closes it.
+        var httpClientBuilder = HttpClientBuilder.create()
+                .useSystemProperties()
+                .setConnectionManager(seleniumGridConnectionManager)
+                .setConnectionManagerShared(true)
+                .setKeepAliveStrategy((response, context) -> {
+                    // Use the server's Keep-Alive header when it sends one
+                    var keepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                    return keepAlive > 0 ? keepAlive : pool.getKeepAliveInMillis();
+                })
+                .setDefaultRequestConfig(config)
+                .disableAuthCaching()
+                .disableCookieManagement();
+        return httpClientBuilder.build();
+    }
+
+    /**
+     * Closes expired connections, and connections that have been idle for
+     * {@link DesiredCapabilitiesConfigurationProperties.HttpClientPool#getIdleEvictionInSeconds()}, in the background.
+     * The client shares its connection manager with this configuration, and {@link HttpClientBuilder} only starts its
+     * own evictor for a manager it owns, so the evictor is started here instead. It isn't started when idle eviction
+     * is turned off with 0.
+     *
+     * @param seleniumGridConnectionManager the {@link PoolingHttpClientConnectionManager}
+     * @param desiredCapabilities           the {@link DesiredCapabilitiesConfigurationProperties}
+     * @return the {@link IdleConnectionEvictor}
+     */
+    @Bean(destroyMethod = "shutdown")
+    public IdleConnectionEvictor seleniumGridIdleConnectionEvictor(
+            @Qualifier("seleniumGridConnectionManager") PoolingHttpClientConnectionManager seleniumGridConnectionManager,
+            DesiredCapabilitiesConfigurationProperties desiredCapabilities
+    ) {
+        var idleEvictionInSeconds = desiredCapabilities.getHttpClientPool().getIdleEvictionInSeconds();
+        var evictor = new IdleConnectionEvictor(seleniumGridConnectionManager,
+                Math.max(idleEvictionInSeconds, 1), TimeUnit.SECONDS, idleEvictionInSeconds, TimeUnit.SECONDS);
+        if (idleEvictionInSeconds > 0) {
+            evictor.start();
+        }
+        return evictor;
+    }
+
     @Bean
     public RestTemplate seleniumGridRestTemplate(
             // Set a default value if the remote URL is null. It isn't required if the user is not testing through Grid.
             @Value("${desired-capabilities.remote-url:http://add.remoteurl.configuration}") String chromeSeleniumGridRootUri,
-            @Qualifier("objectMapper") ObjectMapper objectMapper
+            @Qualifier("objectMapper") ObjectMapper objectMapper,
+            @Qualifier("seleniumGridHttpClient") CloseableHttpClient seleniumGridHttpClient
     ) {
         // Create new message converters
         var messageConverters = List.of(new FormHttpMessageConverter(), new MappingJackson2HttpMessageConverter(objectMapper));
@@ -33,7 +134,7 @@ public class SeleniumGridServiceConfiguration {
         return new RestTemplateBuilder()
                 .rootUri(chromeSeleniumGridRootUri)
                 .messageConverters(messageConverters)
-                .requestFactory(this::getClientHttpRequestFactory)
+                .requestFactory(() -> getClientHttpRequestFactory(seleniumGridHttpClient))
                 .build();
     }
 
@@ -41,27 +142,13 @@ public class SeleniumGridServiceConfiguration {
      * Spring 2.0 change. We need to create our own custom {@link ClientHttpRequestFactory} to be used
      * with the {@link RestTemplateBuilder}.
      * <p>
-     * Set up a Request Configuration with our timeouts. Then, build a client with additional options. Afterward,
-     * return the request factory using the client options.
+     * Return the request factory using the pooled client, so every request made by the {@link RestTemplate} reuses
+     * the same keep-alive connections.
      *
+     * @param httpClient    the pooled {@link CloseableHttpClient}
      * @return the {@link ClientHttpRequestFactory}
      */
-    private ClientHttpRequestFactory getClientHttpRequestFactory() {
-
-        var config = RequestConfig.custom()
-                .setConnectTimeout(THIRTY_SECONDS)
-                .setConnectionRequestTimeout(THIRTY_SECONDS)
-                .setSocketTimeout(THIRTY_SECONDS)
-                .build();
-
-        // Build an HTTPCLIENT with SSL enabled
-        var httpClient = HttpClientBuilder.create()
-                .useSystemProperties()
-                .setDefaultRequestConfig(config)
-                .disableAuthCaching()
-                .disableCookieManagement()
-                .build();
-
+    private ClientHttpRequestFactory getClientHttpRequestFactory(CloseableHttpClient httpClient) {
         return new HttpComponentsClientHttpRequestFactory(httpClient);
     }
 }
@@ -0,0 +1,154 @@
+package io.github.kgress.scaffold.environment.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties;
+import io.github.kgress.scaffold.models.enums.MetricsExportFormat;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Writes every meter in a {@link ScaffoldMeterRegistry} to a JSON or CSV file while the tests run, and once more when
+ * the application context is closed, so the numbers can be trended across runs without a metrics backend. Each run
+ * writes its own file, named after the time the run started, and the file is replaced as a whole every time so it's
+ * never read half written.
+ */
+@Slf4j
+public class FileMeterExporter implements AutoCloseable {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")
+            .withZone(ZoneOffset.UTC);
+
+    private final ScaffoldMeterRegistry registry;
+    private final DesiredCapabilitiesConfigurationProperties.Metrics config;
+    private final ObjectMapper objectMapper;
+    private final Path exportFile;
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * @param registry      the {@link ScaffoldMeterRegistry} to export
+     * @param config        the {@link DesiredCapabilitiesConfigurationProperties.Metrics} settings
+     * @param objectMapper  the {@link ObjectMapper} for the JSON format
+     */
+    public FileMeterExporter(ScaffoldMeterRegistry registry, DesiredCapabilitiesConfigurationProperties.Metrics config,
+                             ObjectMapper objectMapper) {
+        this.registry = registry;
+        this.config = config;
+        this.objectMapper = objectMapper;
+        var extension = config.getExportFormat() == MetricsExportFormat.CSV ? "csv" : "json";
+        this.exportFile = Paths.get(config.getExportDirectory(),
+                String.format("scaffold-metrics-%s.%s", FILE_TIMESTAMP.format(Instant.now()), extension));
+    }
+
+    /**
+     * Starts exporting on a background thread every {@link DesiredCapabilitiesConfigurationProperties.Metrics#getExportIntervalInSeconds()},
+     * if exporting is enabled.
+     */
+    public synchronized void start() {
+        if (!config.isExportEnabled() || scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "scaffold-metrics-export");
+            thread.setDaemon(true);
+            return thread;
+        });
+        var interval = Math.max(1L, config.getExportIntervalInSeconds());
+        scheduler.scheduleAtFixedRate(this::exportQuietly, interval, interval, TimeUnit.SECONDS);
+        log.info(String.format("Exporting Scaffold metrics to %s every %s seconds.", exportFile, interval));
+    }
+
+    /**
+     * @return the file the meters are written to
+     */
+    public Path getExportFile() {
+        return exportFile;
+    }
+
+    /**
+     * Writes every meter to the export file now.
+     *
+     * @throws IOException if the file couldn't be written
+     */
+    public void export() throws IOException {
+        var meters = registry.getMeters();
+        var timestamp = Instant.now().toString();
+        var content = config.getExportFormat() == MetricsExportFormat.CSV
+                ? toCsv(meters, timestamp)
+                : toJson(meters, timestamp);
+        Files.createDirectories(exportFile.toAbsolutePath().getParent());
+        var temporaryFile = exportFile.resolveSibling(exportFile.getFileName() + ".tmp");
+        Files.write(temporaryFile, content.getBytes(StandardCharsets.UTF_8));
+        Files.move(temporaryFile, exportFile, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Stops the background export and writes the meters one last time. Spring calls this when the application context
+     * is closed.
+     */
+    @Override
+    public synchronized void close() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdownNow();
+        scheduler = null;
+        exportQuietly();
+        log.info(String.format("Scaffold metrics were exported to %s", exportFile));
+    }
+
+    private void exportQuietly() {
+        try {
+            export();
+        } catch (IOException | RuntimeException e) {
+            log.warn(String.format("Could not export Scaffold metrics to %s: %s", exportFile, e.getMessage()));
+        }
+    }
+
+    private String toJson(List<ScaffoldMeterRegistry.Meter> meters, String timestamp) throws IOException {
+        var document = new LinkedHashMap<String, Object>();
+        document.put("timestamp", timestamp);
+        document.put("meters", meters.stream().map(meter -> {
+            var entry = new LinkedHashMap<String, Object>();
+            entry.put("name", meter.getId().getName());
+            entry.put("type", meter.getType());
+            entry.put("tags", meter.getId().getTags());
+            entry.put("measurements", meter.measure());
+            return entry;
+        }).collect(Collectors.toList()));
+        return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(document);
+    }
+
+    private String toCsv(List<ScaffoldMeterRegistry.Meter> meters, String timestamp) {
+        var csv = new StringBuilder("timestamp,name,type,tags,statistic,value\n");
+        meters.forEach(meter -> {
+            var tags = meter.getId().getTags().entrySet().stream()
+                    .map(tag -> tag.getKey() + "=" + tag.getValue())
+                    .collect(Collectors.joining(";"));
+            meter.measure().forEach((statistic, value) -> csv.append(String.join(",", timestamp,
+                    toCsvField(meter.getId().getName()), meter.getType(), toCsvField(tags), statistic,
+                    String.valueOf(value))).append('\n'));
+        });
+        return csv.toString();
+    }
+
+    private String toCsvField(String value) {
+        return value.contains(",") || value.contains("\"")
+                ? "\"" + value.replace("\"", "\"\"") + "\""
+                : value;
+    }
+}
@@ -0,0 +1,347 @@
+package io.github.kgress.scaffold.environment.metrics;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.DoubleAccumulator;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * The meters Scaffold records while tests run, like how long sessions take to start and how often waits time out.
+ * It's modeled on a Micrometer {@code MeterRegistry}: every meter has a name and a set of tags, asking for the same
+ * name and tags again returns the same meter, and there are timers, counters, distribution summaries and gauges.
+ * Every meter can be recorded into by many threads at once without locking.
+ * <p>
+ * Scaffold records into the {@link #getGlobalRegistry() global registry}, which is also exposed as a bean, so meters
+ * can be read or added from a test or exported with a {@link FileMeterExporter}.
+ */
+public class ScaffoldMeterRegistry {
+
+    private static final ScaffoldMeterRegistry GLOBAL_REGISTRY = new ScaffoldMeterRegistry();
+
+    private final Map<Meter.Id, Meter> meters = new ConcurrentHashMap<>();
+
+    /**
+     * @return the registry Scaffold records its own meters into
+     */
+    public static ScaffoldMeterRegistry getGlobalRegistry() {
+        return GLOBAL_REGISTRY;
+    }
+
+    /**
+     * Returns the timer with the name and tags, creating it the first time it's asked for.
+     *
+     * @param name  the name of the timer, like {@code scaffold.session.start}
+     * @param tags  the tags as alternating keys and values
+     * @return the {@link Timer}
+     */
+    public Timer timer(String name, String... tags) {
+        var id = new Meter.Id(name, tags);
+        return register(id, () -> new Timer(id), Timer.class);
+    }
+
+    /**
+     * Returns the counter with the name and tags, creating it the first time it's asked for.
+     *
+     * @param name  the name of the counter
+     * @param tags  the tags as alternating keys and values
+     * @return the {@link Counter}
+     */
+    public Counter counter(String name, String... tags) {
+        var id = new Meter.Id(name, tags);
+        return register(id, () -> new Counter(id), Counter.class);
+    }
+
+    /**
+     * Returns the distribution summary with the name and tags, creating it the first time it's asked for.
+     *
+     * @param name  the name of the summary
+     * @param tags  the tags as alternating keys and values
+     * @return the {@link DistributionSummary}
+     */
+    public DistributionSummary summary(String name, String... tags) {
+        var id = new Meter.Id(name, tags);
+        return register(id, () -> new DistributionSummary(id), DistributionSummary.class);
+    }
+
+    /**
+     * Registers a gauge that reads its value from an object whenever the meters are measured. Only the first gauge
+     * registered with a name and tags is kept.
+     *
+     * @param name          the name of the gauge
+     * @param object        the object the value is read from
+     * @param valueFunction reads the value from the object
+     * @param tags          the tags as alternating keys and values
+     * @param <T>           the type of the object
+     * @return the object, so a gauge can be registered where the object is created
+     */
+    public <T> T gauge(String name, T object, ToDoubleFunction<T> valueFunction, String... tags) {
+        var id = new Meter.Id(name, tags);
+        register(id, () -> new Gauge(id, () -> valueFunction.applyAsDouble(object)), Gauge.class);
+        return object;
+    }
+
+    /**
+     * @return every meter in the registry, sorted by name and then by tags
+     */
+    public List<Meter> getMeters() {
+        var sortedMeters = new ArrayList<>(meters.values());
+        sortedMeters.sort(Comparator.comparing((Meter meter) -> meter.getId().getName())
+                .thenComparing(meter -> meter.getId().getTags().toString()));
+        return sortedMeters;
+    }
+
+    private <M extends Meter> M register(Meter.Id id, Supplier<? extends Meter> meterFactory, Class<M> meterType) {
+        var meter = meters.computeIfAbsent(id, key -> meterFactory.get());
+        if (!meterType.isInstance(meter)) {
+            throw new IllegalArgumentException(String.format("%s is already registered as a %s", id,
+                    meter.getClass().getSimpleName()));
+        }
+        return meterType.cast(meter);
+    }
+
+    /**
+     * A named and tagged measurement of something Scaffold does.
+     */
+    public interface Meter {
+
+        /**
+         * @return the name and tags of the meter
+         */
+        Id getId();
+
+        /**
+         * @return the type of the meter, like {@code timer} or {@code counter}
+         */
+        String getType();
+
+        /**
+         * @return the current value of every statistic the meter keeps, like {@code count} or {@code max}
+         */
+        Map<String, Double> measure();
+
+        /**
+         * The name and tags that identify a meter.
+         */
+        @Getter
+        final class Id {
+
+            private final String name;
+            private final Map<String, String> tags;
+
+            Id(String name, String... tags) {
+                if (tags.length % 2 != 0) {
+                    throw new IllegalArgumentException("Tags must be given as alternating keys and values");
+                }
+                var sortedTags = new TreeMap<String, String>();
+                for (var index = 0; index < tags.length; index += 2) {
+                    sortedTags.put(tags[index], String.valueOf(tags[index + 1]));
+                }
+                this.name = name;
+                this.tags = Collections.unmodifiableMap(sortedTags);
+            }
+
+            @Override
+            public boolean equals(Object other) {
+                if (!(other instanceof Id)) {
+                    return false;
+                }
+                return name.equals(((Id) other).name) && tags.equals(((Id) other).tags);
+            }
+
+            @Override
+            public int hashCode() {
+                return Objects.hash(name, tags);
+            }
+
+            @Override
+            public String toString() {
+                return tags.isEmpty() ? name : name + tags;
+            }
+        }
+    }
+
+    /**
+     * Keeps the count, total and max of how long something took.
+     */
+    public static class Timer implements Meter {
+
+        @Getter
+        private final Id id;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final DoubleAccumulator maxNanos = new DoubleAccumulator(Math::max, 0D);
+
+        Timer(Id id) {
+            this.id = id;
+        }
+
+        public void record(long amount, TimeUnit unit) {
+            var nanos = Math.max(0L, unit.toNanos(amount));
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        public void record(Duration duration) {
+            record(duration.toNanos(), TimeUnit.NANOSECONDS);
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public Duration getTotalTime() {
+            return Duration.ofNanos(totalNanos.sum());
+        }
+
+        public Duration getMax() {
+            return Duration.ofNanos((long) maxNanos.get());
+        }
+
+        @Override
+        public String getType() {
+            return "timer";
+        }
+
+        @Override
+        public Map<String, Double> measure() {
+            var measurements = new LinkedHashMap<String, Double>();
+            measurements.put("count", (double) getCount());
+            measurements.put("totalMillis", totalNanos.sum() / 1_000_000D);
+            measurements.put("maxMillis", maxNanos.get() / 1_000_000D);
+            return measurements;
+        }
+    }
+
+    /**
+     * Counts how many times something happened.
+     */
+    public static class Counter implements Meter {
+
+        @Getter
+        private final Id id;
+        private final DoubleAdder count = new DoubleAdder();
+
+        Counter(Id id) {
+            this.id = id;
+        }
+
+        public void increment() {
+            count.add(1D);
+        }
+
+        public void increment(double amount) {
+            count.add(amount);
+        }
+
+        public double getCount() {
+            return count.sum();
+        }
+
+        @Override
+        public String getType() {
+            return "counter";
+        }
+
+        @Override
+        public Map<String, Double> measure() {
+            return Map.of("count", getCount());
+        }
+    }
+
+    /**
+     * Keeps the count, total and max of amounts that aren't times, like the number of lookups in a test.
+     */
+    public static class DistributionSummary implements Meter {
+
+        @Getter
+        private final Id id;
+        private final LongAdder count = new LongAdder();
+        private final DoubleAdder total = new DoubleAdder();
+        private final DoubleAccumulator max = new DoubleAccumulator(Math::max, 0D);
+
+        DistributionSummary(Id id) {
+            this.id = id;
+        }
+
+        public void record(double amount) {
+            count.increment();
+            total.add(amount);
+            max.accumulate(amount);
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public double getTotalAmount() {
+            return total.sum();
+        }
+
+        public double getMax() {
+            return max.get();
+        }
+
+        public double getMean() {
+            var recorded = getCount();
+            return recorded == 0 ? 0D : getTotalAmount() / recorded;
+        }
+
+        @Override
+        public String getType() {
+            return "summary";
+        }
+
+        @Override
+        public Map<String, Double> measure() {
+            var measurements = new LinkedHashMap<String, Double>();
+            measurements.put("count", (double) getCount());
+            measurements.put("total", getTotalAmount());
+            measurements.put("max", getMax());
+            return measurements;
+        }
+    }
+
+    /**
+     * Reads a value, like the number of open sessions, whenever the meters are measured.
+     */
+    public static class Gauge implements Meter {
+
+        @Getter
+        private final Id id;
+        private final Supplier<Double> value;
+
+        Gauge(Id id, Supplier<Double> value) {
+            this.id = id;
+            this.value = value;
+        }
+
+        public double getValue() {
+            return value.get();
+        }
+
+        @Override
+        public String getType() {
+            return "gauge";
+        }
+
+        @Override
+        public Map<String, Double> measure() {
+            return Map.of("value", getValue());
+        }
+    }
+}
@@ -1,13 +1,25 @@
 package io.github.kgress.scaffold;
 
+import static io.github.kgress.scaffold.util.AutomationUtils.sleep;
+
 import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties;
+import io.github.kgress.scaffold.environment.metrics.ScaffoldMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.openqa.selenium.By;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
@@ -32,7 +44,90 @@ import org.openqa.selenium.support.ui.WebDriverWait;
 @Getter
 public class AutomationWait {
 
-    private final static String CLASS_ATTRIBUTE = "class";
+    /**
+     * The time given to the driver on top of an in browser wait's own deadline, so the script can always report
+     * what it found before the driver gives up on it.
+     */
+    private final static long SCRIPT_TIMEOUT_BUFFER_IN_MILLIS = 5000L;
+
+    /**
+     * How long the network must be quiet for {@link #waitUntilNetworkIdle()}.
+     */
+    private final static Duration DEFAULT_NETWORK_QUIET_PERIOD = Duration.ofMillis(500);
+
+    /**
+     * Waits inside the browser until the document is complete and the DOM hasn't changed for {@code arguments[0]}
+     * milliseconds, or until {@code arguments[1]} milliseconds have passed. Resolves with whether the DOM was stable.
+     */
+    private final static String DOM_STABLE_SCRIPT = ""
+            + "var callback = arguments[arguments.length - 1];"
+            + "var quietPeriod = arguments[0];"
+            + "var deadline = Date.now() + arguments[1];"
+            + "var lastChange = Date.now();"
+            + "var observer = new MutationObserver(function () {"
+            + "  lastChange = Date.now();"
+            + "});"
+            + "observer.observe(document, {childList: true, subtree: true, attributes: true, characterData: true});"
+            + "var interval = setInterval(check, 50);"
+            + "function check() {"
+            + "  var now = Date.now();"
+            + "  var stable = document.readyState === 'complete' && now - lastChange >= quietPeriod;"
+            + "  if (stable || now >= deadline) {"
+            + "    observer.disconnect();"
+            + "    clearInterval(interval);"
+            + "    callback({stable: stable});"
+            + "  }"
+            + "}";
+
+    /**
+     * How often a combined wait checks its conditions, the same as {@link WebDriverWait}'s default.
+     */
+    private final static long COMPOSITE_POLL_INTERVAL_IN_MILLIS = 500L;
+
+    /**
+     * Waits inside the browser until the document is complete and every locator in {@code arguments[0]} finds a
+     * displayed element, or until {@code arguments[1]} milliseconds have passed. The page is checked whenever the DOM
+     * changes and every 100 milliseconds, and the indexes of the locators that are still missing are returned.
+     */
+    private final static String ALL_DISPLAYED_SCRIPT = ""
+            + "var callback = arguments[arguments.length - 1];"
+            + "var locators = arguments[0];"
+            + "var deadline = Date.now() + arguments[1];"
+            + ScriptLocator.FIND_ELEMENT_FUNCTION
+            + ScriptLocator.IS_DISPLAYED_FUNCTION
+            + "function findMissing() {"
+            + "  var missing = [];"
+            + "  locators.forEach(function (locator, index) {"
+            + "    try {"
+            + "      var context = locator.parent ? findElement(locator.parent, document) : document;"
+            + "      var element = context ? findElement(locator.element, context) : null;"
+            + "      if (!element || !isDisplayed(element)) {"
+            + "        missing.push(index);"
+            + "      }"
+            + "    } catch (e) {"
+            + "      missing.push(index);"
+            + "    }"
+            + "  });"
+            + "  return missing;"
+            + "}"
+            + "var done = false;"
+            + "var observer = new MutationObserver(check);"
+            + "var interval = setInterval(check, 100);"
+            + "function check() {"
+            + "  if (done) {"
+            + "    return;"
+            + "  }"
+            + "  var ready = document.readyState === 'complete';"
+            + "  var missing = ready ? findMissing() : null;"
+            + "  if ((missing && missing.length === 0) || Date.now() >= deadline) {"
+            + "    done = true;"
+            + "    observer.disconnect();"
+            + "    clearInterval(interval);"
+            + "    callback({ready: ready, missing: missing || findMissing()});"
+            + "  }"
+            + "}"
+            + "observer.observe(document, {childList: true, subtree: true, attributes: true});"
+            + "check();";
 
     @Getter
     private final WebDriverWrapper webDriverWrapper;
@@ -44,6 +139,14 @@ public class AutomationWait {
     @Setter
     private Long timeoutInSeconds;
 
+    /**
+     * The registry this wait's timings and timeouts are recorded in, which is always the global registry outside of
+     * unit tests.
+     */
+    @Getter(AccessLevel.PRIVATE)
+    @Setter(AccessLevel.PROTECTED)
+    private ScaffoldMeterRegistry meterRegistry = ScaffoldMeterRegistry.getGlobalRegistry();
+
     /**
      *
      * @param webDriverWrapper  the {@link WebDriverWrapper} this automation wait is being assigned to
@@ -76,6 +179,20 @@ public class AutomationWait {
      * @return                      the custom wait condition as the Type Reference T
      */
     public <T> T waitForCustomCondition(ExpectedCondition<T> expectedCondition, Long setTempTimeout) {
+        return ScaffoldMeters.recordWait(getMeterRegistry(), "condition",
+                () -> untilCondition(expectedCondition, setTempTimeout));
+    }
+
+    /**
+     * Waits for a custom condition without recording the wait, for waits that are already recorded as another kind.
+     *
+     * @param expectedCondition     the expected condition to wait for
+     * @param setTempTimeout        an option to temporarily set the timeout to a value other than what's set
+     *                              in the spring profile
+     * @param <T>                   the type reference
+     * @return                      the custom wait condition as the Type Reference T
+     */
+    private <T> T untilCondition(ExpectedCondition<T> expectedCondition, Long setTempTimeout) {
         T customCondition;
         var previousTimeout = getTimeoutInSeconds();
 
@@ -127,7 +244,7 @@ public class AutomationWait {
      * @return                      as {@link Boolean}
      */
     public Boolean waitForTextToContain(BaseWebElement element, String text, Long setTempTimeout) {
-        return waitForCustomCondition(input -> element.getText().contains(text), setTempTimeout);
+        return waitFor(WaitCondition.textContains(element, text), setTempTimeout);
     }
 
     /**
@@ -150,7 +267,7 @@ public class AutomationWait {
      * @return                      as {@link Boolean}
      */
     public Boolean waitUntilElementIsEnabled(BaseWebElement element, Long setTempTimeout) {
-        return waitForCustomCondition(input -> element.isEnabled(), setTempTimeout);
+        return waitFor(WaitCondition.enabled(element), setTempTimeout);
     }
 
     /**
@@ -174,9 +291,7 @@ public class AutomationWait {
      * @return                      as {@link Boolean}
      */
     public Boolean waitForElementToHaveClass(BaseWebElement element, String className, Long setTempTimeout) {
-        return waitForCustomCondition(ExpectedConditions.attributeContains(
-                element.getRawWebElement(), CLASS_ATTRIBUTE, className), setTempTimeout
-        );
+        return waitFor(WaitCondition.hasClass(element, className), setTempTimeout);
     }
 
     /**
@@ -202,9 +317,7 @@ public class AutomationWait {
      * @return                      as {@link Boolean}
      */
     public Boolean waitForElementToNotHaveClass(BaseWebElement element, String className, Long setTempTimeout) {
-        return waitForCustomCondition(ExpectedConditions.not(
-                        ExpectedConditions.attributeContains(element.getRawWebElement(), CLASS_ATTRIBUTE, className)
-                ), setTempTimeout);
+        return waitFor(WaitCondition.notHasClass(element, className), setTempTimeout);
     }
 
     /**
@@ -233,12 +346,7 @@ public class AutomationWait {
      * @return                      as {@link Boolean}
      */
     public Boolean waitUntilPageIsLoaded(Long setTempTimeout) {
-        var domReadyStateScript = "return document.readyState";
-        return waitForCustomCondition(page -> getWebDriverWrapper()
-                .getJavascriptExecutor()
-                .executeScript(domReadyStateScript)
-                .equals("complete"),
-                setTempTimeout);
+        return waitFor(WaitCondition.pageLoaded(this), setTempTimeout);
     }
 
     /**
@@ -256,6 +364,118 @@ public class AutomationWait {
         return waitUntilPageIsLoaded(null);
     }
 
+    /**
+     * Waits until the page's network has gone quiet: the DOM is complete, no more than {@code maxInflight} fetch or
+     * XHR requests are in flight, and nothing has loaded for the length of the quiet period. Unlike
+     * {@link #waitUntilPageIsLoaded(Long)}, this also works for single page applications that keep loading data after
+     * the document is complete, without adding sleeps.
+     *
+     * The wait runs inside the browser with a single asynchronous script, which tracks requests by wrapping the page's
+     * {@code fetch} and {@code XMLHttpRequest}. If the tracker isn't on the page yet, it's installed when this is
+     * called, so requests that were already in flight at that moment can't be counted. Their responses still count as
+     * activity, which restarts the quiet period. Call {@link #installNetworkTracker()} before the action that starts
+     * the requests to count them all.
+     *
+     * @param quietPeriod           how long the network must be quiet for
+     * @param maxInflight           the number of requests that may still be in flight, for pages that keep a long
+     *                              polling or streaming request open
+     * @param setTempTimeout        an option to temporarily set the timeout to a value other than what's set
+     *                              in the spring profile
+     * @return                      as {@link Boolean}
+     * @throws TimeoutException     if the network didn't go idle within the timeout
+     */
+    public Boolean waitUntilNetworkIdle(Duration quietPeriod, int maxInflight, Long setTempTimeout) {
+        return ScaffoldMeters.recordWait(getMeterRegistry(), "network-idle", () -> {
+            var timeoutInSeconds = setTempTimeout != null ? setTempTimeout : getTimeoutInSeconds();
+            var result = (Map<?, ?>) executeAsyncWait(NetworkIdleScript.WAIT_SCRIPT,
+                    Map.of("quietPeriod", quietPeriod.toMillis(), "maxInflight", maxInflight),
+                    timeoutInSeconds * 1000L);
+            if (!Boolean.TRUE.equals(result.get("idle"))) {
+                throw new TimeoutException(String.format("Expected condition failed: waiting for the network to be " +
+                        "idle for %sms (tried for %s second(s), %s request(s) still in flight)",
+                        quietPeriod.toMillis(), timeoutInSeconds, result.get("inflight")));
+            }
+            return true;
+        });
+    }
+
+    /**
+     * Installs the network tracker used by {@link #waitUntilNetworkIdle(Duration, int, Long)} into the current page,
+     * if it isn't there yet. Requests started after this are counted as in flight until they finish, so call it before
+     * the action that starts them, like a click. A new document starts without the tracker, so it has to be installed
+     * again after navigating.
+     */
+    public void installNetworkTracker() {
+        getWebDriverWrapper().getJavascriptExecutor().executeScript(NetworkIdleScript.INSTALL_SCRIPT);
+    }
+
+    /**
+     * Waits until the page's network has gone quiet. Does not set a temp wait time.
+     *
+     * @param quietPeriod           how long the network must be quiet for
+     * @param maxInflight           the number of requests that may still be in flight
+     * @return                      as {@link Boolean}
+     * @see #waitUntilNetworkIdle(Duration, int, Long)
+     */
+    public Boolean waitUntilNetworkIdle(Duration quietPeriod, int maxInflight) {
+        return waitUntilNetworkIdle(quietPeriod, maxInflight, null);
+    }
+
+    /**
+     * Waits until the DOM has stopped changing: the document is complete and nothing has been added, removed, or
+     * changed for the length of the quiet period. Useful after interactions that re-render part of a page without any
+     * network requests. The wait runs inside the browser with a single asynchronous script.
+     *
+     * @param quietPeriod           how long the DOM must go without changes
+     * @param setTempTimeout        an option to temporarily set the timeout to a value other than what's set
+     *                              in the spring profile
+     * @return                      as {@link Boolean}
+     * @throws TimeoutException     if the DOM didn't stop changing within the timeout
+     */
+    public Boolean waitUntilDomIsStable(Duration quietPeriod, Long setTempTimeout) {
+        return ScaffoldMeters.recordWait(getMeterRegistry(), "dom-stable", () -> {
+            var timeoutInSeconds = setTempTimeout != null ? setTempTimeout : getTimeoutInSeconds();
+            var result = (Map<?, ?>) executeAsyncWait(DOM_STABLE_SCRIPT, quietPeriod.toMillis(),
+                    timeoutInSeconds * 1000L);
+            if (!Boolean.TRUE.equals(result.get("stable"))) {
+                throw new TimeoutException(String.format("Expected condition failed: waiting for the DOM to be " +
+                        "stable for %sms (tried for %s second(s))", quietPeriod.toMillis(), timeoutInSeconds));
+            }
+            return true;
+        });
+    }
+
+    /**
+     * Waits until the DOM has stopped changing. Does not set a temp wait time.
+     *
+     * @param quietPeriod           how long the DOM must go without changes
+     * @return                      as {@link Boolean}
+     * @see #waitUntilDomIsStable(Duration, Long)
+     */
+    public Boolean waitUntilDomIsStable(Duration quietPeriod) {
+        return waitUntilDomIsStable(quietPeriod, null);
+    }
+
+    /**
+     * Sets the {@link SettleStrategy} used after clicks on the page that was just verified. Called by
+     * {@link BasePage#verifyIsOnPage(BaseWebElement...)}, since pages don't have access to the web driver.
+     *
+     * @param settleStrategy        the page's strategy, or null to use the strategy from the spring profile
+     */
+    public void setPageSettleStrategy(SettleStrategy settleStrategy) {
+        getWebDriverWrapper().setPageSettleStrategy(settleStrategy);
+    }
+
+    /**
+     * Waits until the page has had no requests in flight for half a second. Does not set a temp wait time.
+     *
+     * @return                      as {@link Boolean}
+     * @see #waitUntilNetworkIdle(Duration, int, Long)
+     */
+    public Boolean waitUntilNetworkIdle() {
+        return waitUntilNetworkIdle(DEFAULT_NETWORK_QUIET_PERIOD, 0, null);
+    }
+
     /**
      * An extension to the pre canned {@link ExpectedConditions#visibilityOfElementLocated(By)} method. Waits for an
      * element to be displayed prior to interacting with it.
@@ -266,8 +486,7 @@ public class AutomationWait {
      * @return                      as a {@link WebElement}
      */
     public WebElement waitUntilDisplayed(BaseWebElement element, Long setTempTimeout) {
-        return getWebDriverWrapper().getAutomationWait().waitForCustomCondition(
-                ExpectedConditions.visibilityOfElementLocated(element.getBy()), setTempTimeout);
+        return waitFor(WaitCondition.displayed(element), setTempTimeout);
     }
 
     /**
@@ -281,6 +500,417 @@ public class AutomationWait {
         return waitUntilDisplayed(element, null);
     }
 
+    /**
+     * Waits for the page to load and for every element to be displayed, checking all of them inside the browser with a
+     * single asynchronous script instead of waiting on each element with its own WebDriver commands. The elements
+     * share one deadline, so a page with many missing elements fails after the timeout rather than after the timeout
+     * once per element.
+     *
+     * Elements with a locator the browser can't evaluate, like a {@link org.openqa.selenium.support.pagefactory.ByChained},
+     * are waited on with {@link #waitUntilDisplayed(BaseWebElement, Long)} once the script is finished, each for
+     * whatever time is left before the deadline. If the script can't run at all, every element is waited on that way
+     * after {@link #waitUntilPageIsLoaded(Long)}.
+     *
+     * @param elements              the elements we are waiting on
+     * @param setTempTimeout        an option to temporarily set the timeout to a value other than what's set
+     *                              in the spring profile
+     * @return                      the elements that still weren't displayed when the wait ended, as a {@link List}
+     * @throws TimeoutException     if the page didn't finish loading within the timeout
+     */
+    public List<BaseWebElement> waitUntilAllDisplayed(List<? extends BaseWebElement> elements, Long setTempTimeout) {
+        return ScaffoldMeters.recordWait(getMeterRegistry(), "all-displayed",
+                () -> findUndisplayed(elements, setTempTimeout));
+    }
+
+    /**
+     * Does the work of {@link #waitUntilAllDisplayed(List, Long)}.
+     *
+     * @param elements              the elements we are waiting on
+     * @param setTempTimeout        an option to temporarily set the timeout to a value other than what's set
+     *                              in the spring profile
+     * @return                      the elements that still weren't displayed when the wait ended, as a {@link List}
+     */
+    private List<BaseWebElement> findUndisplayed(List<? extends BaseWebElement> elements, Long setTempTimeout) {
+        var timeoutInSeconds = setTempTimeout != null ? setTempTimeout : getTimeoutInSeconds();
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutInSeconds);
+        var scriptElements = new ArrayList<BaseWebElement>();
+        var scriptLocators = new ArrayList<Map<String, Object>>();
+        var remainingElements = new ArrayList<BaseWebElement>();
+        elements.forEach(element -> {
+            var scriptLocator = ScriptLocator.toScriptLocator(element);
+            if (scriptLocator != null) {
+                scriptElements.add(element);
+                scriptLocators.add(scriptLocator);
+            } else {
+                remainingElements.add(element);
+            }
+        });
+
+        var missingElements = new ArrayList<BaseWebElement>();
+        if (!scriptElements.isEmpty()) {
+            var timeoutInMillis = timeoutInSeconds * 1000L;
+            try {
+                var result = (Map<?, ?>) executeAsyncWait(ALL_DISPLAYED_SCRIPT, scriptLocators, timeoutInMillis);
+                if (!Boolean.TRUE.equals(result.get("ready"))) {
+                    throw new TimeoutException(String.format(
+                            "The page did not finish loading within %s milliseconds", timeoutInMillis));
+                }
+                ((List<?>) result.get("missing")).forEach(index ->
+                        missingElements.add(scriptElements.get(((Number) index).intValue())));
+            } catch (TimeoutException e) {
+                throw e;
+            } catch (WebDriverException | ClassCastException e) {
+                log.warn(String.format("Could not wait for elements in the browser, waiting on each element " +
+                        "instead: %s", e.getMessage()));
+                if (!waitUntilPageIsLoaded(getSecondsLeft(deadline))) {
+                    throw new TimeoutException("The page did not finish loading");
+                }
+                remainingElements.addAll(0, scriptElements);
+            }
+        }
+
+        remainingElements.forEach(element -> {
+            try {
+                waitUntilDisplayed(element, getSecondsLeft(deadline));
+            } catch (WebDriverException e) {
+                missingElements.add(element);
+            }
+        });
+        return missingElements;
+    }
+
+    /**
+     * @param deadline              the deadline as a {@link System#nanoTime()}
+     * @return                      the whole seconds left before the deadline, or 0 once it has passed
+     */
+    private long getSecondsLeft(long deadline) {
+        return Math.max(0L, TimeUnit.NANOSECONDS.toSeconds(deadline - System.nanoTime()));
+    }
+
+    /**
+     * Waits for the page to load and for every element to be displayed, checking all of them inside the browser with a
+     * single asynchronous script. Does not set a temp wait time.
+     *
+     * @param elements              the elements we are waiting on
+     * @return                      the elements that still weren't displayed when the wait ended, as a {@link List}
+     * @see #waitUntilAllDisplayed(List, Long)
+     */
+    public List<BaseWebElement> waitUntilAllDisplayed(List<? extends BaseWebElement> elements) {
+        return waitUntilAllDisplayed(elements, null);
+    }
+
+    /**
+     * Returns true when {@link BasePage#verifyIsOnPage(BaseWebElement...)} should verify its elements with
+     * {@link #waitUntilAllDisplayed(List)}, as set by
+     * {@link DesiredCapabilitiesConfigurationProperties.BrowserSideWait#isPageVerificationEnabled()}.
+     *
+     * @return                      as {@link Boolean}
+     */
+    public boolean isBrowserSidePageVerificationEnabled() {
+        return getWebDriverWrapper().getDesiredCapabilities().getBrowserSideWait().isPageVerificationEnabled();
+    }
+
+    /**
+     * Waits until every condition has been met, under one shared timeout rather than a timeout per condition. Each
+     * condition only has to be met once; it isn't checked again after that. On every poll, all of Scaffold's own
+     * conditions that are still pending are checked with a single script, and custom conditions are checked from the
+     * JVM.
+     *
+     * Example:
+     * <pre>{@code
+     *      var result = getAutomationWait().allOf(List.of(
+     *              WaitCondition.notDisplayed(getSpinner()),
+     *              WaitCondition.enabled(getSubmitButton())), 30L);
+     *      log.debug("Slowest: " + result.getSlowestCondition());
+     * }
+     * </pre>
+     *
+     * @param conditions            the conditions to wait for
+     * @param setTempTimeout        an option to temporarily set the timeout to a value other than what's set
+     *                              in the spring profile
+     * @return                      how long each condition took as a {@link CompositeWaitResult}
+     * @throws TimeoutException     if any condition wasn't met within the timeout
+     */
+    public CompositeWaitResult allOf(List<? extends WaitCondition<?>> conditions, Long setTempTimeout) {
+        return waitForComposite(CompositeMode.ALL_OF, conditions, setTempTimeout);
+    }
+
+    /**
+     * Waits until every condition has been met, under one shared timeout. Does not set a temp wait time.
+     *
+     * @param conditions            the conditions to wait for
+     * @return                      how long each condition took as a {@link CompositeWaitResult}
+     * @see #allOf(List, Long)
+     */
+    public CompositeWaitResult allOf(WaitCondition<?>... conditions) {
+        return allOf(List.of(conditions), null);
+    }
+
+    /**
+     * Waits until any one of the conditions is met. On every poll, all of Scaffold's own conditions are checked with a
+     * single script, and custom conditions are checked from the JVM.
+     *
+     * @param conditions            the conditions to wait for
+     * @param setTempTimeout        an option to temporarily set the timeout to a value other than what's set
+     *                              in the spring profile
+     * @return                      the condition that was met, and how long it took, as a {@link CompositeWaitResult}
+     * @throws TimeoutException     if none of the conditions were met within the timeout
+     */
+    public CompositeWaitResult anyOf(List<? extends WaitCondition<?>> conditions, Long setTempTimeout) {
+        return waitForComposite(CompositeMode.ANY_OF, conditions, setTempTimeout);
+    }
+
+    /**
+     * Waits until any one of the conditions is met. Does not set a temp wait time.
+     *
+     * @param conditions            the conditions to wait for
+     * @return                      the condition that was met, and how long it took, as a {@link CompositeWaitResult}
+     * @see #anyOf(List, Long)
+     */
+    public CompositeWaitResult anyOf(WaitCondition<?>... conditions) {
+        return anyOf(List.of(conditions), null);
+    }
+
+    /**
+     * Waits for each condition in order, under one shared timeout. A condition is only checked once the one before it
+     * has been met, and the time for each is measured from when the previous one was met.
+     *
+     * @param conditions            the conditions to wait for, in order
+     * @param setTempTimeout        an option to temporarily set the timeout to a value other than what's set
+     *                              in the spring profile
+     * @return                      how long each step took as a {@link CompositeWaitResult}
+     * @throws TimeoutException     if every condition wasn't met within the timeout
+     */
+    public CompositeWaitResult sequence(List<? extends WaitCondition<?>> conditions, Long setTempTimeout) {
+        return waitForComposite(CompositeMode.SEQUENCE, conditions, setTempTimeout);
+    }
+
+    /**
+     * Waits for each condition in order, under one shared timeout. Does not set a temp wait time.
+     *
+     * @param conditions            the conditions to wait for, in order
+     * @return                      how long each step took as a {@link CompositeWaitResult}
+     * @see #sequence(List, Long)
+     */
+    public CompositeWaitResult sequence(WaitCondition<?>... conditions) {
+        return sequence(List.of(conditions), null);
+    }
+
+    /**
+     * Polls a combined wait until it's finished or the shared deadline has passed.
+     *
+     * @param mode                  how the conditions are combined
+     * @param conditions            the conditions to wait for
+     * @param setTempTimeout        an option to temporarily set the timeout to a value other than what's set
+     *                              in the spring profile
+     * @return                      the {@link CompositeWaitResult}
+     */
+    private CompositeWaitResult waitForComposite(CompositeMode mode, List<? extends WaitCondition<?>> conditions,
+                                                 Long setTempTimeout) {
+        return ScaffoldMeters.recordWait(getMeterRegistry(), mode.getMetricName(),
+                () -> pollComposite(mode, conditions, setTempTimeout));
+    }
+
+    /**
+     * Does the work of {@link #waitForComposite(CompositeMode, List, Long)}.
+     *
+     * @param mode                  how the conditions are combined
+     * @param conditions            the conditions to wait for
+     * @param setTempTimeout        an option to temporarily set the timeout to a value other than what's set
+     *                              in the spring profile
+     * @return                      the {@link CompositeWaitResult}
+     */
+    private CompositeWaitResult pollComposite(CompositeMode mode, List<? extends WaitCondition<?>> conditions,
+                                              Long setTempTimeout) {
+        if (conditions.isEmpty()) {
+            throw new IllegalArgumentException("At least one condition is required to wait for");
+        }
+        var timeoutInSeconds = setTempTimeout != null ? setTempTimeout : getTimeoutInSeconds();
+        var start = System.nanoTime();
+        var deadline = start + TimeUnit.SECONDS.toNanos(timeoutInSeconds);
+        var metAt = new long[conditions.size()];
+        Arrays.fill(metAt, -1L);
+
+        while (true) {
+            var pending = new ArrayList<Integer>();
+            for (var index = 0; index < conditions.size(); index++) {
+                if (metAt[index] < 0) {
+                    pending.add(index);
+                    if (mode == CompositeMode.SEQUENCE) {
+                        break;
+                    }
+                }
+            }
+
+            var now = System.nanoTime();
+            evaluateConditions(conditions, pending).forEach(index -> metAt[index] = now);
+
+            var finished = mode == CompositeMode.ANY_OF
+                    ? Arrays.stream(metAt).anyMatch(time -> time >= 0)
+                    : Arrays.stream(metAt).allMatch(time -> time >= 0);
+            if (finished) {
+                var conditionResults = new ArrayList<CompositeWaitResult.ConditionResult>();
+                var startedAt = start;
+                for (var index = 0; index < conditions.size(); index++) {
+                    var elapsed = metAt[index] >= 0 ? Duration.ofNanos(metAt[index] - startedAt) : null;
+                    conditionResults.add(new CompositeWaitResult.ConditionResult(conditions.get(index), elapsed));
+                    if (mode == CompositeMode.SEQUENCE) {
+                        startedAt = metAt[index];
+                    }
+                }
+                return new CompositeWaitResult(conditionResults, Duration.ofNanos(System.nanoTime() - start));
+            }
+
+            if (System.nanoTime() >= deadline) {
+                var unmetConditions = new ArrayList<WaitCondition<?>>();
+                for (var index = 0; index < conditions.size(); index++) {
+                    if (metAt[index] < 0) {
+                        unmetConditions.add(conditions.get(index));
+                    }
+                }
+                throw new TimeoutException(String.format(
+                        "Expected condition failed: waiting for %s of %s (tried for %s second(s)). Not met: %s",
+                        mode.getDescription(), conditions, timeoutInSeconds, unmetConditions));
+            }
+            sleep(COMPOSITE_POLL_INTERVAL_IN_MILLIS);
+        }
+    }
+
+    /**
+     * Checks the pending conditions once. Scaffold's own conditions are checked together with a single script, and
+     * custom conditions, or any condition the browser can't evaluate, are checked from the JVM.
+     *
+     * @param conditions            every condition in the wait
+     * @param pending               the indexes of the conditions to check
+     * @return                      the indexes of the conditions that are met
+     */
+    private List<Integer> evaluateConditions(List<? extends WaitCondition<?>> conditions, List<Integer> pending) {
+        var metIndexes = new ArrayList<Integer>();
+        var scriptIndexes = new ArrayList<Integer>();
+        var scriptArguments = new ArrayList<Map<String, Object>>();
+        var jvmIndexes = new ArrayList<Integer>();
+        pending.forEach(index -> {
+            var browserCondition = conditions.get(index).getBrowserCondition();
+            var scriptArgument = browserCondition != null ? browserCondition.toScriptArgument() : null;
+            if (scriptArgument != null) {
+                scriptIndexes.add(index);
+                scriptArguments.add(scriptArgument);
+            } else {
+                jvmIndexes.add(index);
+            }
+        });
+
+        if (!scriptIndexes.isEmpty()) {
+            try {
+                var results = (List<?>) getWebDriverWrapper().getJavascriptExecutor()
+                        .executeScript(BrowserCondition.EVALUATE_ALL_SCRIPT, scriptArguments);
+                for (var position = 0; position < scriptIndexes.size(); position++) {
+                    if (Boolean.TRUE.equals(results.get(position))) {
+                        metIndexes.add(scriptIndexes.get(position));
+                    }
+                }
+            } catch (WebDriverException | ClassCastException e) {
+                log.debug(String.format("Could not check conditions in the browser, checking them from the JVM " +
+                        "instead: %s", e.getMessage()));
+                jvmIndexes.addAll(scriptIndexes);
+            }
+        }
+
+        jvmIndexes.forEach(index -> {
+            try {
+                var value = conditions.get(index).getPollingCondition()
+                        .apply(getWebDriverWrapper().getBaseWebDriver());
+                if (value != null && !Boolean.FALSE.equals(value)) {
+                    metIndexes.add(index);
+                }
+            } catch (NotFoundException | StaleElementReferenceException e) {
+                // Not met yet, the same as WebDriverWait ignoring these while it polls
+            }
+        });
+        return metIndexes;
+    }
+
+    /**
+     * Waits for one of the built in conditions. When browser side conditions are enabled, the condition is evaluated
+     * by a single asynchronous script that's triggered by DOM changes and animation frames, rather than being polled
+     * from the JVM every half second with a round trip per poll. Otherwise, or when the condition's element has a
+     * locator the browser can't evaluate, or the script can't run, the JVM condition is polled as usual.
+     *
+     * Custom conditions passed to {@link #waitForCustomCondition(ExpectedCondition, Long)} are always polled from the
+     * JVM, since there's no way to send a lambda to the browser.
+     *
+     * @param condition             the condition to wait for
+     * @param setTempTimeout        an option to temporarily set the timeout to a value other than what's set
+     *                              in the spring profile
+     * @param <T>                   the type reference
+     * @return                      the value of the condition as the Type Reference T
+     */
+    private <T> T waitFor(WaitCondition<T> condition, Long setTempTimeout) {
+        var browserCondition = condition.getBrowserCondition();
+        return ScaffoldMeters.recordWait(getMeterRegistry(), browserCondition.getMetricName(), () -> {
+            var scriptArgument = getWebDriverWrapper().isBrowserSideConditionsEnabled()
+                    ? browserCondition.toScriptArgument()
+                    : null;
+            if (scriptArgument == null) {
+                return waitForCustomCondition(condition.getJvmCondition(), setTempTimeout);
+            }
+            return waitInBrowser(condition, scriptArgument, setTempTimeout);
+        });
+    }
+
+    /**
+     * Waits for a condition inside the browser with a single asynchronous script, falling back to polling from the
+     * JVM if the script can't run.
+     *
+     * @param condition             the condition to wait for
+     * @param scriptArgument        the condition as the script's argument
+     * @param setTempTimeout        an option to temporarily set the timeout to a value other than what's set
+     *                              in the spring profile
+     * @param <T>                   the type reference
+     * @return                      the value of the condition as the Type Reference T
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T waitInBrowser(WaitCondition<T> condition, Object scriptArgument, Long setTempTimeout) {
+        var browserCondition = condition.getBrowserCondition();
+        var timeoutInSeconds = setTempTimeout != null ? setTempTimeout : getTimeoutInSeconds();
+        Map<?, ?> result;
+        try {
+            result = (Map<?, ?>) executeAsyncWait(BrowserCondition.CONDITION_SCRIPT, scriptArgument,
+                    timeoutInSeconds * 1000L);
+        } catch (TimeoutException e) {
+            throw e;
+        } catch (WebDriverException | ClassCastException e) {
+            log.warn(String.format("Could not wait for %s in the browser, waiting from the JVM instead: %s",
+                    browserCondition, e.getMessage()));
+            return untilCondition(condition.getJvmCondition(), setTempTimeout);
+        }
+
+        if (result.containsKey("error")) {
+            throw new WebDriverException(String.format("Could not wait for %s in the browser: %s",
+                    browserCondition, result.get("error")));
+        }
+        if (!Boolean.TRUE.equals(result.get("satisfied"))) {
+            throw new TimeoutException(String.format(
+                    "Expected condition failed: waiting for %s (tried for %s second(s) in the browser)",
+                    browserCondition, timeoutInSeconds));
+        }
+        return (T) result.get("value");
+    }
+
+    /**
+     * Runs an asynchronous wait script, making sure the driver allows it to run past the script's own deadline so
+     * the script can always report what it found.
+     *
+     * @param script                the script to run
+     * @param argument              the script's first argument
+     * @param timeoutInMillis       the script's deadline, passed as its second argument
+     * @return                      the value the script resolved with
+     */
+    private Object executeAsyncWait(String script, Object argument, long timeoutInMillis) {
+        getWebDriverWrapper().ensureScriptTimeout(timeoutInMillis + SCRIPT_TIMEOUT_BUFFER_IN_MILLIS);
+        return getWebDriverWrapper().getJavascriptExecutor().executeAsyncScript(script, argument, timeoutInMillis);
+    }
+
     /**
      * Creates a new {@link WebDriverWait} using the defined timeout in seconds
      *
@@ -293,4 +923,24 @@ public class AutomationWait {
         }
         return waits.get(timeoutInSeconds);
     }
+
+    /**
+     * The ways conditions can be combined in a single wait.
+     */
+    private enum CompositeMode {
+        ALL_OF("all", "all-of"),
+        ANY_OF("any", "any-of"),
+        SEQUENCE("each in order", "sequence");
+
+        @Getter
+        private final String description;
+
+        @Getter
+        private final String metricName;
+
+        CompositeMode(String description, String metricName) {
+            this.description = description;
+            this.metricName = metricName;
+        }
+    }
 }
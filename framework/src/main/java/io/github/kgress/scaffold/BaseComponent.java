@@ -1,15 +1,23 @@
 package io.github.kgress.scaffold;
 
 import io.github.kgress.scaffold.exception.ComponentException;
+import io.github.kgress.scaffold.exception.ElementFactoryException;
 import io.github.kgress.scaffold.exception.WebDriverWrapperException;
 import io.github.kgress.scaffold.util.AutomationUtils;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.AbstractList;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
@@ -76,6 +84,18 @@ import org.openqa.selenium.interactions.Actions;
 @Slf4j
 public class BaseComponent {
 
+  /**
+   * The reflective information needed to build a component of a given class, looked up once per
+   * class.
+   */
+  private static final ClassValue<ComponentMetadata> COMPONENT_METADATA = new ClassValue<>() {
+    @Override
+    protected ComponentMetadata computeValue(Class<?> componentClass) {
+      return new ComponentMetadata(componentClass);
+    }
+  };
+
+
   /**
    * Builds a list of a {@link BaseComponent}'s using an already found list of elements from a
    * web page by converting the {@link BaseComponent}'s fields to accessible and then mapping a
@@ -201,151 +221,100 @@ public class BaseComponent {
    * }
    * </pre>
    *
-   * @param listOfElements the list of elements to iterate through and convert to components
-   * @param component      the {@link BaseComponent} class of the component we are converting the
-   *                       list of elements to
-   * @param <T>            the type reference for the components must extend {@link BaseComponent}
-   * @param <X>            the type reference for the elements we're iterating through must extend
-   *                       {@link BaseWebElement}
-   * @return as a new list of components that extend {@link BaseComponent}
+   * Components are built lazily. The locators are validated up front, but each component is only
+   * created the first time its index is read from the returned list, and the same instance is
+   * returned from then on. Tests that only look at the first few components of a long list don't
+   * pay for building the rest. Because of that, a component that can't be built throws its
+   * {@link ComponentException} from {@link List#get(int)} rather than from this method. The list can
+   * still be sorted, added to or set, which builds every component the first time it's changed.
+   * See {@link #streamComponents(List, Class, Integer)} for a stream of the same components.
+   *
+   * @param listOfElements  the list of elements to iterate through and convert to components
+   * @param component       the {@link BaseComponent} class of the component we are converting the
+   *                        list of elements to
+   * @param indexCorrection the number of elements in the container before the first component, or
+   *                        null if there are none
+   * @param <T>             the type reference for the components must extend {@link BaseComponent}
+   * @param <X>             the type reference for the elements we're iterating through must extend
+   *                        {@link BaseWebElement}
+   * @return as a new, modifiable list of components that extend {@link BaseComponent}, each built
+   *         the first time it's read
    */
   protected <T extends BaseComponent, X extends BaseWebElement> List<T> buildComponentList(
       List<X> listOfElements, Class<T> component, Integer indexCorrection) {
-    // Create a new list of an object that extends BaseComponent
-    var listOfComponents = new ArrayList<T>();
+    var componentFactory = createComponentFactory(listOfElements, component, indexCorrection);
+    return new LazyComponentList<>(listOfElements.size(), componentFactory);
+  }
+
+  /**
+   * Builds the same components as {@link #buildComponentList(List, Class, Integer)}, but as a
+   * {@link Stream}. Each component is only created when the stream reaches it, so something like
+   * {@code streamComponents(...).filter(...).findFirst()} stops building components as soon as it
+   * finds a match.
+   *
+   * @param listOfElements  the list of elements to iterate through and convert to components
+   * @param component       the {@link BaseComponent} class of the component we are converting the
+   *                        list of elements to
+   * @param indexCorrection the number of elements in the container before the first component, or
+   *                        null if there are none
+   * @param <T>             the type reference for the components must extend {@link BaseComponent}
+   * @param <X>             the type reference for the elements we're iterating through must extend
+   *                        {@link BaseWebElement}
+   * @return as a {@link Stream} of components that extend {@link BaseComponent}
+   */
+  protected <T extends BaseComponent, X extends BaseWebElement> Stream<T> streamComponents(
+      List<X> listOfElements, Class<T> component, Integer indexCorrection) {
+    var componentFactory = createComponentFactory(listOfElements, component, indexCorrection);
+    return IntStream.range(0, listOfElements.size()).mapToObj(componentFactory);
+  }
 
+  /**
+   * Validates the list of elements and returns a function that builds the component for an index.
+   *
+   * @param listOfElements  the list of elements to convert to components
+   * @param component       the {@link BaseComponent} class of the component
+   * @param indexCorrection the number of elements in the container before the first component
+   * @param <T>             the type reference for the components must extend {@link BaseComponent}
+   * @param <X>             the type reference for the elements must extend {@link BaseWebElement}
+   * @return the function that builds the component at an index
+   */
+  private <T extends BaseComponent, X extends BaseWebElement> IntFunction<T> createComponentFactory(
+      List<X> listOfElements, Class<T> component, Integer indexCorrection) {
     /*
      Default an added index correction to 0. Index correction is helpful where there are
      elements in the list container that exist prior to the components starting. This value
-     corrects the nth-child value later on.
+     corrects the nth-child value later on. Because the element list starts at 0, we
+     need to add 1 in order to adhere to correct CSS usage.
      */
-    var possibleIndexCorrection = Optional.ofNullable(indexCorrection)
-            .orElse(0);
+    var adjustedCorrection = 1 + Optional.ofNullable(indexCorrection).orElse(0);
 
     /*
-     Iterate through the listOfElements and create a new instance of the component, type T, to
-     add to the listOfComponents that will be returned to the caller.
+     Check to make sure the By locators for every element and its parent are a type of CSS
+     selector, where type is anything other than XPATH. This happens before any components are
+     built so a bad list fails right away instead of part way through.
      */
-    IntStream.range(0, listOfElements.size())
-        .forEach(index -> {
-          try {
-            /*
-             Get the CSS selector for the element in the list. This selector will become the new
-             parent locator.
-             */
-            var elementBy = listOfElements.get(index).getBy();
-
-            /*
-            Check to see if the parentBy actually exists in this case. If there are any elements
-            that have been constructed with a parent in mind, we want to make sure this parent
-            isn't a xpath locator, along with the current elementBy.
-             */
-            var elementParentBy = listOfElements.get(index).getParentBy();
-
-            /*
-             Check to make sure the By locator for the parent is a type of CSS selector, where
-             type is anything other than XPATH. Then, get the underlying locator as string.
-             */
-            if (elementBy instanceof By.ByXPath || elementParentBy instanceof By.ByXPath) {
-              throw new ComponentException("Scaffold currently cannot build component lists using "
-                  + "XPATH. Please use By locators that are a type of Css selector.");
-            }
-            var underlyingSelector = AutomationUtils.getUnderlyingLocatorByString(elementBy);
-
-            /*
-             Create a new locator that combines the parent (the underlyingLocator) and
-             an :nth-child using the index. Because the element list starts at 0, we
-             need to add 1 in order to adhere to correct CSS usage.
-             */
-            final var finalAdjustedCorrection = 1 + possibleIndexCorrection;
-            var fullNewSelector = String.format("%s:nth-child(%s)", underlyingSelector,
-                index + finalAdjustedCorrection);
-
-            /*
-             Create a new instance of the component passed in by the caller. The class
-             extending off of BaseComponent should not have a non-empty constructor, otherwise
-             this new instance will fail to init.
-             */
-            var componentInstance = component.getConstructor().newInstance();
-
-            /*
-             Iterate through the list of fields on the new instance of the component.
-             We should only convert strong typed Scaffold elements but allow for
-             additional fields, such as Strings (e.g. if Strings are being used as
-             locators).
-             */
-            convertFieldsWithNewLocator(componentInstance, fullNewSelector);
-
-            /*
-             After the fields have been converted on the new instance of the component,
-             add it to the list that we will return to the caller.
-             */
-            listOfComponents.add(componentInstance);
-          } catch (InstantiationException | IllegalAccessException | InvocationTargetException |
-              NoSuchMethodException e) {
-            throw new ComponentException(e);
-          }
-        });
-    return listOfComponents;
-  }
-
-  /**
-   * Converts {@link Field}'s from a class that extends off of {@link BaseComponent} from an
-   * "inaccessible" state to "accessible." We will only convert Scaffold elements. Access is still
-   * technically modified for every field, but always set back to private. Afterwards, combines
-   * the parent and child together.
-   *
-   * @param componentInstance  the instance of the {@link BaseComponent}
-   * @param fullParentSelector the parent selector being used as the prefix
-   * @param <T>                the type reference of {@link BaseComponent}
-   */
-  private <T extends BaseComponent> void convertFieldsWithNewLocator(T componentInstance,
-      String fullParentSelector) {
-    var classFields = componentInstance.getClass().getDeclaredFields();
-
-    Arrays.stream(classFields).forEach(field -> {
-      try {
-        field.setAccessible(true);
-        if (field.get(componentInstance) instanceof BaseWebElement) {
-          convertField(componentInstance, (BaseWebElement) field.get(componentInstance), field,
-              fullParentSelector);
-        } else {
-          log.debug(String.format(
-              "Scaffold detected the field [%s] during component list building that "
-              + "is not a defined as a strongly typed element. Skipping conversion of field.",
-              field));
-        }
-        field.setAccessible(false);
-      } catch (InvocationTargetException | IllegalAccessException | NoSuchMethodException |
-          InstantiationException e) {
-        throw new ComponentException(e);
+    listOfElements.forEach(element -> {
+      if (element.getBy() instanceof By.ByXPath || element.getParentBy() instanceof By.ByXPath) {
+        throw new ComponentException("Scaffold currently cannot build component lists using "
+            + "XPATH. Please use By locators that are a type of Css selector.");
       }
     });
-  }
 
-  /**
-   * Converts a {@link Field}'s {@link By} locator from a {@link BaseComponent} class. Takes a full
-   * parent selector and converted element to combine it into a fully qualified parent + child
-   * {@link By} locator.
-   *
-   * @param componentInstance  the instance of the {@link BaseComponent}
-   * @param convertedElement   the converted {@link BaseWebElement}
-   * @param field              the {@link Field} we are converting
-   * @param fullParentSelector the fully qualified parent selector
-   * @param <T>                the type reference {@link BaseComponent}
-   * @param <X>                the type referece {@link BaseWebElement}
-   */
-  private <T extends BaseComponent, X extends BaseWebElement> void convertField(T componentInstance,
-      X convertedElement, Field field, String fullParentSelector)
-      throws IllegalAccessException, NoSuchMethodException, InvocationTargetException,
-      InstantiationException {
-    var convertedElementUnderlyingLocator = AutomationUtils.getUnderlyingLocatorByString(
-        convertedElement.getBy());
-    var newByLocator = By.cssSelector(
-        String.format("%s %s", fullParentSelector, convertedElementUnderlyingLocator));
-    var constructor = convertedElement.getClass().getConstructor(By.class);
-    var newElement = constructor.newInstance(newByLocator);
-    field.set(componentInstance, newElement);
+    /*
+     The constructor and element fields of the component class are only looked up once and reused
+     for every component of that class.
+     */
+    var metadata = COMPONENT_METADATA.get(component);
+    return index -> {
+      /*
+       Create a new locator that combines the parent (the underlying locator of the element in
+       the list) and an :nth-child using the index.
+       */
+      var underlyingSelector = AutomationUtils.getUnderlyingLocatorByString(
+          listOfElements.get(index).getBy());
+      var fullNewSelector = underlyingSelector + ":nth-child(" + (index + adjustedCorrection) + ")";
+      return component.cast(metadata.newInstance(fullNewSelector));
+    };
   }
 
   /**
@@ -391,4 +360,162 @@ public class BaseComponent {
       throw new WebDriverWrapperException("Could not find a web driver wrapper for the current thread.");
     }
   }
+
+  /**
+   * The no argument constructor of a component class, along with the fields that can hold a
+   * Scaffold element. The fields are made accessible once when the metadata is created, rather
+   * than every time a component is built.
+   */
+  private static class ComponentMetadata {
+
+    private final MethodHandle constructor;
+    private final List<Field> elementFields = new ArrayList<>();
+
+    private ComponentMetadata(Class<?> componentClass) {
+      try {
+        this.constructor = MethodHandles.lookup()
+            .unreflectConstructor(componentClass.getConstructor())
+            .asType(MethodType.methodType(BaseComponent.class));
+      } catch (NoSuchMethodException | IllegalAccessException e) {
+        throw new ComponentException(e);
+      }
+
+      /*
+       We should only convert strong typed Scaffold elements but allow for additional fields,
+       such as Strings (e.g. if Strings are being used as locators). A field can only hold an
+       element if its type is a BaseWebElement or a supertype of one, like Object.
+       */
+      for (var field : componentClass.getDeclaredFields()) {
+        var fieldType = field.getType();
+        if (Modifier.isStatic(field.getModifiers())
+            || !(BaseWebElement.class.isAssignableFrom(fieldType)
+            || fieldType.isAssignableFrom(BaseWebElement.class))) {
+          log.debug(String.format(
+              "Scaffold detected the field [%s] during component list building that "
+                  + "is not a defined as a strongly typed element. Skipping conversion of field.",
+              field));
+          continue;
+        }
+        field.setAccessible(true);
+        elementFields.add(field);
+      }
+    }
+
+    /**
+     * Creates a new instance of the component and re-locates each of its elements under the
+     * component's selector.
+     *
+     * @param fullParentSelector the selector of the component, used as the prefix of every element
+     * @return the new component
+     */
+    private BaseComponent newInstance(String fullParentSelector) {
+      BaseComponent componentInstance;
+      try {
+        componentInstance = (BaseComponent) constructor.invokeExact();
+      } catch (RuntimeException e) {
+        throw e;
+      } catch (Throwable e) {
+        throw new ComponentException(e);
+      }
+
+      for (var field : elementFields) {
+        try {
+          var value = field.get(componentInstance);
+          if (value instanceof BaseWebElement) {
+            convertField(componentInstance, (BaseWebElement) value, field, fullParentSelector);
+          }
+        } catch (IllegalAccessException | ElementFactoryException e) {
+          throw new ComponentException(e);
+        }
+      }
+      return componentInstance;
+    }
+
+    /**
+     * Converts a {@link Field}'s {@link By} locator from a {@link BaseComponent} class. Takes a
+     * full parent selector and converted element to combine it into a fully qualified parent +
+     * child {@link By} locator.
+     *
+     * @param componentInstance  the instance of the {@link BaseComponent}
+     * @param convertedElement   the converted {@link BaseWebElement}
+     * @param field              the {@link Field} we are converting
+     * @param fullParentSelector the fully qualified parent selector
+     */
+    private void convertField(BaseComponent componentInstance, BaseWebElement convertedElement,
+        Field field, String fullParentSelector) throws IllegalAccessException {
+      var convertedElementUnderlyingLocator = AutomationUtils.getUnderlyingLocatorByString(
+          convertedElement.getBy());
+      var newByLocator = By.cssSelector(fullParentSelector + " " + convertedElementUnderlyingLocator);
+      var newElement = ElementFactory.create(convertedElement.getClass(), newByLocator);
+      field.set(componentInstance, newElement);
+    }
+  }
+
+  /**
+   * A list that builds each component the first time it's read. The first time the list is
+   * changed, every component is built and copied into an {@link ArrayList} that backs the list
+   * from then on, so callers can still sort, add to or set it like the list that used to be
+   * returned.
+   *
+   * @param <T> the type of component in the list
+   */
+  private static class LazyComponentList<T extends BaseComponent> extends AbstractList<T>
+      implements RandomAccess {
+
+    private final AtomicReferenceArray<T> components;
+    private final IntFunction<T> componentFactory;
+    private List<T> copy;
+
+    private LazyComponentList(int size, IntFunction<T> componentFactory) {
+      this.components = new AtomicReferenceArray<>(size);
+      this.componentFactory = componentFactory;
+    }
+
+    @Override
+    public T get(int index) {
+      if (copy != null) {
+        return copy.get(index);
+      }
+      var component = components.get(index);
+      if (component == null) {
+        components.compareAndSet(index, null, componentFactory.apply(index));
+        component = components.get(index);
+      }
+      return component;
+    }
+
+    @Override
+    public int size() {
+      return copy != null ? copy.size() : components.length();
+    }
+
+    @Override
+    public T set(int index, T element) {
+      return getCopy().set(index, element);
+    }
+
+    @Override
+    public void add(int index, T element) {
+      getCopy().add(index, element);
+      modCount++;
+    }
+
+    @Override
+    public T remove(int index) {
+      var removed = getCopy().remove(index);
+      modCount++;
+      return removed;
+    }
+
+    private List<T> getCopy() {
+      if (copy == null) {
+        var builtComponents = new ArrayList<T>(components.length());
+        for (var index = 0; index < components.length(); index++) {
+          builtComponents.add(get(index));
+        }
+        copy = builtComponents;
+      }
+      return copy;
+    }
+  }
 }
@@ -1,6 +1,8 @@
 package io.github.kgress.scaffold;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import org.openqa.selenium.TimeoutException;
 
@@ -46,6 +48,13 @@ public class BasePage extends BaseComponent {
    * For example, a login page will have an email and password input and would pass in those
    * elements as parameters. Don't use elements from headers or a logo that might appear across
    * every page on your website.
+   * <p>
+   * When browser side page verification is enabled, all elements are verified together with a single
+   * script running in the browser, and a failure reports every element that's missing rather than
+   * only the first. See {@link AutomationWait#waitUntilAllDisplayed(List, Long)}.
+   * <p>
+   * If the page has a {@link Settle} annotation, clicks after the page is verified wait for the
+   * page to settle with the annotation's strategy.
    *
    * @param element the element(s) that will be checked if displayed
    * @return the {@link Boolean} value to determine if the page is correctly loaded
@@ -62,6 +71,13 @@ public class BasePage extends BaseComponent {
           "Please provide at least one element to verify the page.", getClass().getSimpleName()));
     }
 
+    // Clicks on this page settle the way the page asks for, if it has a Settle annotation
+    getAutomationWait().setPageSettleStrategy(SettleStrategies.forPage(getClass()));
+
+    if (getAutomationWait().isBrowserSidePageVerificationEnabled()) {
+      return verifyIsOnPageInBrowser(listOfElements);
+    }
+
     // Wait until the page is loaded then look for the elements
     var isPageLoaded = getAutomationWait().waitUntilPageIsLoaded();
     if (isPageLoaded) {
@@ -79,4 +95,58 @@ public class BasePage extends BaseComponent {
     }
     return true;
   }
+
+  /**
+   * Fills in a form, setting every field with a single script where it can instead of waiting for,
+   * finding, clearing and typing into each field with separate commands. The fields are set the way
+   * {@link BaseWebElement#setFormState(Map)} describes, and fire the {@code input} and {@code
+   * change} events frameworks like React and Angular listen for.
+   *
+   * <pre>{@code
+   *  public void fillShippingAddress(Address address) {
+   *      fill(Map.ofEntries(
+   *              Map.entry(getNameInput(), address.getName()),
+   *              Map.entry(getStreetInput(), address.getStreet()),
+   *              Map.entry(getCountryDropDown(), address.getCountryCode()),
+   *              Map.entry(getDeliveryDate(), address.getDeliveryDate()),
+   *              Map.entry(getSaveAddressCheckBox(), true)))
+   *          .throwIfFailed();
+   *  }
+   * }
+   * </pre>
+   * <p>
+   * A field that can't be filled doesn't stop the others. Each field's outcome is in the returned
+   * {@link FillResult}. Fields are filled in the order of the map, including the ones that have to
+   * be filled with WebDriver, so pass a {@link java.util.LinkedHashMap} when the fields have to be
+   * filled in a particular order.
+   *
+   * @param values the value of each field, keyed by its element
+   * @return the {@link FillResult} with the outcome of every field
+   */
+  protected FillResult fill(Map<? extends FormStateElement, ?> values) {
+    return new FillResult(BaseWebElement.applyFormState(values));
+  }
+
+  /**
+   * Verifies the page with {@link AutomationWait#waitUntilAllDisplayed(List)}.
+   *
+   * @param listOfElements the elements that will be checked if displayed
+   * @return the {@link Boolean} value to determine if the page is correctly loaded
+   */
+  private Boolean verifyIsOnPageInBrowser(List<BaseWebElement> listOfElements) {
+    List<BaseWebElement> missingElements;
+    try {
+      missingElements = getAutomationWait().waitUntilAllDisplayed(listOfElements);
+    } catch (TimeoutException e) {
+      throw new TimeoutException(String
+          .format("The intended page failed to load %s", getClass().getSimpleName()), e);
+    }
+
+    if (!missingElements.isEmpty()) {
+      throw new TimeoutException(
+          String.format("Page verification failed. Could not find the elements " +
+              "%s for the intended page: %s", missingElements, getClass().getSimpleName()));
+    }
+    return true;
+  }
 }
@@ -15,10 +15,16 @@ import io.github.kgress.scaffold.webelements.ImageWebElement;
 import io.github.kgress.scaffold.webelements.InputWebElement;
 import io.github.kgress.scaffold.webelements.LinkWebElement;
 import io.github.kgress.scaffold.webelements.StaticTextWebElement;
-import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
@@ -98,6 +104,36 @@ import org.openqa.selenium.logging.LogEntry;
 @Slf4j
 public abstract class BaseWebElement {
 
+  /**
+   * Finds the element for the locators in {@code arguments[0]}, scrolls it into view if it's
+   * outside the viewport, and checks what's under its center point. Returns a status of missing,
+   * hidden, obscured, or ready, along with the element.
+   */
+  private static final String PREPARE_CLICK_SCRIPT = ""
+      + "var locator = arguments[0];"
+      + ScriptLocator.FIND_ELEMENT_FUNCTION
+      + ScriptLocator.IS_DISPLAYED_FUNCTION
+      + "var context = locator.parent ? findElement(locator.parent, document) : document;"
+      + "var element = context ? findElement(locator.element, context) : null;"
+      + "if (!element) {"
+      + "  return {status: 'missing'};"
+      + "}"
+      + "if (!isDisplayed(element)) {"
+      + "  return {status: 'hidden'};"
+      + "}"
+      + "var rect = element.getBoundingClientRect();"
+      + "var viewportWidth = window.innerWidth || document.documentElement.clientWidth;"
+      + "var viewportHeight = window.innerHeight || document.documentElement.clientHeight;"
+      + "if (rect.top < 0 || rect.left < 0 || rect.bottom > viewportHeight"
+      + "    || rect.right > viewportWidth) {"
+      + "  element.scrollIntoView({block: 'nearest', inline: 'nearest'});"
+      + "  rect = element.getBoundingClientRect();"
+      + "}"
+      + "var target = document.elementFromPoint(rect.left + rect.width / 2,"
+      + "    rect.top + rect.height / 2);"
+      + "var receivesClick = target !== null && (target === element || element.contains(target));"
+      + "return {status: receivesClick ? 'ready' : 'obscured', element: element};";
+
   @Getter(AccessLevel.PUBLIC)
   @Setter(AccessLevel.PRIVATE)
   protected By parentBy;
@@ -127,6 +163,12 @@ public abstract class BaseWebElement {
   @Getter
   private WebElementWait webElementWait;
 
+  /**
+   * The raw element this element last resolved to, when the element cache is enabled. It's only
+   * handed back while the {@link WebDriverWrapper} it was found with is still on the same document.
+   */
+  private volatile ResolvedElement resolvedElement;
+
   /**
    * Create a new element using the supplied {@link By#cssSelector(String)}. This does not call or
    * invoke WebDriver in any way, nor does it try to find the element on a page. The element is used
@@ -308,8 +350,7 @@ public abstract class BaseWebElement {
    */
   public boolean isEnabled() {
     try {
-      var element = getRawWebElement();
-      return element != null && element.isEnabled();
+      return readRawWebElement(element -> element != null && element.isEnabled());
     } catch (WebDriverException e) {
       return false;
     }
@@ -323,8 +364,7 @@ public abstract class BaseWebElement {
    */
   public boolean isDisplayed() {
     try {
-      var element = getRawWebElement();
-      return element != null && element.isDisplayed();
+      return readRawWebElement(element -> element != null && element.isDisplayed());
     } catch (WebDriverException e) {
       return false;
     }
@@ -337,8 +377,7 @@ public abstract class BaseWebElement {
    */
   public boolean isActive() {
     try {
-      var element = getRawWebElement();
-      return element != null && element.getAttribute("class").contains("active");
+      return readRawWebElement(element -> element != null && element.getAttribute("class").contains("active"));
     } catch (WebDriverException e) {
       return false;
     }
@@ -352,8 +391,7 @@ public abstract class BaseWebElement {
    */
   public boolean hasClass(String text) {
     try {
-      var element = getRawWebElement();
-      return element != null && element.getAttribute("class").contains(text);
+      return readRawWebElement(element -> element != null && element.getAttribute("class").contains(text));
     } catch (WebDriverException e) {
       return false;
     }
@@ -367,7 +405,7 @@ public abstract class BaseWebElement {
    * @see WebElement#getAttribute(String)
    */
   public String getAttribute(String name) {
-    return getRawWebElement().getAttribute(name);
+    return readRawWebElement(element -> element.getAttribute(name));
   }
 
   /**
@@ -377,7 +415,7 @@ public abstract class BaseWebElement {
    * @see WebElement#getText()
    */
   public String getText() {
-    return getRawWebElement().getText();
+    return readRawWebElement(element -> element.getText());
   }
 
   /**
@@ -387,7 +425,7 @@ public abstract class BaseWebElement {
    * @see WebElement#getTagName()
    */
   public String getTagName() {
-    return getRawWebElement().getTagName();
+    return readRawWebElement(element -> element.getTagName());
   }
 
   /**
@@ -397,7 +435,7 @@ public abstract class BaseWebElement {
    * @see WebElement#getLocation()
    */
   public Point getLocation() {
-    return getRawWebElement().getLocation();
+    return readRawWebElement(element -> element.getLocation());
   }
 
   /**
@@ -407,7 +445,7 @@ public abstract class BaseWebElement {
    * @see WebElement#getSize()
    */
   public Dimension getSize() {
-    return getRawWebElement().getSize();
+    return readRawWebElement(element -> element.getSize());
   }
 
   /**
@@ -417,7 +455,7 @@ public abstract class BaseWebElement {
    * @see WebElement#getRect()
    */
   public Rectangle getRect() {
-    return getRawWebElement().getRect();
+    return readRawWebElement(element -> element.getRect());
   }
 
   /**
@@ -427,7 +465,220 @@ public abstract class BaseWebElement {
    * @return the property as {@link String}
    */
   public String getCssValue(String propertyName) {
-    return getRawWebElement().getCssValue(propertyName);
+    return readRawWebElement(element -> element.getCssValue(propertyName));
+  }
+
+  /**
+   * Reads the element's text, tag name, rect, and selected, displayed, and enabled state along with
+   * the requested attributes in a single round trip to the browser.
+   *
+   * @param attributeNames the attributes to include in the snapshot
+   * @return the state of the element as an {@link ElementSnapshot}
+   * @see #snapshot(Collection, Collection)
+   */
+  public ElementSnapshot snapshot(String... attributeNames) {
+    return snapshot(List.of(attributeNames), List.of());
+  }
+
+  /**
+   * Reads the element's text, tag name, rect, and selected, displayed, and enabled state along with
+   * the requested attributes and css values in a single round trip to the browser. Prefer this over
+   * calling the individual getters when asserting on several properties of the same element.
+   *
+   * @param attributeNames   the attributes to include in the snapshot
+   * @param cssPropertyNames the css properties to include in the snapshot
+   * @return the state of the element as an {@link ElementSnapshot}
+   */
+  public ElementSnapshot snapshot(Collection<String> attributeNames,
+      Collection<String> cssPropertyNames) {
+    return ElementSnapshot.fromScriptResult(readRawWebElement(element -> getWebDriverWrapper()
+        .getJavascriptExecutor()
+        .executeScript(ElementSnapshot.SNAPSHOT_SCRIPT, element, new ArrayList<>(attributeNames),
+            new ArrayList<>(cssPropertyNames))));
+  }
+
+  /**
+   * Takes a snapshot of every element in the list, usually with a single round trip to the browser.
+   * Elements whose locators can be evaluated in the browser are found by the snapshot script itself.
+   * The rest, along with any element the script couldn't find displayed, are found the usual way,
+   * waiting for them if needed, and snapshotted in one more script.
+   *
+   * @param elements         the elements to take snapshots of
+   * @param attributeNames   the attributes to include in each snapshot
+   * @param cssPropertyNames the css properties to include in each snapshot
+   * @return the snapshots as a {@link List} of {@link ElementSnapshot}, in the same order as the
+   * elements
+   */
+  public static List<ElementSnapshot> snapshot(List<? extends BaseWebElement> elements,
+      Collection<String> attributeNames, Collection<String> cssPropertyNames) {
+    if (elements.isEmpty()) {
+      return List.of();
+    }
+    var results = new ArrayList<Object>(
+        takeSnapshots(elements, true, attributeNames, cssPropertyNames));
+    var missingIndexes = new ArrayList<Integer>();
+    for (var index = 0; index < results.size(); index++) {
+      if (results.get(index) == null) {
+        missingIndexes.add(index);
+      }
+    }
+    if (!missingIndexes.isEmpty()) {
+      var missingElements = new ArrayList<BaseWebElement>();
+      missingIndexes.forEach(index -> missingElements.add(elements.get(index)));
+      var missingResults = takeSnapshots(missingElements, false, attributeNames, cssPropertyNames);
+      for (var index = 0; index < missingIndexes.size(); index++) {
+        results.set(missingIndexes.get(index), missingResults.get(index));
+      }
+    }
+    var snapshots = new ArrayList<ElementSnapshot>();
+    results.forEach(snapshot -> snapshots.add(ElementSnapshot.fromScriptResult(snapshot)));
+    return snapshots;
+  }
+
+  /**
+   * Puts several form elements into the given states with a single script, instead of finding each
+   * element, reading its state, and changing it with separate commands. An element that's already
+   * in the requested state is left alone, so setting the same state twice does nothing the second
+   * time.
+   * <pre>{@code
+   *      BaseWebElement.setFormState(Map.of(
+   *              getNewsletterCheckBox(), true,
+   *              getExpressShippingRadio(), true,
+   *              getCountryDropDown(), "CA"));
+   * }
+   * </pre>
+   * A {@link CheckBoxWebElement} takes a {@link Boolean}, a {@link
+   * io.github.kgress.scaffold.webelements.RadioWebElement} can only take true, and a {@link
+   * DropDownWebElement} takes the value of the option to select, or a {@link Collection} of values
+   * for a drop down that allows several. An {@link InputWebElement}, or any other element that can
+   * be typed into, takes its text, and a {@link DateWebElement} takes its text or a date in its
+   * format. Elements whose locators can't be evaluated in the browser, or that are missing,
+   * disabled, or hidden when the script runs, are set with WebDriver, waiting for them the usual
+   * way. The elements are always set in the order of the map, so the script is split around an
+   * element that has to be set with WebDriver.
+   * <p>
+   * Every element is set before any failure is thrown. Use {@link BasePage#fill(Map)} to get the
+   * outcome of every element instead.
+   *
+   * @param states the state to put each element into
+   * @return each element's state before it was changed, in the same order as the states
+   * @throws IllegalArgumentException if a state isn't valid for its element
+   */
+  public static Map<FormStateElement, Object> setFormState(
+      Map<? extends FormStateElement, ?> states) {
+    var previousStates = new LinkedHashMap<FormStateElement, Object>();
+    for (var fieldResult : applyFormState(states)) {
+      if (!fieldResult.isSuccessful()) {
+        throw fieldResult.getError();
+      }
+      previousStates.put(fieldResult.getElement(), fieldResult.getPreviousValue());
+    }
+    return previousStates;
+  }
+
+  /**
+   * Puts the elements into the given states the way {@link #setFormState(Map)} describes, keeping
+   * going when an element fails.
+   *
+   * @param states the state to put each element into
+   * @return the outcome of each element, in the same order as the states
+   */
+  static List<FillResult.FieldResult> applyFormState(Map<? extends FormStateElement, ?> states) {
+    var fieldResults = new ArrayList<FillResult.FieldResult>();
+    var pendingInBrowser = new ArrayList<FormStateElement>();
+    var pendingChanges = new ArrayList<Map<String, Object>>();
+    states.forEach((element, state) -> {
+      Map<String, Object> change;
+      try {
+        change = new HashMap<>(element.toFormStateChange(state));
+      } catch (RuntimeException e) {
+        fieldResults.add(new FillResult.FieldResult(element, state, null, e));
+        return;
+      }
+      var scriptLocator = element instanceof BaseWebElement
+          ? ScriptLocator.toScriptLocator((BaseWebElement) element) : null;
+      if (scriptLocator == null) {
+        // The elements before this one have to be set first, so the form changes in map order
+        applyFormStateInBrowser(states, pendingInBrowser, pendingChanges, fieldResults);
+        fieldResults.add(applyFormStateWithWebDriver(element, state, null));
+      } else {
+        change.put("locator", scriptLocator);
+        pendingChanges.add(change);
+        pendingInBrowser.add(element);
+      }
+    });
+    applyFormStateInBrowser(states, pendingInBrowser, pendingChanges, fieldResults);
+    return fieldResults;
+  }
+
+  /**
+   * Sets the pending elements with the form state script. The script stops at the first element it
+   * can't set, which is then set with WebDriver before the script is run again for the elements
+   * after it. The pending lists are empty afterwards.
+   *
+   * @param states       the state to put each element into
+   * @param elements     the elements waiting to be set in the browser, in order
+   * @param changes      the change for each of those elements
+   * @param fieldResults the outcomes so far, which each element's outcome is added to
+   */
+  private static void applyFormStateInBrowser(Map<? extends FormStateElement, ?> states,
+      List<FormStateElement> elements, List<Map<String, Object>> changes,
+      List<FillResult.FieldResult> fieldResults) {
+    while (!elements.isEmpty()) {
+      // Only elements that extend BaseWebElement have a script locator
+      var results = runFormStateScript((BaseWebElement) elements.get(0), changes);
+      if (results == null) {
+        elements.forEach(element ->
+            fieldResults.add(applyFormStateWithWebDriver(element, states.get(element), null)));
+        break;
+      }
+      for (var index = 0; index < results.size(); index++) {
+        var element = elements.get(index);
+        var state = states.get(element);
+        var result = (Map<?, ?>) results.get(index);
+        if (result != null && !result.containsKey("error")) {
+          fieldResults.add(new FillResult.FieldResult(element, state, result.get("previous"),
+              null));
+          continue;
+        }
+        // A checkbox or radio button the script already clicked would be clicked a second time
+        if (result != null && Boolean.TRUE.equals(result.get("clicked"))) {
+          fieldResults.add(new FillResult.FieldResult(element, state, null,
+              new IllegalStateException(String.format("Could not set the state of %s: %s",
+                  element, result.get("error")))));
+          continue;
+        }
+        log.debug(String.format("Could not set the state of %s in the browser (%s), using "
+            + "WebDriver instead", element, result == null ? null : result.get("error")));
+        // The script may have changed the element before finding the change didn't stick
+        fieldResults.add(applyFormStateWithWebDriver(element, state,
+            result == null ? null : result.get("previous")));
+      }
+      elements.subList(0, results.size()).clear();
+      changes.subList(0, results.size()).clear();
+    }
+    elements.clear();
+    changes.clear();
+  }
+
+  /**
+   * Sets an element with {@link FormStateElement#setFormStateWithWebDriver(Object)}.
+   *
+   * @param element           the element to set
+   * @param state             the state to put it into
+   * @param previousInBrowser the element's state before the form state script changed it, or null
+   *                          if the script didn't change it
+   * @return the element's outcome
+   */
+  private static FillResult.FieldResult applyFormStateWithWebDriver(FormStateElement element,
+      Object state, Object previousInBrowser) {
+    try {
+      var previousState = element.setFormStateWithWebDriver(state);
+      return new FillResult.FieldResult(element, state,
+          previousInBrowser != null ? previousInBrowser : previousState, null);
+    } catch (RuntimeException e) {
+      return new FillResult.FieldResult(element, state, null, e);
+    }
   }
 
   /**
@@ -442,6 +693,11 @@ public abstract class BaseWebElement {
    * <p>
    * In addition to finding the raw element, if an exception is encountered, we log errors from the
    * console. Useful for debugging.
+   * <p>
+   * When {@link DesiredCapabilitiesConfigurationProperties.ElementLookup#isCacheEnabled()} is set,
+   * the element that was found is kept until the browser navigates or switches windows through the
+   * {@link WebDriverWrapper}. Asking for the raw element again in the meantime hands back the cached
+   * element without waiting or finding it again.
    *
    * @return as   {@link WebElement}
    */
@@ -461,41 +717,279 @@ public abstract class BaseWebElement {
         return getBaseElement();
       }
 
-            /*
-            Always wait for the element to be displayed prior to finding it. This gives the caller
-            a decent amount of time to make sure the element is completely displayed prior to
-            interacting with it.
-             */
-      getWebElementWait().waitUntilDisplayed();
-
-            /*
-            If the parent by is not null, we should do two separate find element calls to respect
-            the fact these two By locators might be of completely different types.
-             */
-      if (getParentBy() != null) {
-        log.debug(String.format("Locating element [%s] relative to parent element [%s]",
-            getBy(), getParentBy()));
-        var parentElement = getWebDriverWrapper().findElement(getParentBy());
-        return parentElement.findElement(getBy());
-      } else {
-        log.debug(String.format("Locating element [%s]", getBy()));
-        return getWebDriverWrapper().findElement(getBy());
+      var webDriverWrapper = getWebDriverWrapper();
+      var lookupStatistics = webDriverWrapper.getElementLookupStatistics();
+      if (lookupStatistics != null) {
+        lookupStatistics.recordRawWebElementRequest();
       }
+      var cacheEnabled = webDriverWrapper.isElementCacheEnabled();
+      if (cacheEnabled) {
+        var cachedElement = getCachedRawWebElement(webDriverWrapper);
+        if (cachedElement != null) {
+          return cachedElement;
+        }
+      }
+      var generation = webDriverWrapper.getDocumentGeneration();
+      var element = findRawWebElement();
+      if (cacheEnabled) {
+        resolvedElement = new ResolvedElement(webDriverWrapper, generation, element);
+      }
+      return element;
     } catch (NoSuchElementException | TimeoutException e) {
       reportBrowserLogs();
       throw e;
     }
   }
 
+  /**
+   * Gets the raw {@link WebElement} and hands it to the function. If the element was cached and has
+   * gone stale in the meantime, the cache is dropped and the element is found once more before the
+   * function is tried again.
+   *
+   * @param function the function to apply to the raw element
+   * @param <R>      the type the function returns
+   * @return the result of the function
+   */
+  protected <R> R readRawWebElement(Function<WebElement, R> function) {
+    var element = getRawWebElement();
+    try {
+      return function.apply(element);
+    } catch (StaleElementReferenceException e) {
+      if (!evictStaleRawWebElement(element)) {
+        throw e;
+      }
+      return function.apply(getRawWebElement());
+    }
+  }
+
+  /**
+   * Gets the raw {@link WebElement} and interacts with it. If the element was cached and has gone
+   * stale in the meantime, the cache is dropped and the element is found once more before the
+   * interaction is tried again.
+   *
+   * @param interaction the interaction to perform on the raw element
+   */
+  protected void interactWithRawWebElement(Consumer<WebElement> interaction) {
+    readRawWebElement(element -> {
+      interaction.accept(element);
+      return null;
+    });
+  }
+
+  /**
+   * Finds the raw {@link WebElement} once, without waiting for it to be displayed and without the
+   * element cache. Used by conditions that {@link AutomationWait} polls itself, where an element
+   * that isn't there yet should count as the condition not being met rather than block the poll.
+   *
+   * @return the raw {@link WebElement}
+   * @throws NoSuchElementException when the element, or its parent, can't be found
+   */
+  WebElement findRawWebElementWithoutWaiting() {
+    if (getBaseElement() != null) {
+      return getBaseElement();
+    }
+    if (getParentBy() != null) {
+      return getWebDriverWrapper().findElement(getParentBy()).findElement(getBy());
+    }
+    return getWebDriverWrapper().findElement(getBy());
+  }
+
+  /**
+   * Waits for the element to be displayed and finds it on the page, bypassing the element cache.
+   *
+   * @return as {@link WebElement}
+   */
+  private WebElement findRawWebElement() {
+    var webDriverWrapper = getWebDriverWrapper();
+    if (webDriverWrapper.isElementFastPathEnabled()) {
+      return findRawWebElementOptimistically(webDriverWrapper);
+    }
+
+    /*
+    Always wait for the element to be displayed prior to finding it. This gives the caller
+    a decent amount of time to make sure the element is completely displayed prior to
+    interacting with it.
+     */
+    getWebElementWait().waitUntilDisplayed();
+
+    /*
+    If the parent by is not null, we should do two separate find element calls to respect
+    the fact these two By locators might be of completely different types.
+     */
+    if (getParentBy() != null) {
+      log.debug(String.format("Locating element [%s] relative to parent element [%s]",
+          getBy(), getParentBy()));
+      var parentElement = getWebDriverWrapper().findElement(getParentBy());
+      return parentElement.findElement(getBy());
+    } else {
+      log.debug(String.format("Locating element [%s]", getBy()));
+      return getWebDriverWrapper().findElement(getBy());
+    }
+  }
+
+  /**
+   * Tries to find the element and check that it's displayed without waiting, which is the common
+   * case for an element on a page that has already been verified. Only when that fails do we fall
+   * back to waiting for the element to be displayed. The wait already returns the element it found,
+   * so it's used directly unless the element has to be found relative to its parent.
+   *
+   * @param webDriverWrapper the current thread's {@link WebDriverWrapper}
+   * @return as {@link WebElement}
+   */
+  private WebElement findRawWebElementOptimistically(WebDriverWrapper webDriverWrapper) {
+    var statistics = webDriverWrapper.getElementLookupStatistics();
+    var commandsSpent = 0;
+    try {
+      WebElement element;
+      if (getParentBy() != null) {
+        commandsSpent++;
+        var parentElement = webDriverWrapper.findElement(getParentBy());
+        commandsSpent++;
+        element = parentElement.findElement(getBy());
+      } else {
+        commandsSpent++;
+        element = webDriverWrapper.findElement(getBy());
+      }
+      commandsSpent++;
+      if (element.isDisplayed()) {
+        statistics.recordFastPathHit();
+        return element;
+      }
+    } catch (NoSuchElementException | StaleElementReferenceException e) {
+      log.debug(String.format("Element [%s] was not ready, waiting for it to be displayed", getBy()));
+    }
+
+    var waitedElement = getWebElementWait().waitUntilDisplayed();
+    if (getParentBy() == null) {
+      statistics.recordFastPathMiss(commandsSpent, true);
+      return waitedElement;
+    }
+    statistics.recordFastPathMiss(commandsSpent, false);
+    return webDriverWrapper.findElement(getParentBy()).findElement(getBy());
+  }
+
+  /**
+   * Runs the snapshot script for a list of elements. If the script goes stale on a raw element that
+   * came from the element cache, the element is evicted and every element is found again once.
+   *
+   * @param elements         the elements to take snapshots of
+   * @param useLocators      true to send the locators of elements that can be found in the browser
+   *                         instead of finding them first
+   * @param attributeNames   the attributes to include in each snapshot
+   * @param cssPropertyNames the css properties to include in each snapshot
+   * @return the script result for each element, with null for an element the script couldn't find
+   */
+  private static List<?> takeSnapshots(List<? extends BaseWebElement> elements,
+      boolean useLocators, Collection<String> attributeNames, Collection<String> cssPropertyNames) {
+    var targets = toSnapshotTargets(elements, useLocators);
+    try {
+      return runSnapshotScript(elements.get(0), targets, attributeNames, cssPropertyNames);
+    } catch (StaleElementReferenceException e) {
+      var evicted = false;
+      for (var index = 0; index < elements.size(); index++) {
+        BaseWebElement element = elements.get(index);
+        if (targets.get(index) instanceof WebElement) {
+          evicted |= element.evictStaleRawWebElement((WebElement) targets.get(index));
+        }
+      }
+      if (!evicted) {
+        throw e;
+      }
+      return runSnapshotScript(elements.get(0), toSnapshotTargets(elements, useLocators),
+          attributeNames, cssPropertyNames);
+    }
+  }
+
+  /**
+   * Converts each element into what the snapshot script takes: its locators if they can be
+   * evaluated in the browser and locators are wanted, and otherwise its raw element.
+   *
+   * @param elements    the elements to convert
+   * @param useLocators true to prefer locators over raw elements
+   * @return the script targets, in the same order as the elements
+   */
+  private static List<Object> toSnapshotTargets(List<? extends BaseWebElement> elements,
+      boolean useLocators) {
+    var targets = new ArrayList<Object>();
+    elements.forEach(element -> {
+      var scriptLocator = useLocators ? ScriptLocator.toScriptLocator(element) : null;
+      targets.add(scriptLocator != null ? scriptLocator : element.getRawWebElement());
+    });
+    return targets;
+  }
+
+  private static List<?> runSnapshotScript(BaseWebElement element, List<Object> targets,
+      Collection<String> attributeNames, Collection<String> cssPropertyNames) {
+    return (List<?>) element.getWebDriverWrapper()
+        .getJavascriptExecutor()
+        .executeScript(ElementSnapshot.SNAPSHOT_SCRIPT, targets,
+            new ArrayList<>(attributeNames), new ArrayList<>(cssPropertyNames));
+  }
+
+  /**
+   * Runs the form state script for a list of changes.
+   *
+   * @param element any of the elements, used to get the current {@link WebDriverWrapper}
+   * @param changes the changes, each with the locator of its element
+   * @return the result for each change, or null if the script couldn't run
+   */
+  private static List<?> runFormStateScript(BaseWebElement element,
+      List<Map<String, Object>> changes) {
+    try {
+      var results = (List<?>) element.getWebDriverWrapper()
+          .getJavascriptExecutor()
+          .executeScript(FormStateScript.SET_STATE_SCRIPT, changes);
+      return results != null && !results.isEmpty() && results.size() <= changes.size()
+          ? results : null;
+    } catch (WebDriverException | ClassCastException e) {
+      log.debug(String.format("Could not set form state in the browser: %s", e.getMessage()));
+      return null;
+    }
+  }
+
+  /**
+   * Returns the cached raw element if it was found on the document the browser is currently on.
+   *
+   * @param webDriverWrapper the current thread's {@link WebDriverWrapper}
+   * @return the cached {@link WebElement}, or null if there isn't a usable one
+   */
+  private WebElement getCachedRawWebElement(WebDriverWrapper webDriverWrapper) {
+    var cached = resolvedElement;
+    if (cached != null && cached.webDriverWrapper == webDriverWrapper
+        && cached.generation == webDriverWrapper.getDocumentGeneration()) {
+      webDriverWrapper.getElementLookupStatistics().recordCacheHit();
+      return cached.element;
+    }
+    webDriverWrapper.getElementLookupStatistics().recordCacheMiss();
+    return null;
+  }
+
+  /**
+   * Drops the cached raw element if it's the one that went stale.
+   *
+   * @param staleElement the element that threw a {@link StaleElementReferenceException}
+   * @return true if the stale element came from the cache and should be found again
+   */
+  private boolean evictStaleRawWebElement(WebElement staleElement) {
+    var cached = resolvedElement;
+    if (cached == null || cached.element != staleElement) {
+      return false;
+    }
+    resolvedElement = null;
+    log.debug(String.format("Cached element [%s] went stale, finding it again", getBy()));
+    cached.webDriverWrapper.getElementLookupStatistics().recordStaleRetry();
+    return true;
+  }
+
   /**
    * Gets the parent element as a raw {@link WebElement}.
    *
    * @return as {@link WebElement}
    */
   public WebElement getRawParentWebElement() {
-    return (WebElement) getWebDriverWrapper()
+    return readRawWebElement(element -> (WebElement) getWebDriverWrapper()
         .getJavascriptExecutor()
-        .executeScript("return arguments[0].parentNode;", getRawWebElement());
+        .executeScript("return arguments[0].parentNode;", element));
   }
 
   /**
@@ -505,10 +999,76 @@ public abstract class BaseWebElement {
    * @return as {@link WebElement}
    */
   public WebElement scrollIntoView() {
-    return (WebElement) getWebDriverWrapper()
+    return readRawWebElement(element -> (WebElement) getWebDriverWrapper()
         .getJavascriptExecutor()
         .executeScript("arguments[0].scrollIntoView({block: 'nearest', inline: 'nearest'});",
-            getRawWebElement());
+            element));
+  }
+
+  /**
+   * Gets the element ready to be clicked with a single script, instead of waiting for it, scrolling
+   * it, and finding it again with separate commands. The script finds the element, scrolls it into
+   * view only if it's outside the viewport, and checks that the element, or one of its children, is
+   * what's under its center point and will receive the click.
+   *
+   * @return the raw {@link WebElement} to click, or null if the element isn't ready to be clicked
+   * yet, its locators can't be evaluated in the browser, or the script couldn't run. The caller
+   * should fall back to waiting for the element in that case.
+   */
+  protected WebElement findClickableRawWebElement() {
+    var scriptLocator = ScriptLocator.toScriptLocator(this);
+    if (scriptLocator == null) {
+      return null;
+    }
+    try {
+      var result = (Map<?, ?>) getWebDriverWrapper().getJavascriptExecutor()
+          .executeScript(PREPARE_CLICK_SCRIPT, scriptLocator);
+      if (result != null && "ready".equals(result.get("status"))) {
+        return (WebElement) result.get("element");
+      }
+      log.debug(String.format("%s isn't ready to be clicked (%s), waiting for it instead", this,
+          result == null ? null : result.get("status")));
+    } catch (WebDriverException | ClassCastException e) {
+      log.debug(String.format("Could not prepare %s for a click in the browser: %s", this,
+          e.getMessage()));
+    }
+    return null;
+  }
+
+  /**
+   * Chooses the strategy to settle with and lets it prepare, with {@link
+   * SettleStrategy#beforeClick(BaseWebElement)}, before this element is interacted with.
+   *
+   * @param settleStrategy the strategy to use, or null to use the {@link
+   *                       WebDriverWrapper#getSettleStrategy()} of the current page
+   * @return the chosen {@link SettleStrategy}, to pass to {@link #settle(SettleStrategy)}
+   */
+  protected SettleStrategy prepareSettle(SettleStrategy settleStrategy) {
+    var strategy = chooseSettleStrategy(settleStrategy);
+    strategy.beforeClick(this);
+    return strategy;
+  }
+
+  /**
+   * Waits for the page to settle after this element was interacted with, and records the time spent
+   * in the {@link WebDriverWrapper}'s {@link SettleStatistics}.
+   *
+   * @param settleStrategy the strategy to use, or null to use the {@link
+   *                       WebDriverWrapper#getSettleStrategy()} of the current page
+   */
+  protected void settle(SettleStrategy settleStrategy) {
+    var strategy = chooseSettleStrategy(settleStrategy);
+    var start = System.nanoTime();
+    try {
+      strategy.settle(this);
+    } finally {
+      getWebDriverWrapper().recordSettle(strategy, System.nanoTime() - start);
+    }
+  }
+
+  private SettleStrategy chooseSettleStrategy(SettleStrategy settleStrategy) {
+    return settleStrategy != null ? settleStrategy : Objects.requireNonNullElse(
+        getWebDriverWrapper().getSettleStrategy(), SettleStrategies.READY_STATE);
   }
 
   /**
@@ -609,25 +1169,17 @@ public abstract class BaseWebElement {
       }
     }
 
-    try {
-      if (combinedBy != null) {
-        var constructor = elementClass.getConstructor(By.class);
-        returnElement = constructor.newInstance(combinedBy);
-      } else if (updatedParentBy != null) {
-        var constructor = elementClass.getConstructor(By.class, By.class);
-        returnElement = constructor.newInstance(by, updatedParentBy);
-      } else {
-                /*
-                Worst case scenario here. We don't want a situation where the caller is
-                interacting with a scaffold element without a By locator.
-                */
-        var constructor = elementClass.getConstructor(WebElement.class);
-        var element = getRawWebElement().findElement(by);
-        returnElement = constructor.newInstance(element);
-      }
-    } catch (NoSuchMethodException | InvocationTargetException | InstantiationException |
-        IllegalAccessException e) {
-      throw new RuntimeException("Could not instantiate Element properly: " + e);
+    if (combinedBy != null) {
+      returnElement = ElementFactory.create(elementClass, combinedBy);
+    } else if (updatedParentBy != null) {
+      returnElement = ElementFactory.create(elementClass, by, updatedParentBy);
+    } else {
+      /*
+      Worst case scenario here. We don't want a situation where the caller is
+      interacting with a scaffold element without a By locator.
+      */
+      var element = getRawWebElement().findElement(by);
+      returnElement = ElementFactory.create(elementClass, element);
     }
     return returnElement;
   }
@@ -749,31 +1301,98 @@ public abstract class BaseWebElement {
     var finalCombinedBy = combinedBy;
     var finalUpdatedParentBy = updatedParentBy;
     elements.forEach(element -> {
-      try {
-        if (finalCombinedBy != null) {
-          var constructor = elementClass.getConstructor(By.class);
-          T newElement = constructor.newInstance(finalCombinedBy);
-          newElements.add(newElement);
-        } else if (finalUpdatedParentBy != null) {
-          var constructor = elementClass.getConstructor(By.class, By.class);
-          T newElement = constructor.newInstance(by, finalUpdatedParentBy);
-          newElements.add(newElement);
-        } else {
-                    /*
-                    Worst case scenario here. We don't want a situation where the caller is
-                    interacting with a scaffold element without a By locator.
-                     */
-          var constructor = elementClass.getConstructor(WebElement.class);
-          T newElement = constructor.newInstance(element);
-          newElements.add(newElement);
-        }
-      } catch (Exception e) {
-        throw new RuntimeException("Could not instantiate Element properly: " + e);
+      if (finalCombinedBy != null) {
+        newElements.add(ElementFactory.create(elementClass, finalCombinedBy));
+      } else if (finalUpdatedParentBy != null) {
+        newElements.add(ElementFactory.create(elementClass, by, finalUpdatedParentBy));
+      } else {
+        /*
+        Worst case scenario here. We don't want a situation where the caller is
+        interacting with a scaffold element without a By locator.
+         */
+        newElements.add(ElementFactory.create(elementClass, element));
       }
     });
     return newElements;
   }
 
+  /**
+   * Finds all elements matching the css selector within this element and wraps them in an {@link
+   * ElementList}.
+   *
+   * @param elementClass the class of the elements that are being found
+   * @param cssSelector  the css selector of the elements
+   * @param <T>          the type reference that extends {@link BaseWebElement}
+   * @return the elements as an {@link ElementList}
+   * @see #findElementList(Class, By, Collection, Collection)
+   */
+  public <T extends BaseWebElement> ElementList<T> findElementList(Class<T> elementClass,
+      String cssSelector) {
+    return findElementList(elementClass, By.cssSelector(cssSelector));
+  }
+
+  /**
+   * Finds all elements matching the locator within this element and wraps them in an {@link
+   * ElementList}.
+   *
+   * @param elementClass the class of the elements that are being found
+   * @param by           the mechanism of searching for the elements
+   * @param <T>          the type reference that extends {@link BaseWebElement}
+   * @return the elements as an {@link ElementList}
+   * @see #findElementList(Class, By, Collection, Collection)
+   */
+  public <T extends BaseWebElement> ElementList<T> findElementList(Class<T> elementClass, By by) {
+    return findElementList(elementClass, by, null, null);
+  }
+
+  /**
+   * Finds all elements matching the locator within this element with a single find call and wraps
+   * them in an {@link ElementList}. Unlike {@link #findElements(Class, By)}, every element gets its
+   * own {@link ElementList.ByIndex} locator for its position in the list, so it can be found again
+   * on its own instead of every element sharing the locator of the first match.
+   * <p>
+   * When the element cache is enabled, each element starts out with the raw element that was found
+   * for it, so reading from any element in the list does not find it again. When attribute or css
+   * property names are given, a snapshot of every element is also taken in the same script, which
+   * makes reading a whole list a constant number of round trips regardless of its size.
+   *
+   * @param elementClass     the class of the elements that are being found. It must have a public
+   *                         constructor that takes a {@link By}
+   * @param by               the mechanism of searching for the elements
+   * @param attributeNames   the attributes to snapshot for every element, or null to skip the
+   *                         snapshot
+   * @param cssPropertyNames the css properties to snapshot for every element, or null for none
+   * @param <T>              the type reference that extends {@link BaseWebElement}
+   * @return the elements as an {@link ElementList}
+   */
+  public <T extends BaseWebElement> ElementList<T> findElementList(Class<T> elementClass, By by,
+      Collection<String> attributeNames, Collection<String> cssPropertyNames) {
+    var webDriverWrapper = getWebDriverWrapper();
+    var scopeBys = getParentBy() != null ? List.of(getParentBy(), getBy()) : List.of(getBy());
+    var generation = webDriverWrapper.getDocumentGeneration();
+    var rawElements = readRawWebElement(element -> element.findElements(by));
+
+    var cacheEnabled = webDriverWrapper.isElementCacheEnabled();
+    var elements = new ArrayList<T>(rawElements.size());
+    for (var index = 0; index < rawElements.size(); index++) {
+      T newElement = ElementFactory.create(elementClass,
+          new ElementList.ByIndex(scopeBys, by, index));
+      if (cacheEnabled) {
+        BaseWebElement element = newElement;
+        element.resolvedElement =
+            new ResolvedElement(webDriverWrapper, generation, rawElements.get(index));
+      }
+      elements.add(newElement);
+    }
+
+    var elementList = new ElementList<>(elements, rawElements, webDriverWrapper);
+    if (attributeNames != null) {
+      elementList.takeSnapshots(attributeNames,
+          cssPropertyNames != null ? cssPropertyNames : List.of());
+    }
+    return elementList;
+  }
+
   public String toString() {
     /*
     This will be built according to what we have available to us--there's a small chance it
@@ -919,4 +1538,20 @@ public abstract class BaseWebElement {
       log.debug("No Errors reported in Console Logs during failure.");
     }
   }
+
+  /**
+   * A raw element along with the wrapper and document generation it was found under.
+   */
+  private static class ResolvedElement {
+
+    private final WebDriverWrapper webDriverWrapper;
+    private final long generation;
+    private final WebElement element;
+
+    private ResolvedElement(WebDriverWrapper webDriverWrapper, long generation, WebElement element) {
+      this.webDriverWrapper = webDriverWrapper;
+      this.generation = generation;
+      this.element = element;
+    }
+  }
 }
@@ -0,0 +1,208 @@
+package io.github.kgress.scaffold;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A wait condition that can be evaluated inside the browser by {@link #CONDITION_SCRIPT}, instead of
+ * being polled from the JVM with a WebDriver command every half second. Created by {@link
+ * AutomationWait} for its built in waits when browser side conditions are enabled.
+ * <p>
+ * Conditions on elements need locators the browser can evaluate, see {@link ScriptLocator}. When an
+ * element's locators can't be evaluated, {@link #toScriptArgument()} returns null and the wait is
+ * polled from the JVM as usual.
+ */
+final class BrowserCondition {
+
+  /**
+   * Evaluates a condition from {@link #toScriptArgument()} once. Returns the condition's value, or
+   * null when it isn't met yet.
+   */
+  private static final String EVALUATE_FUNCTION = ""
+      + ScriptLocator.FIND_ELEMENT_FUNCTION
+      + ScriptLocator.IS_DISPLAYED_FUNCTION
+      + "function locate(locator) {"
+      + "  var context = locator.parent ? findElement(locator.parent, document) : document;"
+      + "  return context ? findElement(locator.element, context) : null;"
+      + "}"
+      + "function evaluate(condition) {"
+      + "  if (condition.type === 'pageLoaded') {"
+      + "    return document.readyState === 'complete' ? true : null;"
+      + "  }"
+      + "  var element = locate(condition.locator);"
+      + "  if (!element) {"
+      + "    return condition.type === 'notDisplayed' ? true : null;"
+      + "  }"
+      + "  var className = element.getAttribute('class') || '';"
+      + "  switch (condition.type) {"
+      + "    case 'displayed':"
+      + "      return isDisplayed(element) ? element : null;"
+      + "    case 'notDisplayed':"
+      + "      return !isDisplayed(element) ? true : null;"
+      + "    case 'enabled':"
+      + "      return !element.disabled ? true : null;"
+      + "    case 'textContains':"
+      + "      var text = element.innerText === undefined ? element.textContent : element.innerText;"
+      + "      return text.indexOf(condition.argument) >= 0 ? true : null;"
+      + "    case 'hasClass':"
+      + "      return className.indexOf(condition.argument) >= 0 ? true : null;"
+      + "    case 'notHasClass':"
+      + "      return className.indexOf(condition.argument) < 0 ? true : null;"
+      + "  }"
+      + "  throw new SyntaxError('Unknown condition ' + condition.type);"
+      + "}";
+
+  /**
+   * Waits inside the browser until the condition in {@code arguments[0]} is met or {@code
+   * arguments[1]} milliseconds have passed. The condition is checked whenever the DOM changes, on
+   * every animation frame, and every 100 milliseconds for pages in background tabs where animation
+   * frames are paused. Resolves with whether the condition was met and the value it produced, or
+   * with an error when a locator isn't valid.
+   */
+  static final String CONDITION_SCRIPT = ""
+      + "var callback = arguments[arguments.length - 1];"
+      + "var condition = arguments[0];"
+      + "var deadline = Date.now() + arguments[1];"
+      + EVALUATE_FUNCTION
+      + "var done = false;"
+      + "var frameRequested = false;"
+      + "var observer = new MutationObserver(check);"
+      + "var interval = setInterval(check, 100);"
+      + "function finish(result) {"
+      + "  done = true;"
+      + "  observer.disconnect();"
+      + "  clearInterval(interval);"
+      + "  document.removeEventListener('readystatechange', check);"
+      + "  callback(result);"
+      + "}"
+      + "function check() {"
+      + "  if (done) {"
+      + "    return;"
+      + "  }"
+      + "  var value;"
+      + "  try {"
+      + "    value = evaluate(condition);"
+      + "  } catch (e) {"
+      + "    if (e.name === 'SyntaxError') {"
+      + "      finish({error: e.message});"
+      + "      return;"
+      + "    }"
+      + "    value = null;"
+      + "  }"
+      + "  if (value !== null && value !== undefined) {"
+      + "    finish({satisfied: true, value: value});"
+      + "  } else if (Date.now() >= deadline) {"
+      + "    finish({satisfied: false});"
+      + "  } else if (!frameRequested) {"
+      + "    frameRequested = true;"
+      + "    window.requestAnimationFrame(function () {"
+      + "      frameRequested = false;"
+      + "      check();"
+      + "    });"
+      + "  }"
+      + "}"
+      + "observer.observe(document, {childList: true, subtree: true, attributes: true,"
+      + "    characterData: true});"
+      + "document.addEventListener('readystatechange', check);"
+      + "check();";
+
+  /**
+   * Evaluates every condition in {@code arguments[0]} once and returns whether each one is met, in
+   * the same order. Used to check several conditions with a single command per poll.
+   */
+  static final String EVALUATE_ALL_SCRIPT = ""
+      + EVALUATE_FUNCTION
+      + "return arguments[0].map(function (condition) {"
+      + "  try {"
+      + "    var value = evaluate(condition);"
+      + "    return value !== null && value !== undefined;"
+      + "  } catch (e) {"
+      + "    if (e.name === 'SyntaxError') {"
+      + "      throw e;"
+      + "    }"
+      + "    return false;"
+      + "  }"
+      + "});";
+
+  private final String type;
+  private final BaseWebElement element;
+  private final String argument;
+
+  private BrowserCondition(String type, BaseWebElement element, String argument) {
+    this.type = type;
+    this.element = element;
+    this.argument = argument;
+  }
+
+  static BrowserCondition pageLoaded() {
+    return new BrowserCondition("pageLoaded", null, null);
+  }
+
+  static BrowserCondition displayed(BaseWebElement element) {
+    return new BrowserCondition("displayed", element, null);
+  }
+
+  static BrowserCondition notDisplayed(BaseWebElement element) {
+    return new BrowserCondition("notDisplayed", element, null);
+  }
+
+  static BrowserCondition enabled(BaseWebElement element) {
+    return new BrowserCondition("enabled", element, null);
+  }
+
+  static BrowserCondition textContains(BaseWebElement element, String text) {
+    return new BrowserCondition("textContains", element, text);
+  }
+
+  static BrowserCondition hasClass(BaseWebElement element, String className) {
+    return new BrowserCondition("hasClass", element, className);
+  }
+
+  static BrowserCondition notHasClass(BaseWebElement element, String className) {
+    return new BrowserCondition("notHasClass", element, className);
+  }
+
+  /**
+   * Returns the kind of condition the way waits for it are recorded in {@link ScaffoldMeters}, like
+   * {@code text-contains}.
+   *
+   * @return the kind of condition as a {@link String}
+   */
+  String getMetricName() {
+    return type.replaceAll("([a-z])([A-Z])", "$1-$2").toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * Converts the condition into the argument {@link #CONDITION_SCRIPT} expects.
+   *
+   * @return the condition as a {@link Map}, or null if it can't be evaluated in the browser
+   */
+  Map<String, Object> toScriptArgument() {
+    var scriptArgument = new HashMap<String, Object>();
+    scriptArgument.put("type", type);
+    if (element != null) {
+      var locator = ScriptLocator.toScriptLocator(element);
+      if (locator == null) {
+        return null;
+      }
+      scriptArgument.put("locator", locator);
+    }
+    if (argument != null) {
+      scriptArgument.put("argument", argument);
+    }
+    return scriptArgument;
+  }
+
+  @Override
+  public String toString() {
+    var description = new StringBuilder(type);
+    if (element != null) {
+      description.append(" of ").append(element);
+    }
+    if (argument != null) {
+      description.append(": ").append(argument);
+    }
+    return description.toString();
+  }
+}
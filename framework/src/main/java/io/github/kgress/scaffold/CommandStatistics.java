@@ -0,0 +1,59 @@
+package io.github.kgress.scaffold;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * How long every WebDriver command took during a single test, like {@code findElement}, {@code
+ * clickElement}, {@code executeScript}, {@code screenshot}, or {@code newSession}, with a {@link
+ * LatencyHistogram} for each command name. A new set of statistics is created with every {@link
+ * WebDriverWrapper}, so the numbers always describe the test that is currently running on the
+ * thread.
+ * <p>
+ * Commands are only timed for remote sessions when {@link io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties.CommandTiming#isEnabled()}
+ * is set. Otherwise the statistics stay empty.
+ */
+public class CommandStatistics {
+
+  private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+  /**
+   * @return the names of every command that has been timed
+   */
+  public Set<String> getCommandNames() {
+    return new TreeSet<>(histograms.keySet());
+  }
+
+  /**
+   * @param commandName the name of the command, like {@code findElement}
+   * @return the {@link LatencyHistogram} of the command, which is empty if the command wasn't run
+   */
+  public LatencyHistogram getHistogram(String commandName) {
+    var histogram = histograms.get(commandName);
+    return histogram == null ? new LatencyHistogram() : histogram;
+  }
+
+  /**
+   * @return the number of commands timed, across every command name
+   */
+  public long getCount() {
+    return histograms.values().stream().mapToLong(LatencyHistogram::getCount).sum();
+  }
+
+  void recordCommand(String commandName, long nanos) {
+    histograms.computeIfAbsent(commandName, name -> new LatencyHistogram()).record(nanos);
+  }
+
+  @Override
+  public String toString() {
+    if (histograms.isEmpty()) {
+      return "no commands timed";
+    }
+    return getCommandNames().stream()
+        .map(name -> String.format("%s: %s", name, getHistogram(name)))
+        .collect(Collectors.joining(", "));
+  }
+}
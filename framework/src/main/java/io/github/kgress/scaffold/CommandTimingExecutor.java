@@ -0,0 +1,101 @@
+package io.github.kgress.scaffold;
+
+import java.io.IOException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.logging.LocalLogs;
+import org.openqa.selenium.logging.NeedsLocalLogs;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.Response;
+
+/**
+ * A {@link CommandExecutor} that times every command a remote session sends and records it in the
+ * {@link CommandStatistics} of the test that is using the session. The session is only ever used
+ * by one test at a time, even when it's reused from the {@link WebDriverSessionPool}, so each new
+ * {@link WebDriverWrapper} points the executor at a new set of statistics. Once the test is done
+ * with the session, commands like the pool resetting or health checking it, or quitting it, are
+ * recorded in statistics no test reads.
+ * <p>
+ * The executor is only put in front of a session when command timing is enabled, so there's no
+ * cost at all when it isn't. Local drivers like {@link org.openqa.selenium.chrome.ChromeDriver}
+ * create their own executor, so their commands aren't timed.
+ */
+public class CommandTimingExecutor implements CommandExecutor, NeedsLocalLogs {
+
+  private final CommandExecutor delegate;
+  private volatile CommandStatistics statistics = new CommandStatistics();
+  private boolean statisticsClaimed;
+
+  /**
+   * @param delegate the {@link CommandExecutor} that sends the commands
+   */
+  public CommandTimingExecutor(CommandExecutor delegate) {
+    this.delegate = delegate;
+  }
+
+  /**
+   * Returns the statistics a new test on the driver should record its commands in. The first test
+   * on a session also gets the commands that started the session.
+   *
+   * @param webDriver the driver of the test
+   * @return the {@link CommandStatistics} for the test, which stay empty if the driver isn't timed
+   */
+  public static CommandStatistics startTest(WebDriver webDriver) {
+    var executor = getTimingExecutor(webDriver);
+    return executor != null ? executor.startTest() : new CommandStatistics();
+  }
+
+  /**
+   * Stops recording the driver's commands in the statistics of the test that was using it. Called
+   * when the test is done with the driver, before it's released to the {@link
+   * WebDriverSessionPool} or quit.
+   *
+   * @param webDriver the driver of the test
+   */
+  public static void endTest(WebDriver webDriver) {
+    var executor = getTimingExecutor(webDriver);
+    if (executor != null) {
+      executor.endTest();
+    }
+  }
+
+  private static CommandTimingExecutor getTimingExecutor(WebDriver webDriver) {
+    if (webDriver instanceof RemoteWebDriver
+        && ((RemoteWebDriver) webDriver).getCommandExecutor() instanceof CommandTimingExecutor) {
+      return (CommandTimingExecutor) ((RemoteWebDriver) webDriver).getCommandExecutor();
+    }
+    return null;
+  }
+
+  private synchronized CommandStatistics startTest() {
+    if (statisticsClaimed) {
+      statistics = new CommandStatistics();
+    }
+    statisticsClaimed = true;
+    return statistics;
+  }
+
+  private synchronized void endTest() {
+    // Claimed so the next test still starts with statistics of its own
+    statistics = new CommandStatistics();
+    statisticsClaimed = true;
+  }
+
+  @Override
+  public Response execute(Command command) throws IOException {
+    var start = System.nanoTime();
+    try {
+      return delegate.execute(command);
+    } finally {
+      statistics.recordCommand(command.getName(), System.nanoTime() - start);
+    }
+  }
+
+  @Override
+  public void setLocalLogs(LocalLogs logs) {
+    if (delegate instanceof NeedsLocalLogs) {
+      ((NeedsLocalLogs) delegate).setLocalLogs(logs);
+    }
+  }
+}
@@ -0,0 +1,93 @@
+package io.github.kgress.scaffold;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import lombok.Getter;
+
+/**
+ * The outcome of a combined wait from {@link AutomationWait#allOf(WaitCondition[])}, {@link
+ * AutomationWait#anyOf(WaitCondition[])} or {@link AutomationWait#sequence(WaitCondition[])}. Says
+ * how long each condition took, so slow steps can be found without timing every wait by hand.
+ */
+@Getter
+public class CompositeWaitResult {
+
+  /**
+   * The results of every condition, in the order they were passed in.
+   */
+  private final List<ConditionResult> conditionResults;
+
+  /**
+   * How long the whole wait took.
+   */
+  private final Duration elapsed;
+
+  CompositeWaitResult(List<ConditionResult> conditionResults, Duration elapsed) {
+    this.conditionResults = List.copyOf(conditionResults);
+    this.elapsed = elapsed;
+  }
+
+  /**
+   * Returns the condition that took the longest to be met.
+   *
+   * @return the slowest {@link ConditionResult}, or empty if no condition was met
+   */
+  public Optional<ConditionResult> getSlowestCondition() {
+    return conditionResults.stream()
+        .filter(ConditionResult::isSatisfied)
+        .max(Comparator.comparing(ConditionResult::getElapsed));
+  }
+
+  /**
+   * Returns the conditions that were met before the wait finished. For {@link
+   * AutomationWait#anyOf(WaitCondition[])}, this is the condition (or conditions, when they were
+   * met on the same poll) that ended the wait.
+   *
+   * @return the met conditions as a {@link List} of {@link ConditionResult}
+   */
+  public List<ConditionResult> getSatisfiedConditions() {
+    return conditionResults.stream()
+        .filter(ConditionResult::isSatisfied)
+        .collect(Collectors.toList());
+  }
+
+  @Override
+  public String toString() {
+    return String.format("CompositeWaitResult{elapsed=%sms, conditions=%s}", elapsed.toMillis(),
+        conditionResults);
+  }
+
+  /**
+   * The result of a single condition within a combined wait.
+   */
+  @Getter
+  public static class ConditionResult {
+
+    private final WaitCondition<?> condition;
+
+    private final boolean satisfied;
+
+    /**
+     * How long the condition took to be met. For {@link AutomationWait#sequence(WaitCondition[])},
+     * this is measured from when the previous condition was met rather than from the start of the
+     * wait. Null if the condition wasn't met.
+     */
+    private final Duration elapsed;
+
+    ConditionResult(WaitCondition<?> condition, Duration elapsed) {
+      this.condition = condition;
+      this.satisfied = elapsed != null;
+      this.elapsed = elapsed;
+    }
+
+    @Override
+    public String toString() {
+      return satisfied
+          ? String.format("%s: %sms", condition, elapsed.toMillis())
+          : String.format("%s: not met", condition);
+    }
+  }
+}
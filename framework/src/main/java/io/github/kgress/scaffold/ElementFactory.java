@@ -0,0 +1,154 @@
+package io.github.kgress.scaffold;
+
+import io.github.kgress.scaffold.exception.ElementFactoryException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Creates new instances of Scaffold elements from their class. Finding elements and building
+ * component lists can create thousands of elements, so each element class's constructors are looked
+ * up once and kept as {@link MethodHandle}s instead of being found through reflection for every
+ * element.
+ * <p>
+ * The constructors are cached with a {@link ClassValue}, which keeps them tied to the element class
+ * itself and doesn't prevent the class from being unloaded.
+ */
+public final class ElementFactory {
+
+  private static final MethodType BY_CONSTRUCTOR =
+      MethodType.methodType(BaseWebElement.class, By.class);
+  private static final MethodType BY_AND_PARENT_BY_CONSTRUCTOR =
+      MethodType.methodType(BaseWebElement.class, By.class, By.class);
+  private static final MethodType WEB_ELEMENT_CONSTRUCTOR =
+      MethodType.methodType(BaseWebElement.class, WebElement.class);
+
+  private static final ClassValue<ElementConstructors> CONSTRUCTORS = new ClassValue<>() {
+    @Override
+    protected ElementConstructors computeValue(Class<?> elementClass) {
+      return new ElementConstructors(
+          findConstructor(elementClass, BY_CONSTRUCTOR),
+          findConstructor(elementClass, BY_AND_PARENT_BY_CONSTRUCTOR),
+          findConstructor(elementClass, WEB_ELEMENT_CONSTRUCTOR));
+    }
+  };
+
+  private ElementFactory() {
+  }
+
+  /**
+   * Creates a new element with the element class's {@code (By)} constructor.
+   *
+   * @param elementClass the class of the element to create
+   * @param by           the {@link By} locator for the element
+   * @param <T>          the type reference that extends {@link BaseWebElement}
+   * @return the new element
+   */
+  public static <T extends BaseWebElement> T create(Class<T> elementClass, By by) {
+    var constructor = getConstructor(elementClass, CONSTRUCTORS.get(elementClass).by, "(By)");
+    try {
+      return elementClass.cast((BaseWebElement) constructor.invokeExact(by));
+    } catch (Throwable e) {
+      throw rethrow(elementClass, e);
+    }
+  }
+
+  /**
+   * Creates a new element with the element class's {@code (By, By)} constructor.
+   *
+   * @param elementClass the class of the element to create
+   * @param by           the {@link By} locator for the element
+   * @param parentBy     the {@link By} locator for the element's parent
+   * @param <T>          the type reference that extends {@link BaseWebElement}
+   * @return the new element
+   */
+  public static <T extends BaseWebElement> T create(Class<T> elementClass, By by, By parentBy) {
+    var constructor = getConstructor(elementClass, CONSTRUCTORS.get(elementClass).byAndParentBy,
+        "(By, By)");
+    try {
+      return elementClass.cast((BaseWebElement) constructor.invokeExact(by, parentBy));
+    } catch (Throwable e) {
+      throw rethrow(elementClass, e);
+    }
+  }
+
+  /**
+   * Creates a new element with the element class's deprecated {@code (WebElement)} constructor.
+   *
+   * @param elementClass the class of the element to create
+   * @param webElement   the raw {@link WebElement} being wrapped
+   * @param <T>          the type reference that extends {@link BaseWebElement}
+   * @return the new element
+   */
+  public static <T extends BaseWebElement> T create(Class<T> elementClass, WebElement webElement) {
+    var constructor = getConstructor(elementClass, CONSTRUCTORS.get(elementClass).webElement,
+        "(WebElement)");
+    try {
+      return elementClass.cast((BaseWebElement) constructor.invokeExact(webElement));
+    } catch (Throwable e) {
+      throw rethrow(elementClass, e);
+    }
+  }
+
+  /**
+   * Looks up a public constructor and adapts it to return a {@link BaseWebElement}, so it can be
+   * invoked exactly without knowing the element class at compile time.
+   *
+   * @param elementClass the class of the element
+   * @param type         the constructor's parameters, returning {@link BaseWebElement}
+   * @return the constructor as a {@link MethodHandle}, or null if the class doesn't have it
+   */
+  private static MethodHandle findConstructor(Class<?> elementClass, MethodType type) {
+    try {
+      var constructor = elementClass.getConstructor(type.parameterArray());
+      return MethodHandles.lookup().unreflectConstructor(constructor).asType(type);
+    } catch (NoSuchMethodException | IllegalAccessException e) {
+      return null;
+    }
+  }
+
+  private static MethodHandle getConstructor(Class<?> elementClass, MethodHandle constructor,
+      String signature) {
+    if (constructor == null) {
+      throw new ElementFactoryException(String.format(
+          "Element class [%s] does not have a public %s constructor", elementClass.getName(),
+          signature));
+    }
+    return constructor;
+  }
+
+  /**
+   * Lets unchecked exceptions thrown by the element's constructor through untouched, and only wraps
+   * checked ones.
+   */
+  private static RuntimeException rethrow(Class<?> elementClass, Throwable e) {
+    if (e instanceof RuntimeException) {
+      return (RuntimeException) e;
+    }
+    if (e instanceof Error) {
+      throw (Error) e;
+    }
+    return new ElementFactoryException(
+        String.format("Could not create element [%s]", elementClass.getName()), e);
+  }
+
+  /**
+   * The constructors of a single element class. Any of them may be null if the class doesn't
+   * declare it.
+   */
+  private static class ElementConstructors {
+
+    private final MethodHandle by;
+    private final MethodHandle byAndParentBy;
+    private final MethodHandle webElement;
+
+    private ElementConstructors(MethodHandle by, MethodHandle byAndParentBy,
+        MethodHandle webElement) {
+      this.by = by;
+      this.byAndParentBy = byAndParentBy;
+      this.webElement = webElement;
+    }
+  }
+}
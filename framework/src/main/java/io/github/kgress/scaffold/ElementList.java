@@ -0,0 +1,159 @@
+package io.github.kgress.scaffold;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+
+/**
+ * A list of strongly typed Scaffold elements that were all found with a single {@link
+ * WebDriverWrapper#findElements(By)} call. Created by {@link BaseWebElement#findElementList(Class,
+ * By)}.
+ * <p>
+ * Every element in the list has its own {@link ByIndex} locator, which finds the element at its
+ * position in the list rather than the first element that matches the list's locator. This means
+ * each element can be found again on its own if the page changes, without falling back to the
+ * deprecated {@link WebElement} constructors.
+ * <p>
+ * Reading the same properties from every element in a long list would normally cost one round trip
+ * to the browser per element, per property. {@link #getSnapshots()} reads them for the whole list
+ * with a single script instead. Snapshots can also be taken while the list is being found with
+ * {@link BaseWebElement#findElementList(Class, By, Collection, Collection)}.
+ *
+ * @param <T> the type of element in the list
+ */
+public class ElementList<T extends BaseWebElement> extends AbstractList<T> implements RandomAccess {
+
+  private final List<T> elements;
+
+  @Getter(AccessLevel.PRIVATE)
+  private final List<WebElement> rawElements;
+
+  @Getter(AccessLevel.PRIVATE)
+  private final WebDriverWrapper webDriverWrapper;
+
+  private volatile List<ElementSnapshot> snapshots;
+
+  ElementList(List<T> elements, List<WebElement> rawElements, WebDriverWrapper webDriverWrapper) {
+    this.elements = List.copyOf(elements);
+    this.rawElements = List.copyOf(rawElements);
+    this.webDriverWrapper = webDriverWrapper;
+  }
+
+  @Override
+  public T get(int index) {
+    return elements.get(index);
+  }
+
+  @Override
+  public int size() {
+    return elements.size();
+  }
+
+  /**
+   * Returns the snapshots of every element in the list. If snapshots weren't taken when the list
+   * was found, they are taken now with the element's text, tag name, rect, and state, but no
+   * attributes or css values.
+   *
+   * @return the snapshots as a {@link List} of {@link ElementSnapshot}, in the same order as the
+   * elements
+   */
+  public List<ElementSnapshot> getSnapshots() {
+    if (snapshots == null) {
+      takeSnapshots(List.of(), List.of());
+    }
+    return snapshots;
+  }
+
+  /**
+   * Returns the snapshot of a single element in the list.
+   *
+   * @param index the position of the element
+   * @return the {@link ElementSnapshot}
+   * @see #getSnapshots()
+   */
+  public ElementSnapshot getSnapshot(int index) {
+    return getSnapshots().get(index);
+  }
+
+  /**
+   * Takes a snapshot of every element in the list with a single round trip to the browser, replacing
+   * any snapshots taken before. The raw elements found with the list are used directly. If any of
+   * them have gone stale, every element is found again by its own locator first.
+   *
+   * @param attributeNames   the attributes to include in each snapshot
+   * @param cssPropertyNames the css properties to include in each snapshot
+   * @return the snapshots as a {@link List} of {@link ElementSnapshot}, in the same order as the
+   * elements
+   */
+  public List<ElementSnapshot> takeSnapshots(Collection<String> attributeNames,
+      Collection<String> cssPropertyNames) {
+    if (isEmpty()) {
+      snapshots = List.of();
+      return snapshots;
+    }
+    try {
+      var result = (List<?>) getWebDriverWrapper()
+          .getJavascriptExecutor()
+          .executeScript(ElementSnapshot.SNAPSHOT_SCRIPT, getRawElements(),
+              new ArrayList<>(attributeNames), new ArrayList<>(cssPropertyNames));
+      var newSnapshots = new ArrayList<ElementSnapshot>();
+      result.forEach(snapshot -> newSnapshots.add(ElementSnapshot.fromScriptResult(snapshot)));
+      snapshots = List.copyOf(newSnapshots);
+    } catch (StaleElementReferenceException e) {
+      snapshots = List.copyOf(BaseWebElement.snapshot(this, attributeNames, cssPropertyNames));
+    }
+    return snapshots;
+  }
+
+  /**
+   * A locator for the element at a specific position among the elements matching a child locator
+   * within a scope. The scope is found the same way the element that created the list is found: the
+   * first match of each scope locator, each within the one before it. This keeps the positions the
+   * same as the list's, even when a scope locator matches more than one element on the page.
+   * Finding it costs one round trip per scope locator plus one for the children.
+   */
+  public static class ByIndex extends By {
+
+    @Getter
+    private final List<By> scopeBys;
+
+    @Getter
+    private final By childBy;
+
+    @Getter
+    private final int index;
+
+    public ByIndex(List<By> scopeBys, By childBy, int index) {
+      this.scopeBys = List.copyOf(scopeBys);
+      this.childBy = childBy;
+      this.index = index;
+    }
+
+    @Override
+    public List<WebElement> findElements(SearchContext context) {
+      var scope = context;
+      for (var scopeBy : getScopeBys()) {
+        var matches = scope.findElements(scopeBy);
+        if (matches.isEmpty()) {
+          return List.of();
+        }
+        scope = matches.get(0);
+      }
+      var elements = scope.findElements(getChildBy());
+      return getIndex() < elements.size() ? List.of(elements.get(getIndex())) : List.of();
+    }
+
+    @Override
+    public String toString() {
+      return String.format("By.index: %s > %s[%s]", getScopeBys(), getChildBy(), getIndex());
+    }
+  }
+}
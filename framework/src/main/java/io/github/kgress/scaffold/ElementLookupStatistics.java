@@ -0,0 +1,124 @@
+package io.github.kgress.scaffold;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters for how Scaffold elements found their raw {@link org.openqa.selenium.WebElement} during a
+ * single test. A new set of counters is created with every {@link WebDriverWrapper}, so the numbers
+ * always describe the test that is currently running on the thread. Apart from {@link
+ * #getRawWebElementRequests()}, the counters are only updated while the element cache or the lookup
+ * fast path is enabled.
+ */
+public class ElementLookupStatistics {
+
+  private final LongAdder rawWebElementRequests = new LongAdder();
+  private final LongAdder cacheHits = new LongAdder();
+  private final LongAdder cacheMisses = new LongAdder();
+  private final LongAdder staleRetries = new LongAdder();
+  private final LongAdder fastPathHits = new LongAdder();
+  private final LongAdder fastPathMisses = new LongAdder();
+  private final LongAdder roundTripsSaved = new LongAdder();
+
+  /**
+   * @return the number of times an element asked for its raw element, whether or not the cache was
+   * enabled
+   */
+  public long getRawWebElementRequests() {
+    return rawWebElementRequests.sum();
+  }
+
+  /**
+   * @return the number of times an element asked for its raw element while the cache was enabled
+   */
+  public long getLookups() {
+    return getCacheHits() + getCacheMisses();
+  }
+
+  /**
+   * @return the number of lookups that were served from the element cache
+   */
+  public long getCacheHits() {
+    return cacheHits.sum();
+  }
+
+  /**
+   * @return the number of lookups that had to find the element because the cache was empty or no
+   * longer valid
+   */
+  public long getCacheMisses() {
+    return cacheMisses.sum();
+  }
+
+  /**
+   * @return the number of times a cached element had gone stale and was found again
+   */
+  public long getStaleRetries() {
+    return staleRetries.sum();
+  }
+
+  /**
+   * @return the number of lookups that found a displayed element without waiting
+   */
+  public long getFastPathHits() {
+    return fastPathHits.sum();
+  }
+
+  /**
+   * @return the number of lookups that had to fall back to waiting for the element
+   */
+  public long getFastPathMisses() {
+    return fastPathMisses.sum();
+  }
+
+  /**
+   * @return the number of WebDriver commands the fast path saved compared to always waiting and then
+   * finding the element. Lookups that miss the fast path cost extra commands, so this can be negative
+   * on pages where elements are rarely displayed by the time they are used.
+   */
+  public long getRoundTripsSaved() {
+    return roundTripsSaved.sum();
+  }
+
+  /**
+   * @return the ratio of cached lookups that were hits, between 0 and 1
+   */
+  public double getCacheHitRatio() {
+    var lookups = getLookups();
+    return lookups == 0 ? 0D : (double) getCacheHits() / lookups;
+  }
+
+  void recordRawWebElementRequest() {
+    rawWebElementRequests.increment();
+  }
+
+  void recordCacheHit() {
+    cacheHits.increment();
+  }
+
+  void recordCacheMiss() {
+    cacheMisses.increment();
+  }
+
+  void recordStaleRetry() {
+    staleRetries.increment();
+    ScaffoldMeters.recordStaleRetry();
+  }
+
+  void recordFastPathHit() {
+    fastPathHits.increment();
+    roundTripsSaved.increment();
+  }
+
+  void recordFastPathMiss(int commandsSpent, boolean reusedWaitedElement) {
+    fastPathMisses.increment();
+    roundTripsSaved.add((reusedWaitedElement ? 1 : 0) - commandsSpent);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s element lookups, %s cache hits, %s cache misses, %s stale retries, "
+            + "%s fast path hits, %s fast path misses, %s round trips saved",
+        getLookups(), getCacheHits(), getCacheMisses(), getStaleRetries(), getFastPathHits(),
+        getFastPathMisses(), getRoundTripsSaved());
+  }
+}
@@ -0,0 +1,164 @@
+package io.github.kgress.scaffold;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+import org.openqa.selenium.Rectangle;
+
+/**
+ * An immutable copy of an element's state, read from the browser with a single script rather than
+ * one WebDriver command per property. Useful for page verifications that assert on many properties
+ * of the same element, or of many elements at once, since every command is a round trip to the
+ * browser.
+ * <p>
+ * The values are read the same way the browser exposes them to scripts, which is close to but not
+ * exactly what the individual WebDriver commands return:
+ * <p>
+ * - text is the element's {@code innerText} - attributes prefer the element's property over its
+ * attribute, the same way {@link org.openqa.selenium.WebElement#getAttribute(String)} does -
+ * displayed is based on the computed style and the element's size - rect is relative to the
+ * document
+ * <p>
+ * Use {@link BaseWebElement#snapshot(String...)} to take a snapshot of one element or {@link
+ * BaseWebElement#snapshot(java.util.List, java.util.Collection, java.util.Collection)} to take
+ * snapshots of many elements in the same call.
+ */
+@Getter
+public class ElementSnapshot {
+
+  /**
+   * Takes snapshots of the elements in {@code arguments[0]}, which is either a single element or an
+   * array of them. An array can also hold locators from {@link ScriptLocator#toScriptLocator(BaseWebElement)},
+   * which are found in the browser, and a locator that doesn't find a displayed element has null in
+   * its place instead of a snapshot. {@code arguments[1]} are the attribute names and {@code
+   * arguments[2]} are the css property names to read.
+   */
+  static final String SNAPSHOT_SCRIPT = ""
+      + "var attributeNames = arguments[1] || [];"
+      + "var cssPropertyNames = arguments[2] || [];"
+      + ScriptLocator.FIND_ELEMENT_FUNCTION
+      + ScriptLocator.IS_DISPLAYED_FUNCTION
+      + "function resolve(target) {"
+      + "  if (target instanceof Element) {"
+      + "    return target;"
+      + "  }"
+      + "  var context = target.parent ? findElement(target.parent, document) : document;"
+      + "  var element = context ? findElement(target.element, context) : null;"
+      + "  return element && isDisplayed(element) ? element : null;"
+      + "}"
+      + "function snapshot(element) {"
+      + "  var style = window.getComputedStyle(element);"
+      + "  var bounds = element.getBoundingClientRect();"
+      + "  var attributes = {};"
+      + "  attributeNames.forEach(function (name) {"
+      + "    var property = element[name];"
+      + "    attributes[name] = property !== undefined && property !== null"
+      + "        && typeof property !== 'object' && typeof property !== 'function'"
+      + "        ? String(property) : element.getAttribute(name);"
+      + "  });"
+      + "  var cssValues = {};"
+      + "  cssPropertyNames.forEach(function (name) {"
+      + "    cssValues[name] = style.getPropertyValue(name);"
+      + "  });"
+      + "  return {"
+      + "    text: element.innerText === undefined ? element.textContent : element.innerText,"
+      + "    tagName: element.tagName.toLowerCase(),"
+      + "    attributes: attributes,"
+      + "    cssValues: cssValues,"
+      + "    x: Math.round(bounds.left + window.pageXOffset),"
+      + "    y: Math.round(bounds.top + window.pageYOffset),"
+      + "    width: Math.round(bounds.width),"
+      + "    height: Math.round(bounds.height),"
+      + "    selected: !!(element.selected || element.checked),"
+      + "    displayed: style.display !== 'none' && style.visibility !== 'hidden'"
+      + "        && element.getClientRects().length > 0,"
+      + "    enabled: !element.disabled"
+      + "  };"
+      + "}"
+      + "if (!Array.isArray(arguments[0])) {"
+      + "  return snapshot(arguments[0]);"
+      + "}"
+      + "return arguments[0].map(function (target) {"
+      + "  var element = resolve(target);"
+      + "  return element ? snapshot(element) : null;"
+      + "});";
+
+  private final String text;
+  private final String tagName;
+  private final Map<String, String> attributes;
+  private final Map<String, String> cssValues;
+  private final Rectangle rect;
+  private final boolean selected;
+  private final boolean displayed;
+  private final boolean enabled;
+
+  public ElementSnapshot(String text, String tagName, Map<String, String> attributes,
+      Map<String, String> cssValues, Rectangle rect, boolean selected, boolean displayed,
+      boolean enabled) {
+    this.text = text;
+    this.tagName = tagName;
+    this.attributes = Collections.unmodifiableMap(new LinkedHashMap<>(attributes));
+    this.cssValues = Collections.unmodifiableMap(new LinkedHashMap<>(cssValues));
+    this.rect = rect;
+    this.selected = selected;
+    this.displayed = displayed;
+    this.enabled = enabled;
+  }
+
+  /**
+   * Returns the value of an attribute that was requested when the snapshot was taken.
+   *
+   * @param name the name of the attribute
+   * @return the value as a {@link String}, or null if the element doesn't have the attribute or it
+   * wasn't part of the snapshot
+   */
+  public String getAttribute(String name) {
+    return attributes.get(name);
+  }
+
+  /**
+   * Returns the value of a css property that was requested when the snapshot was taken.
+   *
+   * @param propertyName the name of the css property
+   * @return the value as a {@link String}, or null if it wasn't part of the snapshot
+   */
+  public String getCssValue(String propertyName) {
+    return cssValues.get(propertyName);
+  }
+
+  /**
+   * Creates a snapshot from the object {@link #SNAPSHOT_SCRIPT} returned for a single element.
+   *
+   * @param result the script result
+   * @return the {@link ElementSnapshot}
+   */
+  @SuppressWarnings("unchecked")
+  static ElementSnapshot fromScriptResult(Object result) {
+    var values = (Map<String, Object>) result;
+    return new ElementSnapshot(
+        (String) values.get("text"),
+        (String) values.get("tagName"),
+        toStringMap(values.get("attributes")),
+        toStringMap(values.get("cssValues")),
+        new Rectangle(toInt(values.get("x")), toInt(values.get("y")),
+            toInt(values.get("height")), toInt(values.get("width"))),
+        Boolean.TRUE.equals(values.get("selected")),
+        Boolean.TRUE.equals(values.get("displayed")),
+        Boolean.TRUE.equals(values.get("enabled")));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, String> toStringMap(Object value) {
+    var stringMap = new LinkedHashMap<String, String>();
+    if (value instanceof Map) {
+      ((Map<String, Object>) value).forEach((key, entry) ->
+          stringMap.put(key, entry == null ? null : String.valueOf(entry)));
+    }
+    return stringMap;
+  }
+
+  private static int toInt(Object value) {
+    return value instanceof Number ? ((Number) value).intValue() : 0;
+  }
+}
@@ -0,0 +1,120 @@
+package io.github.kgress.scaffold;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import lombok.Getter;
+
+/**
+ * The outcome of {@link BasePage#fill(java.util.Map)}. A field that couldn't be filled doesn't stop
+ * the others, so this says which fields failed and why, along with what every field held before.
+ */
+@Getter
+public class FillResult {
+
+  /**
+   * The results of every field, in the order they were passed in.
+   */
+  private final List<FieldResult> fieldResults;
+
+  FillResult(List<FieldResult> fieldResults) {
+    this.fieldResults = List.copyOf(fieldResults);
+  }
+
+  /**
+   * Returns whether every field was filled.
+   *
+   * @return true if no field failed
+   */
+  public boolean isSuccessful() {
+    return fieldResults.stream().allMatch(FieldResult::isSuccessful);
+  }
+
+  /**
+   * Returns the fields that couldn't be filled.
+   *
+   * @return the failed fields as a {@link List} of {@link FieldResult}
+   */
+  public List<FieldResult> getFailures() {
+    return fieldResults.stream()
+        .filter(fieldResult -> !fieldResult.isSuccessful())
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Returns the result of a single field.
+   *
+   * @param element the element of the field
+   * @return the {@link FieldResult}, or empty if the element wasn't filled
+   */
+  public Optional<FieldResult> getFieldResult(FormStateElement element) {
+    return fieldResults.stream()
+        .filter(fieldResult -> fieldResult.getElement() == element)
+        .findFirst();
+  }
+
+  /**
+   * Throws the error of the first field that couldn't be filled, with every other failure attached
+   * as a suppressed exception.
+   *
+   * @return this {@link FillResult}, if every field was filled
+   */
+  public FillResult throwIfFailed() {
+    var failures = getFailures();
+    if (failures.isEmpty()) {
+      return this;
+    }
+    var error = failures.get(0).getError();
+    failures.stream().skip(1).forEach(failure -> error.addSuppressed(failure.getError()));
+    throw error;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("FillResult{successful=%s, fields=%s}", isSuccessful(), fieldResults);
+  }
+
+  /**
+   * The result of filling a single field.
+   */
+  @Getter
+  public static class FieldResult {
+
+    private final FormStateElement element;
+
+    /**
+     * The value the field was asked to hold.
+     */
+    private final Object value;
+
+    /**
+     * What the field held before it was filled, like the text of an input or whether a checkbox
+     * was checked. Null if the field failed.
+     */
+    private final Object previousValue;
+
+    /**
+     * Why the field couldn't be filled. Null if the field was filled.
+     */
+    private final RuntimeException error;
+
+    FieldResult(FormStateElement element, Object value, Object previousValue,
+        RuntimeException error) {
+      this.element = element;
+      this.value = value;
+      this.previousValue = previousValue;
+      this.error = error;
+    }
+
+    public boolean isSuccessful() {
+      return error == null;
+    }
+
+    @Override
+    public String toString() {
+      return isSuccessful()
+          ? String.format("%s: filled", element)
+          : String.format("%s: %s", element, error.getMessage());
+    }
+  }
+}
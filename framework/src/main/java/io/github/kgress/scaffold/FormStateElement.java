@@ -0,0 +1,35 @@
+package io.github.kgress.scaffold;
+
+import java.util.Map;
+
+/**
+ * An element whose state can be set with {@link BaseWebElement#setFormState(Map)} and {@link
+ * BasePage#fill(Map)}, like a {@link io.github.kgress.scaffold.webelements.CheckBoxWebElement}, a
+ * {@link io.github.kgress.scaffold.webelements.DropDownWebElement} or an {@link
+ * io.github.kgress.scaffold.webelements.InputWebElement}.
+ * <p>
+ * Scaffold's elements that extend {@link BaseWebElement} are changed in the browser with a single
+ * script where their locators allow it. Anything else is set with {@link
+ * #setFormStateWithWebDriver(Object)}.
+ */
+public interface FormStateElement {
+
+  /**
+   * Describes the change {@link BaseWebElement#setFormState(Map)} makes in the browser to put this
+   * element into a state.
+   *
+   * @param state the requested state
+   * @return the change as a {@link Map} with its {@code kind} and the requested value
+   * @throws IllegalArgumentException if the state isn't valid for the element
+   */
+  Map<String, Object> toFormStateChange(Object state);
+
+  /**
+   * Puts this element into a state with WebDriver, for when {@link BaseWebElement#setFormState(Map)}
+   * couldn't do it in the browser.
+   *
+   * @param state the requested state, already checked by {@link #toFormStateChange(Object)}
+   * @return the element's state before it was changed
+   */
+  Object setFormStateWithWebDriver(Object state);
+}
@@ -0,0 +1,132 @@
+package io.github.kgress.scaffold;
+
+/**
+ * The script behind {@link BaseWebElement#setFormState(java.util.Map)}.
+ * <p>
+ * Each change is made the way a user would make it, so the page's own listeners see it: checkboxes
+ * and radio buttons are clicked, and drop downs fire {@code input} and {@code change} events once
+ * their options are selected. Text is set through the native value setter of the input or text
+ * area, so frameworks that track the value, like React, see the change, and the same events are
+ * fired afterwards. A change is only made when the element isn't already in the requested state, so
+ * setting the same state twice does nothing the second time.
+ */
+final class FormStateScript {
+
+  /**
+   * Applies the changes in {@code arguments[0]} in order and returns, for each one it got to, either
+   * the element's previous state under {@code previous} or the reason it couldn't be changed in the
+   * browser under {@code error}, along with its previous state if the script had already changed
+   * it. The script stops after the first change it couldn't make, so the changes after it aren't
+   * made before that element has been dealt with. A checkbox or radio button the script already clicked is also marked as {@code clicked}, so
+   * it isn't clicked again. An element that's missing, disabled, or hidden is left alone so
+   * WebDriver can wait for it instead.
+   */
+  static final String SET_STATE_SCRIPT = ""
+      + ScriptLocator.FIND_ELEMENT_FUNCTION
+      + ScriptLocator.IS_DISPLAYED_FUNCTION
+      + "function locate(locator) {"
+      + "  var context = locator.parent ? findElement(locator.parent, document) : document;"
+      + "  return context ? findElement(locator.element, context) : null;"
+      + "}"
+      + "function fire(element, type) {"
+      + "  element.dispatchEvent(new Event(type, {bubbles: true}));"
+      + "}"
+      + "function setChecked(element, checked) {"
+      + "  var previous = element.checked;"
+      + "  if (previous !== checked) {"
+      + "    element.click();"
+      + "    if (element.checked !== checked) {"
+      + "      return {error: 'the click did not change the element', previous: previous, clicked: true};"
+      + "    }"
+      + "  }"
+      + "  return {previous: previous};"
+      + "}"
+      + "function setText(element, value) {"
+      + "  var prototype = element instanceof HTMLTextAreaElement ? HTMLTextAreaElement.prototype"
+      + "      : element instanceof HTMLInputElement ? HTMLInputElement.prototype : null;"
+      + "  if (!prototype || element.readOnly) {"
+      + "    return {error: 'not an editable input or text area'};"
+      + "  }"
+      + "  var previous = element.value;"
+      + "  if (previous !== value) {"
+      + "    element.focus();"
+      + "    Object.getOwnPropertyDescriptor(prototype, 'value').set.call(element, value);"
+      + "    fire(element, 'input');"
+      + "    fire(element, 'change');"
+      + "    if (element.value !== value) {"
+      + "      return {error: 'the value read back differently', previous: previous};"
+      + "    }"
+      + "  }"
+      + "  return {previous: previous};"
+      + "}"
+      + "function setSelected(element, values) {"
+      + "  if (!element.multiple && values.length !== 1) {"
+      + "    return {error: 'only one value can be selected'};"
+      + "  }"
+      + "  var options = Array.prototype.slice.call(element.options);"
+      + "  var previous = options.filter(function (option) {"
+      + "    return option.selected;"
+      + "  }).map(function (option) {"
+      + "    return option.value;"
+      + "  });"
+      + "  var missing = values.filter(function (value) {"
+      + "    return !options.some(function (option) {"
+      + "      return option.value === value;"
+      + "    });"
+      + "  });"
+      + "  if (missing.length > 0) {"
+      + "    return {error: 'no option with value ' + missing.join(', ')};"
+      + "  }"
+      + "  var changed = false;"
+      + "  options.forEach(function (option) {"
+      + "    var selected = values.indexOf(option.value) >= 0;"
+      + "    if (option.selected !== selected && (selected || element.multiple)) {"
+      + "      option.selected = selected;"
+      + "      changed = true;"
+      + "    }"
+      + "  });"
+      + "  if (changed) {"
+      + "    fire(element, 'input');"
+      + "    fire(element, 'change');"
+      + "  }"
+      + "  return {previous: previous};"
+      + "}"
+      + "function apply(change) {"
+      + "  try {"
+      + "    var element = locate(change.locator);"
+      + "    if (!element) {"
+      + "      return {error: 'missing'};"
+      + "    }"
+      + "    if (element.disabled) {"
+      + "      return {error: 'disabled'};"
+      + "    }"
+      + "    if (!isDisplayed(element)) {"
+      + "      return {error: 'not displayed'};"
+      + "    }"
+      + "    if (change.kind === 'checked') {"
+      + "      return setChecked(element, change.value);"
+      + "    }"
+      + "    if (change.kind === 'text') {"
+      + "      return setText(element, change.value);"
+      + "    }"
+      + "    if (change.kind === 'selected') {"
+      + "      return setSelected(element, change.values);"
+      + "    }"
+      + "    return {error: 'unknown change ' + change.kind};"
+      + "  } catch (e) {"
+      + "    return {error: e.message};"
+      + "  }"
+      + "}"
+      + "var results = [];"
+      + "for (var i = 0; i < arguments[0].length; i++) {"
+      + "  var result = apply(arguments[0][i]);"
+      + "  results.push(result);"
+      + "  if (result.error) {"
+      + "    break;"
+      + "  }"
+      + "}"
+      + "return results;";
+
+  private FormStateScript() {
+  }
+}
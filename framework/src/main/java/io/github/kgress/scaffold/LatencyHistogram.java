@@ -0,0 +1,120 @@
+package io.github.kgress.scaffold;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of latencies that many threads can record into at once without locking, in the
+ * spirit of an HDR histogram.
+ * <p>
+ * Latencies are recorded in microseconds into buckets that grow with the value: every microsecond
+ * below 32 has its own bucket, and every power of two above that is split into 16 buckets. A
+ * percentile is therefore never more than about 6% away from the latency that was actually
+ * recorded, and the whole histogram fits in a few kilobytes no matter how many latencies it holds.
+ * Latencies above about 19 hours are recorded as 19 hours.
+ */
+public class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 4;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int LINEAR_BUCKETS = SUB_BUCKETS * 2;
+  private static final int MAX_EXPONENT = 35;
+  private static final long MAX_MICROS = (1L << (MAX_EXPONENT + 1)) - 1;
+  private static final int BUCKET_COUNT = LINEAR_BUCKETS
+      + (MAX_EXPONENT - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+  private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+  private final LongAdder count = new LongAdder();
+  private final LongAdder totalMicros = new LongAdder();
+  private final LongAccumulator maxMicros = new LongAccumulator(Math::max, 0L);
+
+  /**
+   * Records a single latency.
+   *
+   * @param nanos the latency in nanoseconds
+   */
+  public void record(long nanos) {
+    var micros = Math.min(MAX_MICROS, Math.max(0L, nanos / 1_000L));
+    buckets.incrementAndGet(getBucketIndex(micros));
+    count.increment();
+    totalMicros.add(micros);
+    maxMicros.accumulate(micros);
+  }
+
+  /**
+   * @return the number of latencies recorded
+   */
+  public long getCount() {
+    return count.sum();
+  }
+
+  /**
+   * @return the longest latency recorded
+   */
+  public Duration getMax() {
+    return Duration.ofNanos(maxMicros.get() * 1_000L);
+  }
+
+  /**
+   * @return the average latency recorded
+   */
+  public Duration getMean() {
+    var recorded = getCount();
+    return Duration.ofNanos(recorded == 0 ? 0L : totalMicros.sum() * 1_000L / recorded);
+  }
+
+  /**
+   * Returns the latency that the given percentage of recorded latencies were at or below.
+   *
+   * @param percentile the percentile, from 0 to 100
+   * @return the latency at the percentile, or zero if nothing has been recorded
+   */
+  public Duration getValueAtPercentile(double percentile) {
+    var recorded = getCount();
+    if (recorded == 0) {
+      return Duration.ZERO;
+    }
+    var target = Math.max(1L, (long) Math.ceil(Math.min(100D, percentile) / 100D * recorded));
+    var seen = 0L;
+    for (var index = 0; index < BUCKET_COUNT; index++) {
+      seen += buckets.get(index);
+      if (seen >= target) {
+        return Duration.ofNanos(Math.min(getBucketUpperBound(index), maxMicros.get()) * 1_000L);
+      }
+    }
+    return getMax();
+  }
+
+  private static int getBucketIndex(long micros) {
+    if (micros < LINEAR_BUCKETS) {
+      return (int) micros;
+    }
+    var exponent = 63 - Long.numberOfLeadingZeros(micros);
+    var shift = exponent - SUB_BUCKET_BITS;
+    var subBucket = (int) (micros >>> shift) - SUB_BUCKETS;
+    return LINEAR_BUCKETS + (exponent - SUB_BUCKET_BITS - 1) * SUB_BUCKETS + subBucket;
+  }
+
+  private static long getBucketUpperBound(int index) {
+    if (index < LINEAR_BUCKETS) {
+      return index;
+    }
+    var exponent = (index - LINEAR_BUCKETS) / SUB_BUCKETS + SUB_BUCKET_BITS + 1;
+    var subBucket = (index - LINEAR_BUCKETS) % SUB_BUCKETS;
+    var shift = exponent - SUB_BUCKET_BITS;
+    return ((long) (SUB_BUCKETS + subBucket) << shift) + (1L << shift) - 1;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("count=%s p50=%.1fms p95=%.1fms p99=%.1fms max=%.1fms", getCount(),
+        toMillis(getValueAtPercentile(50)), toMillis(getValueAtPercentile(95)),
+        toMillis(getValueAtPercentile(99)), toMillis(getMax()));
+  }
+
+  private static double toMillis(Duration duration) {
+    return duration.toNanos() / 1_000_000D;
+  }
+}
@@ -0,0 +1,116 @@
+package io.github.kgress.scaffold;
+
+/**
+ * Scripts for {@link AutomationWait#waitUntilNetworkIdle(java.time.Duration, int, Long)}.
+ * <p>
+ * The page's network activity is tracked by wrapping {@code fetch} and {@code
+ * XMLHttpRequest.send} to count requests in flight, and by a {@code PerformanceObserver} that notes
+ * when any other resource, like an image or a script, finishes loading. The tracker is installed
+ * into the page the first time it's needed, and again after every navigation since a new document
+ * starts without it. Requests that were already in flight when the tracker was installed can't be
+ * counted, but their responses still show up as activity once they finish. {@link
+ * AutomationWait#installNetworkTracker()} installs it ahead of time with {@link #INSTALL_SCRIPT}.
+ */
+final class NetworkIdleScript {
+
+  /**
+   * Installs the network tracker into the page if it isn't there yet and returns it. The tracker's
+   * last activity starts at the end of the most recent resource the browser has already loaded.
+   */
+  private static final String INSTALL_TRACKER_FUNCTION = ""
+      + "function installNetworkTracker() {"
+      + "  if (window.__scaffoldNetworkTracker) {"
+      + "    return window.__scaffoldNetworkTracker;"
+      + "  }"
+      + "  var timeOrigin = performance.timeOrigin || performance.timing.navigationStart;"
+      + "  var lastActivity = 0;"
+      + "  performance.getEntriesByType('resource').concat(performance.getEntriesByType('navigation'))"
+      + "      .forEach(function (entry) {"
+      + "        lastActivity = Math.max(lastActivity, entry.responseEnd || 0, entry.loadEventEnd || 0);"
+      + "      });"
+      + "  var tracker = {inflight: 0, lastActivity: timeOrigin + lastActivity};"
+      + "  function start() {"
+      + "    tracker.inflight++;"
+      + "    tracker.lastActivity = Date.now();"
+      + "  }"
+      + "  function end() {"
+      + "    tracker.inflight = Math.max(0, tracker.inflight - 1);"
+      + "    tracker.lastActivity = Date.now();"
+      + "  }"
+      + "  if (window.fetch) {"
+      + "    var originalFetch = window.fetch;"
+      + "    window.fetch = function () {"
+      + "      start();"
+      + "      try {"
+      + "        return originalFetch.apply(this, arguments).then(function (response) {"
+      + "          end();"
+      + "          return response;"
+      + "        }, function (error) {"
+      + "          end();"
+      + "          throw error;"
+      + "        });"
+      + "      } catch (e) {"
+      + "        end();"
+      + "        throw e;"
+      + "      }"
+      + "    };"
+      + "  }"
+      + "  var originalSend = XMLHttpRequest.prototype.send;"
+      + "  XMLHttpRequest.prototype.send = function () {"
+      + "    var request = this;"
+      + "    start();"
+      + "    request.addEventListener('loadend', end);"
+      + "    try {"
+      + "      return originalSend.apply(request, arguments);"
+      + "    } catch (e) {"
+      + "      request.removeEventListener('loadend', end);"
+      + "      end();"
+      + "      throw e;"
+      + "    }"
+      + "  };"
+      + "  if (window.PerformanceObserver) {"
+      + "    try {"
+      + "      new PerformanceObserver(function () {"
+      + "        tracker.lastActivity = Date.now();"
+      + "      }).observe({entryTypes: ['resource']});"
+      + "    } catch (e) {"
+      + "    }"
+      + "  }"
+      + "  window.__scaffoldNetworkTracker = tracker;"
+      + "  return tracker;"
+      + "}";
+
+  /**
+   * Installs the network tracker into the page if it isn't there yet, so requests started from then
+   * on are counted by a later {@link #WAIT_SCRIPT}.
+   */
+  static final String INSTALL_SCRIPT = INSTALL_TRACKER_FUNCTION + "installNetworkTracker();";
+
+  /**
+   * Waits inside the browser until the document is complete, no more than {@code
+   * arguments[0].maxInflight} requests are in flight, and there's been no network activity for
+   * {@code arguments[0].quietPeriod} milliseconds, or until {@code arguments[1]} milliseconds have
+   * passed. Resolves with whether the network went idle and the number of requests in flight.
+   */
+  static final String WAIT_SCRIPT = ""
+      + "var callback = arguments[arguments.length - 1];"
+      + "var quietPeriod = arguments[0].quietPeriod;"
+      + "var maxInflight = arguments[0].maxInflight;"
+      + "var deadline = Date.now() + arguments[1];"
+      + INSTALL_TRACKER_FUNCTION
+      + "var tracker = installNetworkTracker();"
+      + "var interval = setInterval(check, 50);"
+      + "function check() {"
+      + "  var now = Date.now();"
+      + "  var idle = document.readyState === 'complete' && tracker.inflight <= maxInflight"
+      + "      && now - tracker.lastActivity >= quietPeriod;"
+      + "  if (idle || now >= deadline) {"
+      + "    clearInterval(interval);"
+      + "    callback({idle: idle, inflight: tracker.inflight});"
+      + "  }"
+      + "}"
+      + "check();";
+
+  private NetworkIdleScript() {
+  }
+}
@@ -0,0 +1,190 @@
+package io.github.kgress.scaffold;
+
+import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties;
+import java.io.IOException;
+import java.net.URL;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.ConnectionPool;
+import okhttp3.Credentials;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.openqa.selenium.remote.http.HttpClient;
+
+/**
+ * The {@link HttpClient.Factory} every remote browser session sends its commands through. Every
+ * element lookup, click, and read is its own request to the remote end, so the connections are
+ * kept open and shared by every session in the JVM instead of being opened per session.
+ * <p>
+ * Selenium's own factory keeps at most five idle connections, so a suite running more than five
+ * tests in parallel keeps closing connections and opening new ones, paying for a TLS handshake to
+ * Sauce or the hub every time. This factory keeps {@link DesiredCapabilitiesConfigurationProperties.RemoteHttpClient#getMaxIdleConnections()}
+ * connections instead, and every client it creates shares the same pool and dispatcher.
+ */
+@Slf4j
+public class RemoteHttpClientFactory implements HttpClient.Factory {
+
+  private static final String STATUS_PATH = "/status";
+
+  private static volatile RemoteHttpClientFactory instance;
+
+  @Getter(AccessLevel.PRIVATE)
+  private final DesiredCapabilitiesConfigurationProperties.RemoteHttpClient config;
+
+  @Getter(AccessLevel.PRIVATE)
+  private final ConnectionPool connectionPool;
+
+  @Getter(AccessLevel.PRIVATE)
+  private final OkHttpClient baseClient;
+
+  /**
+   * Creates a standalone factory. Scaffold itself always uses the JVM wide factory from
+   * {@link #getInstance(DesiredCapabilitiesConfigurationProperties)}.
+   *
+   * @param config the {@link DesiredCapabilitiesConfigurationProperties.RemoteHttpClient} settings
+   */
+  public RemoteHttpClientFactory(
+      DesiredCapabilitiesConfigurationProperties.RemoteHttpClient config) {
+    this.config = config;
+    this.connectionPool = new ConnectionPool(Math.max(1, config.getMaxIdleConnections()),
+        config.getKeepAliveInSeconds(), TimeUnit.SECONDS);
+    var threadCount = new AtomicInteger();
+    var dispatcher = new Dispatcher(Executors.newCachedThreadPool(runnable -> {
+      var thread = new Thread(runnable, "scaffold-remote-http-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }));
+    var builder = new OkHttpClient.Builder()
+        .connectionPool(connectionPool)
+        .dispatcher(dispatcher)
+        .followRedirects(true)
+        .followSslRedirects(true)
+        .connectTimeout(config.getConnectTimeoutInSeconds(), TimeUnit.SECONDS)
+        .readTimeout(config.getReadTimeoutInSeconds(), TimeUnit.SECONDS);
+    if (!config.isGzipEnabled()) {
+      // OkHttp asks for gzip on its own unless the request already says otherwise
+      builder.addInterceptor(chain -> chain.proceed(chain.request().newBuilder()
+          .header("Accept-Encoding", "identity")
+          .build()));
+    }
+    this.baseClient = builder.build();
+  }
+
+  /**
+   * Returns the factory for the JVM, creating it from the desired capabilities the first time it's
+   * requested.
+   *
+   * @param desiredCapabilities the {@link DesiredCapabilitiesConfigurationProperties} to configure
+   *                            the factory with if it does not exist yet
+   * @return the {@link RemoteHttpClientFactory}
+   */
+  public static RemoteHttpClientFactory getInstance(
+      DesiredCapabilitiesConfigurationProperties desiredCapabilities) {
+    if (instance == null) {
+      synchronized (RemoteHttpClientFactory.class) {
+        if (instance == null) {
+          instance = new RemoteHttpClientFactory(desiredCapabilities.getRemoteHttpClient());
+        }
+      }
+    }
+    return instance;
+  }
+
+  /**
+   * Returns a builder for a client on the shared connection pool, with the configured timeouts
+   * already set.
+   *
+   * @return the {@link HttpClient.Builder}
+   */
+  @Override
+  public HttpClient.Builder builder() {
+    return new HttpClient.Builder() {
+      @Override
+      public HttpClient createClient(URL url) {
+        var client = getBaseClient().newBuilder()
+            .connectTimeout(connectionTimeout.toMillis(), TimeUnit.MILLISECONDS)
+            .readTimeout(readTimeout.toMillis(), TimeUnit.MILLISECONDS)
+            .proxy(proxy)
+            .addNetworkInterceptor(chain -> {
+              // OkHttp sends the request again on a 408, which would run a command like a click
+              // or a new session twice. Selenium's own factory reports it as a server error instead
+              var response = chain.proceed(chain.request());
+              return response.code() == 408
+                  ? response.newBuilder().code(500).message("Server-Side Timeout").build()
+                  : response;
+            });
+        var userInfo = url.getUserInfo();
+        if (userInfo != null && !userInfo.isEmpty()) {
+          // Sauce URLs carry the user name and access key, which have to be sent as basic auth
+          var credentials = userInfo.split(":", 2);
+          var authorization = Credentials.basic(credentials[0],
+              credentials.length > 1 ? credentials[1] : "");
+          client.authenticator((route, response) ->
+              response.request().header("Authorization") != null ? null
+                  : response.request().newBuilder().header("Authorization", authorization).build());
+        }
+        return new org.openqa.selenium.remote.internal.OkHttpClient(client.build(), url);
+      }
+    }
+        .connectionTimeout(Duration.ofSeconds(getConfig().getConnectTimeoutInSeconds()))
+        .readTimeout(Duration.ofSeconds(getConfig().getReadTimeoutInSeconds()));
+  }
+
+  /**
+   * Closes every idle connection in the shared pool.
+   */
+  @Override
+  public void cleanupIdleClients() {
+    getConnectionPool().evictAll();
+  }
+
+  /**
+   * Opens a connection to the remote URL in the background by asking for its status, so the
+   * connection is already open when the first session starts. A failed warm up is only logged,
+   * since the session start reports the real problem if the remote end can't be reached.
+   *
+   * @param remoteUrl the remote URL sessions are started against
+   */
+  public void warmUp(URL remoteUrl) {
+    var statusUrl = remoteUrl.toExternalForm().replaceAll("/$", "") + STATUS_PATH;
+    var request = new Request.Builder().url(statusUrl).get().build();
+    var start = System.nanoTime();
+    getBaseClient().newCall(request).enqueue(new Callback() {
+      @Override
+      public void onFailure(Call call, IOException e) {
+        log.debug(String.format("Unable to warm up a connection to %s: %s", remoteUrl.getHost(),
+            e.getMessage()));
+      }
+
+      @Override
+      public void onResponse(Call call, Response response) {
+        response.close();
+        log.debug(String.format("Warmed up a connection to %s in %.1f ms.", remoteUrl.getHost(),
+            (System.nanoTime() - start) / 1_000_000D));
+      }
+    });
+  }
+
+  /**
+   * @return the number of connections open in the shared pool, idle or in use
+   */
+  public int getConnectionCount() {
+    return getConnectionPool().connectionCount();
+  }
+
+  /**
+   * @return the number of idle connections in the shared pool that are ready to be reused
+   */
+  public int getIdleConnectionCount() {
+    return getConnectionPool().idleConnectionCount();
+  }
+}
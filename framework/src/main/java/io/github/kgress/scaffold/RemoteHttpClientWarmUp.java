@@ -0,0 +1,60 @@
+package io.github.kgress.scaffold;
+
+import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Opens a connection to the remote URL on the shared {@link RemoteHttpClientFactory} as soon as the
+ * application context is refreshed, which happens when the first Scaffold test class is set up.
+ * The DNS lookup and TLS handshake then happen while the tests are still being set up instead of
+ * during the first session start.
+ */
+@Slf4j
+@Component
+public class RemoteHttpClientWarmUp {
+
+  @Getter(AccessLevel.PRIVATE)
+  private final DesiredCapabilitiesConfigurationProperties desiredCapabilities;
+
+  @Getter(AccessLevel.PRIVATE)
+  private final WebDriverManager webDriverManager;
+
+  private final AtomicBoolean warmUpStarted = new AtomicBoolean();
+
+  @Autowired
+  public RemoteHttpClientWarmUp(DesiredCapabilitiesConfigurationProperties desiredCapabilities,
+      WebDriverManager webDriverManager) {
+    this.desiredCapabilities = desiredCapabilities;
+    this.webDriverManager = webDriverManager;
+  }
+
+  /**
+   * Warms up a connection to the remote URL. This only happens once, the first time the
+   * application context is refreshed, and only if warm up is enabled and the run type starts its
+   * sessions remotely.
+   */
+  @EventListener(ContextRefreshedEvent.class)
+  public void warmUp() {
+    if (!getDesiredCapabilities().getRemoteHttpClient().isWarmUpEnabled()
+        || !warmUpStarted.compareAndSet(false, true)) {
+      return;
+    }
+    getWebDriverManager().getRemoteSessionUrl().ifPresent(remoteUrl -> {
+      try {
+        RemoteHttpClientFactory.getInstance(getDesiredCapabilities()).warmUp(new URL(remoteUrl));
+      } catch (MalformedURLException e) {
+        log.debug(String.format("Not warming up a connection to %s: %s", remoteUrl,
+            e.getMessage()));
+      }
+    });
+  }
+}
@@ -37,6 +37,9 @@ public class ScaffoldBaseTest {
     @Autowired
     private RestTemplate seleniumGridRestTemplate;
 
+    @Autowired
+    private WebDriverSessionPool webDriverSessionPool;
+
     /**
      * Starts a {@link WebDriver} instance by checking for the desiredCapabilities bean, configuring a new {@link WebDriverContext}
      * for the thread, and launching a new browser view.
@@ -95,7 +98,8 @@ public class ScaffoldBaseTest {
      */
     private void setupWebdriver(String testName) {
         log.debug(String.format("WebDriver setup executing for test %s", testName));
-        var webDriverManager = new WebDriverManager(desiredCapabilities, seleniumGridRestTemplate);
+        var webDriverManager = new WebDriverManager(desiredCapabilities, seleniumGridRestTemplate,
+                webDriverSessionPool);
         getTestContext().setContext(webDriverManager, testName);
     }
 
@@ -0,0 +1,116 @@
+package io.github.kgress.scaffold;
+
+import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties;
+import io.github.kgress.scaffold.environment.metrics.ScaffoldMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.openqa.selenium.TimeoutException;
+
+/**
+ * The meters Scaffold records into the global {@link ScaffoldMeterRegistry}, in one place so their
+ * names and tags stay the same everywhere they're recorded.
+ */
+final class ScaffoldMeters {
+
+  static final String SESSION_START = "scaffold.session.start";
+  static final String SESSION_QUIT = "scaffold.session.quit";
+  static final String SESSIONS_ACTIVE = "scaffold.sessions.active";
+  static final String WAIT = "scaffold.wait";
+  static final String WAIT_TIMEOUTS = "scaffold.wait.timeouts";
+  static final String ELEMENT_LOOKUPS = "scaffold.element.lookups";
+  static final String ELEMENT_STALE_RETRIES = "scaffold.element.stale.retries";
+
+  private static final AtomicInteger ACTIVE_SESSIONS = getRegistry()
+      .gauge(SESSIONS_ACTIVE, new AtomicInteger(), AtomicInteger::get);
+
+  /**
+   * Whether the current thread is inside a wait that's being recorded, so waits made on the way,
+   * like the element waits of a combined wait, aren't recorded a second time.
+   */
+  private static final ThreadLocal<Boolean> RECORDING_WAIT = ThreadLocal.withInitial(() -> false);
+
+  private ScaffoldMeters() {
+  }
+
+  /**
+   * Records a new session that has finished starting, tagged with the run type and browser, and
+   * counts it as active.
+   *
+   * @param desiredCapabilities the {@link DesiredCapabilitiesConfigurationProperties} of the session
+   * @param startNanos          the {@link System#nanoTime()} the session started at
+   */
+  static void recordSessionStart(DesiredCapabilitiesConfigurationProperties desiredCapabilities,
+      long startNanos) {
+    getRegistry().timer(SESSION_START,
+        "runType", String.valueOf(desiredCapabilities.getRunType()),
+        "browser", String.valueOf(desiredCapabilities.getBrowserType()))
+        .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    ACTIVE_SESSIONS.incrementAndGet();
+  }
+
+  /**
+   * Times a session being quit. The session no longer counts as active afterwards, even if the quit
+   * failed.
+   *
+   * @param quitSession quits the session
+   */
+  static void recordSessionQuit(Runnable quitSession) {
+    var start = System.nanoTime();
+    try {
+      quitSession.run();
+    } finally {
+      getRegistry().timer(SESSION_QUIT).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+      ACTIVE_SESSIONS.decrementAndGet();
+    }
+  }
+
+  /**
+   * Times a wait, tagged with the kind of wait, and counts it as a timeout if it throws a {@link
+   * TimeoutException}. Only the outermost wait on a thread is recorded, so a wait that's made up of
+   * other waits is timed and counted once, under its own type.
+   *
+   * @param registry the {@link ScaffoldMeterRegistry} to record the wait in
+   * @param waitType the kind of wait, like {@code text-contains} or {@code network-idle}
+   * @param wait     the wait
+   * @param <T>      the type the wait returns
+   * @return what the wait returned
+   */
+  static <T> T recordWait(ScaffoldMeterRegistry registry, String waitType, Supplier<T> wait) {
+    if (RECORDING_WAIT.get()) {
+      return wait.get();
+    }
+    RECORDING_WAIT.set(true);
+    var start = System.nanoTime();
+    try {
+      return wait.get();
+    } catch (TimeoutException e) {
+      registry.counter(WAIT_TIMEOUTS, "type", waitType).increment();
+      throw e;
+    } finally {
+      RECORDING_WAIT.set(false);
+      registry.timer(WAIT, "type", waitType)
+          .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  /**
+   * Records how many times elements asked for their raw element during a test.
+   *
+   * @param lookups the number of lookups in the test
+   */
+  static void recordTestLookups(long lookups) {
+    getRegistry().summary(ELEMENT_LOOKUPS).record(lookups);
+  }
+
+  /**
+   * Counts a cached element that went stale and had to be found again.
+   */
+  static void recordStaleRetry() {
+    getRegistry().counter(ELEMENT_STALE_RETRIES).increment();
+  }
+
+  private static ScaffoldMeterRegistry getRegistry() {
+    return ScaffoldMeterRegistry.getGlobalRegistry();
+  }
+}
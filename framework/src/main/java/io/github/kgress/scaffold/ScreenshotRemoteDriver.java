@@ -4,6 +4,7 @@ import org.openqa.selenium.Capabilities;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.CommandExecutor;
 import org.openqa.selenium.remote.DriverCommand;
 import org.openqa.selenium.remote.RemoteWebDriver;
 
@@ -18,6 +19,17 @@ public class ScreenshotRemoteDriver extends RemoteWebDriver implements TakesScre
         super(remoteAddress, desiredCapabilities);
     }
 
+    /**
+     * Creates a driver that sends its commands through the given executor, like an
+     * {@link org.openqa.selenium.remote.HttpCommandExecutor} built with the shared {@link RemoteHttpClientFactory}.
+     *
+     * @param executor              the {@link CommandExecutor} that sends commands to the remote end
+     * @param desiredCapabilities   the capabilities of the new session
+     */
+    public ScreenshotRemoteDriver(CommandExecutor executor, Capabilities desiredCapabilities) {
+        super(executor, desiredCapabilities);
+    }
+
     /**
      * Captures a screenshot and returns it with the provided Type Reference.
      *
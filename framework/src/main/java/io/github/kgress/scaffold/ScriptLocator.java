@@ -0,0 +1,105 @@
+package io.github.kgress.scaffold;
+
+import io.github.kgress.scaffold.util.AutomationUtils;
+import java.util.HashMap;
+import java.util.Map;
+import org.openqa.selenium.By;
+
+/**
+ * Converts {@link By} locators into a form that scripts running inside the browser can evaluate, so
+ * that waits can find elements without a WebDriver command per element.
+ * <p>
+ * Each locator becomes a map with a {@code using} strategy of css, id, className, name, tagName, or
+ * xpath and the {@code value} to search for. Any other locator, like a {@link
+ * org.openqa.selenium.support.pagefactory.ByChained} or a custom {@link By}, can't be evaluated in
+ * the browser and must be checked with WebDriver instead.
+ */
+final class ScriptLocator {
+
+  /**
+   * Finds the first element matching a locator from {@link #toScriptLocator(By)} within a context
+   * node. Used by scripts that evaluate locators in the browser.
+   */
+  static final String FIND_ELEMENT_FUNCTION = ""
+      + "function findElement(locator, context) {"
+      + "  if (locator.using === 'xpath') {"
+      + "    return document.evaluate(locator.value, context, null,"
+      + "        XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;"
+      + "  }"
+      + "  var selector = locator.value;"
+      + "  if (locator.using === 'id') {"
+      + "    selector = '#' + CSS.escape(locator.value);"
+      + "  } else if (locator.using === 'className') {"
+      + "    selector = '.' + CSS.escape(locator.value);"
+      + "  } else if (locator.using === 'name') {"
+      + "    selector = '[name=\"' + locator.value.replace(/\"/g, '\\\\\"') + '\"]';"
+      + "  }"
+      + "  return context.querySelector(selector);"
+      + "}";
+
+  /**
+   * Returns true when an element found with {@link #FIND_ELEMENT_FUNCTION} is visible, using the
+   * same rules as {@link ElementSnapshot#isDisplayed()}.
+   */
+  static final String IS_DISPLAYED_FUNCTION = ""
+      + "function isDisplayed(element) {"
+      + "  var style = window.getComputedStyle(element);"
+      + "  return style.display !== 'none' && style.visibility !== 'hidden'"
+      + "      && element.getClientRects().length > 0;"
+      + "}";
+
+  private ScriptLocator() {
+  }
+
+  /**
+   * Converts an element's locators into a map the browser can evaluate. The map has the element's
+   * own locator under {@code element} and, if it has one, the parent's locator under {@code
+   * parent}.
+   *
+   * @param element the element to convert
+   * @return the locators as a {@link Map}, or null if either locator can't be evaluated in the
+   * browser
+   */
+  static Map<String, Object> toScriptLocator(BaseWebElement element) {
+    var elementLocator = toScriptLocator(element.getBy());
+    if (elementLocator == null) {
+      return null;
+    }
+    var scriptLocator = new HashMap<String, Object>();
+    scriptLocator.put("element", elementLocator);
+    if (element.getParentBy() != null) {
+      var parentLocator = toScriptLocator(element.getParentBy());
+      if (parentLocator == null) {
+        return null;
+      }
+      scriptLocator.put("parent", parentLocator);
+    }
+    return scriptLocator;
+  }
+
+  /**
+   * Converts a single locator into a map the browser can evaluate.
+   *
+   * @param by the locator to convert
+   * @return the locator as a {@link Map}, or null if it can't be evaluated in the browser
+   */
+  static Map<String, String> toScriptLocator(By by) {
+    String using;
+    if (by instanceof By.ByCssSelector) {
+      using = "css";
+    } else if (by instanceof By.ById) {
+      using = "id";
+    } else if (by instanceof By.ByClassName) {
+      using = "className";
+    } else if (by instanceof By.ByName) {
+      using = "name";
+    } else if (by instanceof By.ByTagName) {
+      using = "tagName";
+    } else if (by instanceof By.ByXPath) {
+      using = "xpath";
+    } else {
+      return null;
+    }
+    return Map.of("using", using, "value", AutomationUtils.getUnderlyingLocatorByString(by));
+  }
+}
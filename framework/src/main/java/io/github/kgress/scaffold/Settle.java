@@ -0,0 +1,39 @@
+package io.github.kgress.scaffold;
+
+import io.github.kgress.scaffold.models.enums.SettleStrategyType;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Chooses how Scaffold waits for the page to settle after clicking elements on a page, overriding
+ * the {@code desired-capabilities.settle.strategy} property. The page's strategy is used from the
+ * time the page is verified with {@link BasePage#verifyIsOnPage(BaseWebElement...)} until another
+ * page is verified.
+ *
+ * <pre>{@code
+ *  &#64;Settle(SettleStrategyType.NETWORK_IDLE)
+ *  public class SearchPage extends BasePage {
+ *      ...
+ *  }
+ * }
+ * </pre>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Settle {
+
+  /**
+   * @return the {@link SettleStrategyType} for clicks on the page
+   */
+  SettleStrategyType value();
+
+  /**
+   * @return the {@link SettleStrategy} to use when {@link #value()} is {@link
+   * SettleStrategyType#CUSTOM}. It must have a no argument constructor.
+   */
+  Class<? extends SettleStrategy> custom() default SettleStrategy.class;
+}
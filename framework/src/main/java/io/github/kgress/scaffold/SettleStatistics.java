@@ -0,0 +1,69 @@
+package io.github.kgress.scaffold;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Counters for how much time was spent waiting for the page to settle after clicks during a single
+ * test, for each {@link SettleStrategy}. A new set of counters is created with every {@link
+ * WebDriverWrapper}, so the numbers always describe the test that is currently running on the
+ * thread.
+ */
+public class SettleStatistics {
+
+  private final Map<String, LongAdder> settles = new ConcurrentHashMap<>();
+  private final Map<String, LongAdder> settleNanos = new ConcurrentHashMap<>();
+
+  /**
+   * @return the names of every strategy that has been used
+   */
+  public Set<String> getStrategyNames() {
+    return new TreeSet<>(settles.keySet());
+  }
+
+  /**
+   * @param strategyName the name of the strategy, see {@link SettleStrategy#getName()}
+   * @return the number of clicks that settled with the strategy
+   */
+  public long getSettles(String strategyName) {
+    var count = settles.get(strategyName);
+    return count == null ? 0L : count.sum();
+  }
+
+  /**
+   * @param strategyName the name of the strategy, see {@link SettleStrategy#getName()}
+   * @return the total time spent settling with the strategy
+   */
+  public Duration getTotalTime(String strategyName) {
+    var nanos = settleNanos.get(strategyName);
+    return Duration.ofNanos(nanos == null ? 0L : nanos.sum());
+  }
+
+  /**
+   * @return the total time spent settling with every strategy
+   */
+  public Duration getTotalTime() {
+    return Duration.ofNanos(settleNanos.values().stream().mapToLong(LongAdder::sum).sum());
+  }
+
+  void recordSettle(String strategyName, long nanos) {
+    settles.computeIfAbsent(strategyName, name -> new LongAdder()).increment();
+    settleNanos.computeIfAbsent(strategyName, name -> new LongAdder()).add(nanos);
+  }
+
+  @Override
+  public String toString() {
+    if (settles.isEmpty()) {
+      return "no clicks settled";
+    }
+    return getStrategyNames().stream()
+        .map(name -> String.format("%s: %s settles in %sms", name, getSettles(name),
+            getTotalTime(name).toMillis()))
+        .collect(Collectors.joining(", "));
+  }
+}
@@ -0,0 +1,192 @@
+package io.github.kgress.scaffold;
+
+import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties;
+import io.github.kgress.scaffold.exception.SettleStrategyException;
+import io.github.kgress.scaffold.models.enums.SettleStrategyType;
+import java.lang.reflect.InvocationTargetException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Scaffold's own {@link SettleStrategy} implementations, one for each {@link SettleStrategyType},
+ * and the logic for choosing which strategy applies to a click.
+ */
+public final class SettleStrategies {
+
+  /**
+   * Doesn't wait at all. Useful for clicks that only change the current page, like opening a drop
+   * down or toggling a checkbox.
+   */
+  public static final SettleStrategy NONE = new BuiltInSettleStrategy(SettleStrategyType.NONE,
+      clickedElement -> {
+      });
+
+  /**
+   * Waits for the document to be complete with {@link WebElementWait#waitUntilPageIsLoaded()}.
+   */
+  public static final SettleStrategy READY_STATE = new BuiltInSettleStrategy(
+      SettleStrategyType.READY_STATE,
+      clickedElement -> clickedElement.getWebElementWait().waitUntilPageIsLoaded());
+
+  /**
+   * Waits for fetch and XHR requests to finish with {@link AutomationWait#waitUntilNetworkIdle(Duration,
+   * int)}. The network tracker is installed with {@link AutomationWait#installNetworkTracker()}
+   * before the click, so requests the click starts are counted even on a page that was just loaded.
+   */
+  public static final SettleStrategy NETWORK_IDLE = new BuiltInSettleStrategy(
+      SettleStrategyType.NETWORK_IDLE,
+      clickedElement -> clickedElement.getWebElementWait().getWebDriverWrapper()
+          .getAutomationWait().installNetworkTracker(),
+      clickedElement -> {
+        var webDriverWrapper = clickedElement.getWebElementWait().getWebDriverWrapper();
+        webDriverWrapper.getAutomationWait()
+            .waitUntilNetworkIdle(getQuietPeriod(webDriverWrapper), 0);
+      });
+
+  /**
+   * Waits for the DOM to stop changing with {@link AutomationWait#waitUntilDomIsStable(Duration)}.
+   */
+  public static final SettleStrategy DOM_STABLE = new BuiltInSettleStrategy(
+      SettleStrategyType.DOM_STABLE,
+      clickedElement -> {
+        var webDriverWrapper = clickedElement.getWebElementWait().getWebDriverWrapper();
+        webDriverWrapper.getAutomationWait().waitUntilDomIsStable(getQuietPeriod(webDriverWrapper));
+      });
+
+  /**
+   * The strategy for each page class with a {@link Settle} annotation, so the annotation is only
+   * read once per class.
+   */
+  private static final ClassValue<Optional<SettleStrategy>> PAGE_STRATEGIES =
+      new ClassValue<>() {
+        @Override
+        protected Optional<SettleStrategy> computeValue(Class<?> pageClass) {
+          var settle = pageClass.getAnnotation(Settle.class);
+          if (settle == null) {
+            return Optional.empty();
+          }
+          if (settle.value() == SettleStrategyType.CUSTOM) {
+            return Optional.of(createCustomStrategy(settle.custom()));
+          }
+          return Optional.of(of(settle.value()));
+        }
+      };
+
+  private SettleStrategies() {
+  }
+
+  /**
+   * Returns Scaffold's own strategy for a {@link SettleStrategyType}.
+   *
+   * @param settleStrategyType the type of strategy
+   * @return the {@link SettleStrategy}
+   * @throws IllegalArgumentException for {@link SettleStrategyType#CUSTOM}, which needs an
+   *                                  implementation to be given instead
+   */
+  public static SettleStrategy of(SettleStrategyType settleStrategyType) {
+    switch (settleStrategyType) {
+      case NONE:
+        return NONE;
+      case READY_STATE:
+        return READY_STATE;
+      case NETWORK_IDLE:
+        return NETWORK_IDLE;
+      case DOM_STABLE:
+        return DOM_STABLE;
+      default:
+        throw new IllegalArgumentException(String.format("There is no built in strategy for %s. "
+            + "Pass a SettleStrategy implementation instead.", settleStrategyType));
+    }
+  }
+
+  /**
+   * Returns the strategy chosen for a page class with the {@link Settle} annotation.
+   *
+   * @param pageClass the page class
+   * @return the {@link SettleStrategy}, or null if the page isn't annotated
+   */
+  static SettleStrategy forPage(Class<?> pageClass) {
+    return PAGE_STRATEGIES.get(pageClass).orElse(null);
+  }
+
+  /**
+   * Returns the strategy chosen with the {@code desired-capabilities.settle} properties.
+   *
+   * @param settle the settle configuration
+   * @return the {@link SettleStrategy}
+   */
+  static SettleStrategy forConfiguration(DesiredCapabilitiesConfigurationProperties.Settle settle) {
+    if (settle.getStrategy() != SettleStrategyType.CUSTOM) {
+      return of(settle.getStrategy());
+    }
+    if (settle.getCustomStrategy() == null) {
+      throw new SettleStrategyException("The settle strategy is CUSTOM but no custom strategy "
+          + "class was configured with desired-capabilities.settle.custom-strategy");
+    }
+    try {
+      return createCustomStrategy(
+          Class.forName(settle.getCustomStrategy()).asSubclass(SettleStrategy.class));
+    } catch (ClassNotFoundException | ClassCastException e) {
+      throw new SettleStrategyException(String.format("%s is not a SettleStrategy",
+          settle.getCustomStrategy()), e);
+    }
+  }
+
+  private static SettleStrategy createCustomStrategy(Class<? extends SettleStrategy> strategyClass) {
+    if (strategyClass == SettleStrategy.class) {
+      throw new SettleStrategyException(
+          "A custom settle strategy class is required when the strategy is CUSTOM");
+    }
+    try {
+      return strategyClass.getDeclaredConstructor().newInstance();
+    } catch (NoSuchMethodException | InstantiationException | IllegalAccessException
+        | InvocationTargetException e) {
+      throw new SettleStrategyException(String.format("Could not create settle strategy %s. "
+          + "It must have a public no argument constructor.", strategyClass.getName()), e);
+    }
+  }
+
+  private static Duration getQuietPeriod(WebDriverWrapper webDriverWrapper) {
+    return Duration.ofMillis(
+        webDriverWrapper.getDesiredCapabilities().getSettle().getQuietPeriodInMillis());
+  }
+
+  /**
+   * A strategy recorded under the name of its {@link SettleStrategyType}.
+   */
+  private static class BuiltInSettleStrategy implements SettleStrategy {
+
+    private final SettleStrategyType settleStrategyType;
+    private final Consumer<BaseWebElement> beforeClick;
+    private final Consumer<BaseWebElement> settle;
+
+    private BuiltInSettleStrategy(SettleStrategyType settleStrategyType,
+        Consumer<BaseWebElement> settle) {
+      this(settleStrategyType, clickedElement -> {
+      }, settle);
+    }
+
+    private BuiltInSettleStrategy(SettleStrategyType settleStrategyType,
+        Consumer<BaseWebElement> beforeClick, Consumer<BaseWebElement> settle) {
+      this.settleStrategyType = settleStrategyType;
+      this.beforeClick = beforeClick;
+      this.settle = settle;
+    }
+
+    @Override
+    public void settle(BaseWebElement clickedElement) {
+      settle.accept(clickedElement);
+    }
+
+    @Override
+    public void beforeClick(BaseWebElement clickedElement) {
+      beforeClick.accept(clickedElement);
+    }
+
+    @Override
+    public String getName() {
+      return settleStrategyType.name();
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package io.github.kgress.scaffold;
+
+import io.github.kgress.scaffold.models.enums.SettleStrategyType;
+
+/**
+ * Waits for the page to settle after an element is clicked, before the test moves on. Scaffold's
+ * own strategies are in {@link SettleStrategies}, one for each {@link SettleStrategyType}.
+ * <p>
+ * Implement this interface for pages that need something else, like waiting for an application
+ * specific loading flag. A custom strategy can be used for every click with the {@code
+ * desired-capabilities.settle.custom-strategy} property, for a page with {@link Settle#custom()},
+ * or for a single click with {@link io.github.kgress.scaffold.webelements.BaseClickableWebElement#click(SettleStrategy)}.
+ *
+ * <pre>{@code
+ *  public class SpinnerSettleStrategy implements SettleStrategy {
+ *      public void settle(BaseWebElement clickedElement) {
+ *          clickedElement.getWebElementWait().getWebDriverWrapper().getAutomationWait()
+ *              .waitForCustomCondition(ExpectedConditions.invisibilityOfElementLocated(By.cssSelector(".spinner")));
+ *      }
+ *  }
+ * }
+ * </pre>
+ */
+@FunctionalInterface
+public interface SettleStrategy {
+
+  /**
+   * Waits for the page to settle.
+   *
+   * @param clickedElement the element that was clicked
+   */
+  void settle(BaseWebElement clickedElement);
+
+  /**
+   * Prepares for the click, right before the element is clicked. Strategies that watch for what the
+   * click starts, like {@link SettleStrategies#NETWORK_IDLE}, start watching here so nothing the
+   * click does is missed. Does nothing by default.
+   *
+   * @param clickedElement the element that's about to be clicked
+   */
+  default void beforeClick(BaseWebElement clickedElement) {
+  }
+
+  /**
+   * Returns the name the time spent in this strategy is recorded under in {@link
+   * SettleStatistics}.
+   *
+   * @return the name as a {@link String}
+   */
+  default String getName() {
+    return getClass().getSimpleName();
+  }
+}
@@ -0,0 +1,176 @@
+package io.github.kgress.scaffold;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+
+/**
+ * A condition that {@link AutomationWait} can wait for, either on its own or combined with others
+ * using {@link AutomationWait#allOf(WaitCondition[])}, {@link AutomationWait#anyOf(WaitCondition[])}
+ * and {@link AutomationWait#sequence(WaitCondition[])}.
+ * <p>
+ * Scaffold's own conditions, like {@link #displayed(BaseWebElement)} or {@link
+ * #textContains(BaseWebElement, String)}, can be evaluated by a script in the browser, which lets a
+ * combined wait check all of them with a single command per poll. Custom conditions created with
+ * {@link #of(String, ExpectedCondition)} are always evaluated from the JVM.
+ *
+ * <pre>{@code
+ *      getAutomationWait().allOf(
+ *              WaitCondition.notDisplayed(getSpinner()),
+ *              WaitCondition.enabled(getSubmitButton()),
+ *              WaitCondition.textContains(getToast(), "Saved"));
+ * }
+ * </pre>
+ *
+ * @param <T> the type of value the condition produces once it's met
+ */
+public class WaitCondition<T> {
+
+  private final String description;
+
+  @Getter(AccessLevel.PACKAGE)
+  private final BrowserCondition browserCondition;
+
+  @Getter
+  private final ExpectedCondition<T> jvmCondition;
+
+  /**
+   * The JVM condition a combined wait checks on each of its own polls. Unlike the {@link
+   * #getJvmCondition()}, it never waits for the element to be displayed, so an element that isn't
+   * there yet only means the condition isn't met and can't hold the poll past the shared deadline.
+   */
+  @Getter(AccessLevel.PACKAGE)
+  private final ExpectedCondition<T> pollingCondition;
+
+  private WaitCondition(String description, BrowserCondition browserCondition,
+      ExpectedCondition<T> jvmCondition) {
+    this(description, browserCondition, jvmCondition, jvmCondition);
+  }
+
+  private WaitCondition(String description, BrowserCondition browserCondition,
+      ExpectedCondition<T> jvmCondition, ExpectedCondition<T> pollingCondition) {
+    this.description = description;
+    this.browserCondition = browserCondition;
+    this.jvmCondition = jvmCondition;
+    this.pollingCondition = pollingCondition;
+  }
+
+  /**
+   * Creates a custom condition from a Selenium {@link ExpectedCondition} or a lambda. Custom
+   * conditions are always evaluated from the JVM.
+   *
+   * @param description a description of the condition, used in timeouts and results
+   * @param condition   the condition to wait for
+   * @param <T>         the type reference
+   * @return the {@link WaitCondition}
+   */
+  public static <T> WaitCondition<T> of(String description, ExpectedCondition<T> condition) {
+    return new WaitCondition<>(description, null, condition);
+  }
+
+  /**
+   * A condition that's met once the page's DOM has switched to the complete status.
+   *
+   * @param automationWait the {@link AutomationWait} whose driver runs the JVM condition
+   * @return the {@link WaitCondition}
+   */
+  static WaitCondition<Boolean> pageLoaded(AutomationWait automationWait) {
+    var browserCondition = BrowserCondition.pageLoaded();
+    return new WaitCondition<>(browserCondition.toString(), browserCondition,
+        page -> automationWait.getWebDriverWrapper()
+            .getJavascriptExecutor()
+            .executeScript("return document.readyState")
+            .equals("complete"));
+  }
+
+  /**
+   * A condition that's met once the element is displayed, producing the displayed element.
+   *
+   * @param element the {@link BaseWebElement} we are waiting on
+   * @return the {@link WaitCondition}
+   */
+  public static WaitCondition<WebElement> displayed(BaseWebElement element) {
+    var browserCondition = BrowserCondition.displayed(element);
+    return new WaitCondition<>(browserCondition.toString(), browserCondition,
+        ExpectedConditions.visibilityOfElementLocated(element.getBy()));
+  }
+
+  /**
+   * A condition that's met once the element is missing from the page or no longer displayed, like
+   * a loading spinner that goes away.
+   *
+   * @param element the {@link BaseWebElement} we are waiting on
+   * @return the {@link WaitCondition}
+   */
+  public static WaitCondition<Boolean> notDisplayed(BaseWebElement element) {
+    var browserCondition = BrowserCondition.notDisplayed(element);
+    return new WaitCondition<>(browserCondition.toString(), browserCondition,
+        ExpectedConditions.invisibilityOfElementLocated(element.getBy()));
+  }
+
+  /**
+   * A condition that's met once the element is enabled.
+   *
+   * @param element the {@link BaseWebElement} we are waiting on
+   * @return the {@link WaitCondition}
+   */
+  public static WaitCondition<Boolean> enabled(BaseWebElement element) {
+    var browserCondition = BrowserCondition.enabled(element);
+    return new WaitCondition<>(browserCondition.toString(), browserCondition,
+        input -> element.isEnabled(),
+        input -> element.findRawWebElementWithoutWaiting().isEnabled());
+  }
+
+  /**
+   * A condition that's met once the element's text contains a specific string.
+   *
+   * @param element the {@link BaseWebElement} we are checking
+   * @param text    the text we're waiting the element to contain
+   * @return the {@link WaitCondition}
+   */
+  public static WaitCondition<Boolean> textContains(BaseWebElement element, String text) {
+    var browserCondition = BrowserCondition.textContains(element, text);
+    return new WaitCondition<>(browserCondition.toString(), browserCondition,
+        input -> element.getText().contains(text),
+        input -> element.findRawWebElementWithoutWaiting().getText().contains(text));
+  }
+
+  /**
+   * A condition that's met once the element's class contains a specific string.
+   *
+   * @param element   the {@link BaseWebElement} we are checking
+   * @param className the string we're expecting the class name to contain
+   * @return the {@link WaitCondition}
+   */
+  public static WaitCondition<Boolean> hasClass(BaseWebElement element, String className) {
+    var browserCondition = BrowserCondition.hasClass(element, className);
+    return new WaitCondition<>(browserCondition.toString(), browserCondition,
+        input -> ExpectedConditions
+            .attributeContains(element.getRawWebElement(), "class", className).apply(input),
+        input -> ExpectedConditions.attributeContains(element.findRawWebElementWithoutWaiting(),
+            "class", className).apply(input));
+  }
+
+  /**
+   * A condition that's met once the element's class doesn't contain a specific string.
+   *
+   * @param element   the {@link BaseWebElement} we are checking
+   * @param className the string we're expecting the class name to not contain
+   * @return the {@link WaitCondition}
+   */
+  public static WaitCondition<Boolean> notHasClass(BaseWebElement element, String className) {
+    var browserCondition = BrowserCondition.notHasClass(element, className);
+    return new WaitCondition<>(browserCondition.toString(), browserCondition,
+        input -> ExpectedConditions.not(ExpectedConditions
+            .attributeContains(element.getRawWebElement(), "class", className)).apply(input),
+        input -> ExpectedConditions.not(ExpectedConditions.attributeContains(
+            element.findRawWebElementWithoutWaiting(), "class", className)).apply(input));
+  }
+
+  @Override
+  public String toString() {
+    return description;
+  }
+}
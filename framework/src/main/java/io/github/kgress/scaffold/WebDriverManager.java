@@ -19,6 +19,7 @@ import io.github.kgress.scaffold.models.enums.desktop.RunType;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URL;
+import java.util.Map;
 import java.util.Optional;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -36,7 +37,9 @@ import org.openqa.selenium.ie.InternetExplorerDriver;
 import org.openqa.selenium.ie.InternetExplorerOptions;
 import org.openqa.selenium.opera.OperaDriver;
 import org.openqa.selenium.opera.OperaOptions;
+import org.openqa.selenium.remote.CommandExecutor;
 import org.openqa.selenium.remote.DesiredCapabilities;
+import org.openqa.selenium.remote.HttpCommandExecutor;
 import org.openqa.selenium.remote.RemoteWebDriver;
 import org.openqa.selenium.safari.SafariDriver;
 import org.openqa.selenium.safari.SafariOptions;
@@ -50,9 +53,9 @@ import org.springframework.web.client.RestTemplate;
  * multi-threaded tests to be able to seamlessly access their associated WebDriver instance
  * statically.
  * <p>
- * The startLock and closeLock properties: We want locks to open *and* close WebDriver instances
- * when we are using Selenium Grid as we do not want a large amount of open/close requests flooding
- * the hub at once.  This way, they will be processed serially.
+ * Session start and quit requests go through the JVM wide {@link WebDriverSessionLimiter}. We do not
+ * want a large amount of open/close requests flooding the hub at once when we are using Selenium
+ * Grid or Sauce, but we also do not want to process them all serially.
  * <p>
  * As of version 2.11.0, I've added some experimental sauce mobile emulator functionality. Sauce
  * uses Appium as the driver and, after some initial testing, it appears some devices (mostly older
@@ -70,6 +73,10 @@ import org.springframework.web.client.RestTemplate;
  * <p>
  * Additional feedback from end users is highly appreciated as we continue to experiment with mobile
  * emulation.
+ * <p>
+ * When a {@link WebDriverSessionPool} is provided and enabled, {@link #initDriver(String)} leases a
+ * session from the pool instead of starting a new browser, and {@link #closeDriver()} returns the
+ * session to the pool instead of quitting it.
  */
 @Slf4j
 @Service
@@ -78,12 +85,6 @@ public class WebDriverManager {
   private static final String GRID_TEST_SESSION_URI = "/grid/api/testsession";
   private static final String SCREEN_RESOLUTION_CAPABILITY = "screenResolution";
 
-  @Getter(AccessLevel.PRIVATE)
-  private final Object startLock = new Object();
-
-  @Getter(AccessLevel.PRIVATE)
-  private final Object closeLock = new Object();
-
   @Getter(AccessLevel.PRIVATE)
   private final DesiredCapabilitiesConfigurationProperties desiredCapabilities;
 
@@ -93,11 +94,20 @@ public class WebDriverManager {
   @Getter(AccessLevel.PRIVATE)
   private final RestTemplate seleniumGridRestTemplate;
 
-  @Autowired
+  @Getter(AccessLevel.PRIVATE)
+  private final WebDriverSessionPool sessionPool;
+
   public WebDriverManager(DesiredCapabilitiesConfigurationProperties desiredCapabilities,
       RestTemplate seleniumGridRestTemplate) {
+    this(desiredCapabilities, seleniumGridRestTemplate, null);
+  }
+
+  @Autowired
+  public WebDriverManager(DesiredCapabilitiesConfigurationProperties desiredCapabilities,
+      RestTemplate seleniumGridRestTemplate, WebDriverSessionPool sessionPool) {
     this.desiredCapabilities = desiredCapabilities;
     this.seleniumGridRestTemplate = seleniumGridRestTemplate;
+    this.sessionPool = sessionPool;
   }
 
   /**
@@ -110,8 +120,9 @@ public class WebDriverManager {
    * <p>
    * 1. Check if the {@link WebDriverWrapper} is null from the {@link WebDriverContext}. If it's
    * null, the driver already exists and we've encountered a threading issue. 2. Configure the new
-   * browser driver. 3. Create the new {@link WebDriverWrapper} with the browser driver. 4. Setup
-   * implicit waits on the driver to make it easier to interact with elements.
+   * browser driver, or lease one from the {@link WebDriverSessionPool} if pooling is enabled. 3.
+   * Create the new {@link WebDriverWrapper} with the browser driver. 4. Setup implicit waits on the
+   * driver to make it easier to interact with elements.
    *
    * @param testName the information on the test that is being ran. This plugs in with Junit Jupiter
    *                 annotations.
@@ -121,21 +132,54 @@ public class WebDriverManager {
       throw new WebDriverContextException(
           "Driver already exists. Try closing/quitting it before trying to initialize a new one");
     }
-    var webDriver = configureWebDriver(testName);
-    webDriverWrapper = new WebDriverWrapper(webDriver, getDesiredCapabilities().getWaitTimeoutInSeconds());
+    var webDriver = isSessionPoolEnabled()
+        ? getSessionPool().lease(getCapabilityKey(), () -> configureWebDriver(testName))
+        : configureWebDriver(testName);
+    webDriverWrapper = new WebDriverWrapper(webDriver, getDesiredCapabilities());
   }
 
   /**
    * Closes the current {@link WebDriver}.
    * <p>
    * 1. Check if the {@link WebDriverWrapper} is not null. If it's not null, proceed with the
-   * closing of the driver. 2. Quit the driver on the thread.
+   * closing of the driver. 2. Return the driver to the {@link WebDriverSessionPool} if pooling is
+   * enabled. 3. Hand the driver off to the {@link WebDriverQuitExecutor} if async quit is enabled.
+   * Otherwise, quit the driver on the thread.
    */
   void closeDriver() {
     if (getWebDriverWrapper() != null) {
+      var lookupStatistics = getWebDriverWrapper().getElementLookupStatistics();
+      log.debug("Element lookups for this test: " + lookupStatistics);
+      if (lookupStatistics != null) {
+        ScaffoldMeters.recordTestLookups(lookupStatistics.getRawWebElementRequests());
+      }
+      log.debug("Time spent settling after clicks for this test: "
+          + getWebDriverWrapper().getSettleStatistics());
+      if (getDesiredCapabilities().getCommandTiming().isEnabled()) {
+        log.info("WebDriver commands for this test: " + getWebDriverWrapper().getCommandStatistics());
+      }
+      CommandTimingExecutor.endTest(getWebDriverWrapper().getBaseWebDriver());
+      if (isSessionPoolEnabled()) {
+        getSessionPool().release(getWebDriverWrapper().getBaseWebDriver());
+        webDriverWrapper = null;
+        return;
+      }
+      var quitExecutor = WebDriverQuitExecutor.getInstance(getDesiredCapabilities());
+      if (quitExecutor.isEnabled() && getWebDriverWrapper().getBaseWebDriver() != null) {
+        quitExecutor.quit(getWebDriverWrapper().getBaseWebDriver());
+        webDriverWrapper = null;
+        return;
+      }
       try {
-        synchronized (getCloseLock()) {
-          getWebDriverWrapper().quit();
+        getSessionLimiter().acquire();
+        try {
+          if (getWebDriverWrapper().getBaseWebDriver() != null) {
+            ScaffoldMeters.recordSessionQuit(getWebDriverWrapper()::quit);
+          } else {
+            getWebDriverWrapper().quit();
+          }
+        } finally {
+          getSessionLimiter().release();
         }
       } catch (Exception e) {
         log.error("Error quitting browser: " + getStackTrace(e));
@@ -144,6 +188,43 @@ public class WebDriverManager {
     }
   }
 
+  /**
+   * Determines if drivers should be leased from the {@link WebDriverSessionPool}.
+   *
+   * @return true if there is a session pool and it is enabled
+   */
+  private boolean isSessionPoolEnabled() {
+    return getSessionPool() != null && getSessionPool().isEnabled();
+  }
+
+  /**
+   * Gets the JVM wide {@link WebDriverSessionLimiter} for session start and quit requests.
+   *
+   * @return the {@link WebDriverSessionLimiter}
+   */
+  private WebDriverSessionLimiter getSessionLimiter() {
+    return WebDriverSessionLimiter.getInstance(getDesiredCapabilities());
+  }
+
+  /**
+   * Builds the key that identifies the capability set of the drivers this manager starts. Pooled
+   * sessions are only ever reused for the same key.
+   *
+   * @return the capability key as a {@link String}
+   */
+  String getCapabilityKey() {
+    var mobile = getDesiredCapabilities().getMobile();
+    return String.join("|",
+        String.valueOf(getDesiredCapabilities().getRunType()),
+        String.valueOf(getDesiredCapabilities().getBrowserType()),
+        String.valueOf(getDesiredCapabilities().getBrowserVersion()),
+        String.valueOf(getDesiredCapabilities().getRunPlatform()),
+        String.valueOf(getDesiredCapabilities().getScreenResolution()),
+        String.valueOf(getDesiredCapabilities().getRemoteUrl()),
+        String.valueOf(mobile.getSauceDeviceName()),
+        String.valueOf(mobile.getPlatformVersion()));
+  }
+
   /**
    * Checks the run type from {@link #getDesiredCapabilities()} and configures browser options.
    * Afterwards, creates the {@link WebDriver} based on the browser options.
@@ -151,11 +232,12 @@ public class WebDriverManager {
    * @param testName the name of the test being executed
    * @return as {@link WebDriver}
    */
-  private WebDriver configureWebDriver(String testName) {
+  WebDriver configureWebDriver(String testName) {
     MutableCapabilities browserOptions;
     WebDriver webDriver;
     var runType = getDesiredCapabilities().getRunType(); // already null checked via lombok
     var screenResolution = getDesiredCapabilities().getScreenResolution(); // already has default
+    var start = System.nanoTime();
 
     log.debug(String.format("Starting driver for test: %s", testName));
     switch (runType) {
@@ -203,6 +285,9 @@ public class WebDriverManager {
             .format("Unknown run type: %s. Please check your configuration.",
                 runType.getRunType()));
     }
+    if (webDriver != null) {
+      ScaffoldMeters.recordSessionStart(getDesiredCapabilities(), start);
+    }
     log.debug(String.format("Driver started for test: %s", testName));
     return webDriver;
   }
@@ -571,17 +656,12 @@ public class WebDriverManager {
     var sauce = getDesiredCapabilities().getSauce();
     var screenResolution = getDesiredCapabilities().getScreenResolution(); // already null checked
 
-    // In order to build the URi correctly, pull the username and access key from the desired
-    // capabilities bean.
-    final var defaultSauceUrl = "@ondemand.saucelabs.com/wd/hub";
     var username = sauce.getUserName(); // already null checked
     var accessKey = sauce.getAccessKey(); // already null checked
     var tunnelIdentifier = Optional.ofNullable(sauce.getTunnelIdentifier());
     var parentTunnel = Optional.ofNullable(sauce.getParentTunnel());
     var timeZone = Optional.ofNullable(sauce.getTimeZone());
-    var sauceConfigUrl = Optional.ofNullable(sauce.getUrl())
-        .orElse(URI.create("https://" + username + ":" + accessKey + defaultSauceUrl)
-            .toString());
+    var sauceConfigUrl = getSauceUrl();
     var extendedDebugging = Optional.ofNullable(sauce.getExtendedDebugging());
     var capturePerformance = Optional.ofNullable(sauce.getCapturePerformance());
 
@@ -628,17 +708,71 @@ public class WebDriverManager {
    * #createRemoteWebDriver(MutableCapabilities)}. Those methods should be responsible for throwing
    * their own custom error message since they both have varying reasons that could cause a failure
    * during the initialization of a new remote driver.
+   * <p>
+   * The request waits for its turn on the {@link WebDriverSessionLimiter} before it is sent.
+   * Commands are sent through the shared {@link RemoteHttpClientFactory}, and are timed by a
+   * {@link CommandTimingExecutor} when command timing is enabled.
    *
    * @param remoteUrl      the remote URL to be used
    * @param browserOptions the mutable capabilities of the browser
    * @return the driver as a {@link RemoteWebDriver}
    */
-  private synchronized RemoteWebDriver startScreenshotRemoteDriver(String remoteUrl,
+  private RemoteWebDriver startScreenshotRemoteDriver(String remoteUrl,
       MutableCapabilities browserOptions)
       throws MalformedURLException {
+    var url = new URL(remoteUrl);
+    CommandExecutor executor = new HttpCommandExecutor(Map.of(), url,
+        RemoteHttpClientFactory.getInstance(getDesiredCapabilities()));
+    if (getDesiredCapabilities().getCommandTiming().isEnabled()) {
+      executor = new CommandTimingExecutor(executor);
+    }
+    getSessionLimiter().acquire();
+    try {
+      return new ScreenshotRemoteDriver(executor, browserOptions);
+    } finally {
+      getSessionLimiter().release();
+    }
+  }
 
-    synchronized (getStartLock()) {
-      return new ScreenshotRemoteDriver(new URL(remoteUrl), browserOptions);
+  /**
+   * Builds the Sauce remote URL. The URL is a combination of the username, access key, and sauce
+   * url, unless a full url is configured with {@link DesiredCapabilitiesConfigurationProperties.SauceAuthentication#getUrl()}.
+   *
+   * @return the Sauce remote URL as a {@link String}
+   */
+  private String getSauceUrl() {
+    // In order to build the URi correctly, pull the username and access key from the desired
+    // capabilities bean.
+    final var defaultSauceUrl = "@ondemand.saucelabs.com/wd/hub";
+    var sauce = getDesiredCapabilities().getSauce();
+    return Optional.ofNullable(sauce.getUrl())
+        .orElse(URI.create("https://" + sauce.getUserName() + ":" + sauce.getAccessKey()
+            + defaultSauceUrl).toString());
+  }
+
+  /**
+   * Gets the URL remote sessions will be started against for the configured {@link RunType}.
+   *
+   * @return the remote URL, or empty if sessions for the run type are started locally or the
+   * remote URL isn't configured
+   */
+  Optional<String> getRemoteSessionUrl() {
+    switch (getDesiredCapabilities().getRunType()) {
+      case SAUCE:
+      case SAUCE_MOBILE_EMULATOR:
+        var sauce = getDesiredCapabilities().getSauce();
+        var hasSauceUrl = sauce.getUrl() != null
+            || (sauce.getUserName() != null && sauce.getAccessKey() != null);
+        return hasSauceUrl
+            ? Optional.of(getSauceUrl())
+            : Optional.empty();
+      case LOCAL:
+      case HEADLESS:
+      case GRID:
+      case AWS_LAMBDA_REMOTE:
+        return Optional.ofNullable(getDesiredCapabilities().getRemoteUrl());
+      default:
+        return Optional.empty();
     }
   }
 }
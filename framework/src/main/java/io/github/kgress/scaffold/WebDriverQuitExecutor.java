@@ -0,0 +1,171 @@
+package io.github.kgress.scaffold;
+
+import static io.github.kgress.scaffold.util.AutomationUtils.getStackTrace;
+
+import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Quits browsers on a bounded background executor so the test thread does not have to wait for the
+ * quit request to finish. Remote quit requests to Sauce can take several seconds, and the thread
+ * would otherwise sit idle instead of running the next test.
+ * <p>
+ * The executor has a fixed number of threads and a bounded queue. When the queue is full, the test
+ * thread quits its own browser, which keeps a slow hub from piling up an unbounded number of open
+ * sessions. Every quit still goes through the {@link WebDriverSessionLimiter}.
+ * <p>
+ * A shutdown hook drains the queue when the JVM shuts down, waiting at most
+ * {@link DesiredCapabilitiesConfigurationProperties.AsyncQuit#getShutdownTimeoutInSeconds()}.
+ * Browsers handed in after the drain started, like the sessions the {@link WebDriverSessionPool}
+ * quits while the application context closes, are quit on the calling thread.
+ * Failed quits are logged as they happen and counted in a summary at shutdown.
+ */
+@Slf4j
+public class WebDriverQuitExecutor {
+
+  private static volatile WebDriverQuitExecutor instance;
+
+  @Getter(AccessLevel.PRIVATE)
+  private final DesiredCapabilitiesConfigurationProperties desiredCapabilities;
+
+  @Getter(AccessLevel.PRIVATE)
+  private final ThreadPoolExecutor executor;
+
+  private final LongAdder quitCount = new LongAdder();
+  private final LongAdder failureCount = new LongAdder();
+
+  /**
+   * Creates a standalone quit executor. Scaffold itself always uses the JVM wide executor from
+   * {@link #getInstance(DesiredCapabilitiesConfigurationProperties)}, which is the only one that is
+   * drained on shutdown.
+   *
+   * @param desiredCapabilities the {@link DesiredCapabilitiesConfigurationProperties} to configure
+   *                            the executor with
+   */
+  public WebDriverQuitExecutor(DesiredCapabilitiesConfigurationProperties desiredCapabilities) {
+    var config = desiredCapabilities.getAsyncQuit();
+    var threads = Math.max(1, config.getThreads());
+    var threadCount = new AtomicInteger();
+    this.desiredCapabilities = desiredCapabilities;
+    this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(Math.max(1, config.getQueueCapacity())),
+        runnable -> {
+          var thread = new Thread(runnable, "scaffold-quit-" + threadCount.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        },
+        // Unlike CallerRunsPolicy, this also quits on the caller once the executor is shut down
+        (runnable, rejectingExecutor) -> runnable.run());
+  }
+
+  /**
+   * Returns the quit executor for the JVM, creating it from the desired capabilities the first time
+   * it's requested.
+   *
+   * @param desiredCapabilities the {@link DesiredCapabilitiesConfigurationProperties} to configure
+   *                            the executor with if it does not exist yet
+   * @return the {@link WebDriverQuitExecutor}
+   */
+  public static WebDriverQuitExecutor getInstance(
+      DesiredCapabilitiesConfigurationProperties desiredCapabilities) {
+    if (instance == null) {
+      synchronized (WebDriverQuitExecutor.class) {
+        if (instance == null) {
+          var quitExecutor = new WebDriverQuitExecutor(desiredCapabilities);
+          Runtime.getRuntime().addShutdownHook(
+              new Thread(quitExecutor::drain, "scaffold-quit-shutdown"));
+          instance = quitExecutor;
+        }
+      }
+    }
+    return instance;
+  }
+
+  /**
+   * Determines if browsers should be quit in the background.
+   *
+   * @return true if async quit is enabled
+   */
+  public boolean isEnabled() {
+    return getDesiredCapabilities().getAsyncQuit().isEnabled();
+  }
+
+  /**
+   * Hands the browser off to be quit in the background. If the queue is full, or the executor has
+   * already been drained, the browser is quit on the calling thread instead.
+   *
+   * @param webDriver the {@link WebDriver} to quit
+   */
+  public void quit(WebDriver webDriver) {
+    getExecutor().execute(() -> quitNow(webDriver));
+  }
+
+  /**
+   * Stops accepting new quits and waits for the queued ones to finish, up to the configured
+   * shutdown timeout.
+   */
+  public void drain() {
+    getExecutor().shutdown();
+    var timeout = getDesiredCapabilities().getAsyncQuit().getShutdownTimeoutInSeconds();
+    try {
+      if (!getExecutor().awaitTermination(timeout, TimeUnit.SECONDS)) {
+        var abandoned = getExecutor().shutdownNow().size();
+        log.error(String.format(
+            "Timed out after %s seconds waiting for browsers to quit. %s queued quits were abandoned "
+                + "and those sessions may still be open.", timeout, abandoned));
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    if (getFailureCount() > 0) {
+      log.error(String.format("%s of %s background browser quits failed.",
+          getFailureCount(), getQuitCount()));
+    }
+  }
+
+  /**
+   * @return the number of browsers that have been quit, successfully or not
+   */
+  public long getQuitCount() {
+    return quitCount.sum();
+  }
+
+  /**
+   * @return the number of browsers that failed to quit
+   */
+  public long getFailureCount() {
+    return failureCount.sum();
+  }
+
+  /**
+   * @return the number of quits that are waiting in the queue
+   */
+  public int getQueuedCount() {
+    return getExecutor().getQueue().size();
+  }
+
+  private void quitNow(WebDriver webDriver) {
+    var sessionLimiter = WebDriverSessionLimiter.getInstance(getDesiredCapabilities());
+    try {
+      sessionLimiter.acquire();
+      try {
+        ScaffoldMeters.recordSessionQuit(webDriver::quit);
+      } finally {
+        sessionLimiter.release();
+      }
+    } catch (Exception e) {
+      failureCount.increment();
+      log.error("Error quitting browser in the background: " + getStackTrace(e));
+    } finally {
+      quitCount.increment();
+    }
+  }
+}
@@ -0,0 +1,168 @@
+package io.github.kgress.scaffold;
+
+import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties;
+import io.github.kgress.scaffold.exception.WebDriverManagerException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * Limits the number of session start and quit requests that are in flight at once across the whole
+ * JVM. Every {@link WebDriverManager} is created per test, so a lock that lives on the manager does
+ * not limit anything. This limiter is shared by every manager instead.
+ * <p>
+ * A fair {@link Semaphore} caps the number of requests in flight, and requests are let through in
+ * the order they arrived. When {@link DesiredCapabilitiesConfigurationProperties.SessionLimiter#getRequestsPerSecond()}
+ * is set, a token bucket additionally spaces requests out so a burst of tests starting at the same
+ * moment does not hit the hub all at once.
+ * <p>
+ * The limiter keeps track of how many requests are waiting and how long they waited so the limits
+ * can be tuned against the capacity of the hub.
+ */
+public class WebDriverSessionLimiter {
+
+  private static volatile WebDriverSessionLimiter instance;
+
+  @Getter(AccessLevel.PRIVATE)
+  private final DesiredCapabilitiesConfigurationProperties.SessionLimiter config;
+
+  @Getter(AccessLevel.PRIVATE)
+  private final Semaphore semaphore;
+
+  private final AtomicInteger queueDepth = new AtomicInteger();
+  private final AtomicInteger maxQueueDepth = new AtomicInteger();
+  private final LongAdder acquireCount = new LongAdder();
+  private final LongAdder waitNanos = new LongAdder();
+
+  private double availableTokens;
+  private long lastRefillNanos;
+
+  /**
+   * Creates a standalone limiter. Scaffold itself always uses the JVM wide limiter from
+   * {@link #getInstance(DesiredCapabilitiesConfigurationProperties)}.
+   *
+   * @param config the {@link DesiredCapabilitiesConfigurationProperties.SessionLimiter} settings
+   */
+  public WebDriverSessionLimiter(DesiredCapabilitiesConfigurationProperties.SessionLimiter config) {
+    this.config = config;
+    this.semaphore = new Semaphore(Math.max(1, config.getMaxConcurrentRequests()), true);
+    this.availableTokens = Math.max(1, config.getBurstSize());
+    this.lastRefillNanos = System.nanoTime();
+  }
+
+  /**
+   * Returns the limiter for the JVM, creating it from the desired capabilities the first time it's
+   * requested.
+   *
+   * @param desiredCapabilities the {@link DesiredCapabilitiesConfigurationProperties} to configure
+   *                            the limiter with if it does not exist yet
+   * @return the {@link WebDriverSessionLimiter}
+   */
+  public static WebDriverSessionLimiter getInstance(
+      DesiredCapabilitiesConfigurationProperties desiredCapabilities) {
+    if (instance == null) {
+      synchronized (WebDriverSessionLimiter.class) {
+        if (instance == null) {
+          instance = new WebDriverSessionLimiter(desiredCapabilities.getSessionLimiter());
+        }
+      }
+    }
+    return instance;
+  }
+
+  /**
+   * Waits for a turn to send a session start or quit request. Every call must be paired with a call
+   * to {@link #release()} once the request has completed.
+   */
+  public void acquire() {
+    var start = System.nanoTime();
+    var depth = queueDepth.incrementAndGet();
+    maxQueueDepth.accumulateAndGet(depth, Math::max);
+    try {
+      if (!getSemaphore().tryAcquire(getConfig().getAcquireTimeoutInSeconds(), TimeUnit.SECONDS)) {
+        throw new WebDriverManagerException(String.format(
+            "Timed out after %s seconds waiting to send a session request. %s requests are waiting.",
+            getConfig().getAcquireTimeoutInSeconds(), queueDepth.get()));
+      }
+      try {
+        TimeUnit.NANOSECONDS.sleep(reserveToken());
+      } catch (InterruptedException e) {
+        getSemaphore().release();
+        throw e;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new WebDriverManagerException("Interrupted while waiting to send a session request", e);
+    } finally {
+      queueDepth.decrementAndGet();
+    }
+    acquireCount.increment();
+    waitNanos.add(System.nanoTime() - start);
+  }
+
+  /**
+   * Gives up a turn that was taken with {@link #acquire()}.
+   */
+  public void release() {
+    getSemaphore().release();
+  }
+
+  /**
+   * @return the number of requests that are currently waiting for a turn
+   */
+  public int getQueueDepth() {
+    return queueDepth.get();
+  }
+
+  /**
+   * @return the highest number of requests that have waited for a turn at the same time
+   */
+  public int getMaxQueueDepth() {
+    return maxQueueDepth.get();
+  }
+
+  /**
+   * @return the number of requests that have been let through
+   */
+  public long getAcquireCount() {
+    return acquireCount.sum();
+  }
+
+  /**
+   * @return the total time requests have spent waiting for a turn, in milliseconds
+   */
+  public double getTotalWaitMillis() {
+    return waitNanos.sum() / 1_000_000D;
+  }
+
+  /**
+   * @return the average time a request waited for a turn, in milliseconds
+   */
+  public double getAverageWaitMillis() {
+    var acquired = getAcquireCount();
+    return acquired == 0 ? 0D : getTotalWaitMillis() / acquired;
+  }
+
+  /**
+   * Takes a token from the bucket and returns how long the caller has to wait before the token is
+   * actually available. Tokens can be borrowed ahead of time, which keeps the waiting callers in
+   * order without holding the lock while they sleep.
+   *
+   * @return the time to wait in nanoseconds
+   */
+  private synchronized long reserveToken() {
+    var rate = getConfig().getRequestsPerSecond();
+    if (rate <= 0) {
+      return 0L;
+    }
+    var now = System.nanoTime();
+    var burst = Math.max(1, getConfig().getBurstSize());
+    availableTokens = Math.min(burst, availableTokens + (now - lastRefillNanos) * rate / 1e9);
+    lastRefillNanos = now;
+    availableTokens -= 1;
+    return availableTokens >= 0 ? 0L : (long) (-availableTokens / rate * 1e9);
+  }
+}
@@ -0,0 +1,492 @@
+package io.github.kgress.scaffold;
+
+import static io.github.kgress.scaffold.util.AutomationUtils.getStackTrace;
+
+import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties;
+import io.github.kgress.scaffold.exception.WebDriverManagerException;
+import io.github.kgress.scaffold.models.enums.desktop.RunType;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import javax.annotation.PreDestroy;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * A pool of {@link WebDriver} sessions that are leased by {@link WebDriverManager} when a test
+ * starts and returned to the pool when the test finishes, instead of starting and quitting a
+ * browser for every test.
+ * <p>
+ * Sessions are pooled per capability set. A capability set is represented by a key that is built by
+ * the {@link WebDriverManager}, so sessions started with different desired capabilities are never
+ * handed out to the wrong test. At most {@link DesiredCapabilitiesConfigurationProperties.SessionPool#getMaxSessions()}
+ * sessions are open for a single capability set. If they are all leased, the next test waits for
+ * one to be returned.
+ * <p>
+ * When a session is returned, it is reset before it is made available again: extra windows are
+ * closed, local and session storage are cleared, cookies are deleted, and the browser is navigated
+ * to {@link DesiredCapabilitiesConfigurationProperties.SessionPool#getResetUrl()}. Cookies can only
+ * be deleted for the domain the browser is on at the time of the reset, which is why storage and
+ * cookies are cleared before navigating away. A session that fails to reset, that has served its
+ * maximum number of tests, or that fails its health check on the next lease is quit and replaced.
+ * <p>
+ * When {@link DesiredCapabilitiesConfigurationProperties.SessionPool#getPrewarmSessions()} is set,
+ * the pool starts that many sessions in the background as soon as the application context is
+ * refreshed, which happens when the first Scaffold test class is set up. Leases are then served from
+ * the ready sessions, and every lease tops the ready sessions back up in the background. A test only
+ * starts a session itself when no ready session exists and none are being started for it, so the
+ * time spent negotiating a remote session is hidden behind the tests that are already running.
+ * <p>
+ * The pool keeps track of how long tests wait to lease a session and how often a session is reused
+ * so the pool size can be tuned against the parallelism of the test run.
+ */
+@Slf4j
+@Component
+public class WebDriverSessionPool {
+
+  private static final String CLEAR_STORAGE_SCRIPT =
+      "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}";
+  private static final long LEASE_POLL_INTERVAL_IN_MILLIS = 500L;
+  /**
+   * The test name pre-warmed sessions are started with, since no test has leased them yet. Only run
+   * types that never report the test name to the remote end are pooled, so this name is never shown
+   * as a Sauce job name. See {@link #isEnabled()}.
+   */
+  private static final String PREWARM_SESSION_NAME = "Scaffold Pre-Warmed Session";
+
+  @Getter(AccessLevel.PRIVATE)
+  private final DesiredCapabilitiesConfigurationProperties desiredCapabilities;
+
+  @Getter(AccessLevel.PRIVATE)
+  private final RestTemplate seleniumGridRestTemplate;
+
+  @Getter(AccessLevel.PRIVATE)
+  private final Map<String, CapabilityPool> capabilityPools = new ConcurrentHashMap<>();
+
+  @Getter(AccessLevel.PRIVATE)
+  private final Map<WebDriver, PooledSession> leasedSessions = new ConcurrentHashMap<>();
+
+  private final LongAdder leaseCount = new LongAdder();
+  private final LongAdder reuseCount = new LongAdder();
+  private final LongAdder discardCount = new LongAdder();
+  private final LongAdder leaseWaitNanos = new LongAdder();
+  private final LongAdder prewarmCount = new LongAdder();
+
+  private final AtomicBoolean prewarmStarted = new AtomicBoolean();
+  private volatile boolean shuttingDown;
+  private volatile WebDriverManager prewarmDriverManager;
+  private volatile String prewarmCapabilityKey;
+  private volatile ExecutorService prewarmExecutor;
+
+  @Autowired
+  public WebDriverSessionPool(DesiredCapabilitiesConfigurationProperties desiredCapabilities,
+      RestTemplate seleniumGridRestTemplate) {
+    this.desiredCapabilities = desiredCapabilities;
+    this.seleniumGridRestTemplate = seleniumGridRestTemplate;
+  }
+
+  /**
+   * Determines if sessions should be leased from this pool. Pooling is never used for a
+   * {@link RunType#UNIT} execution since there is no browser to pool, or for a {@link RunType#SAUCE}
+   * or {@link RunType#SAUCE_MOBILE_EMULATOR} execution. A Sauce session is a single Sauce job with a
+   * single name and result, so sharing it between tests would report every test under the first
+   * test's name and only keep the result of the last one.
+   *
+   * @return true if the pool is enabled
+   */
+  public boolean isEnabled() {
+    var runType = getDesiredCapabilities().getRunType();
+    return getDesiredCapabilities().getSessionPool().isEnabled()
+        && runType != RunType.UNIT
+        && runType != RunType.SAUCE
+        && runType != RunType.SAUCE_MOBILE_EMULATOR;
+  }
+
+  /**
+   * Starts {@link DesiredCapabilitiesConfigurationProperties.SessionPool#getPrewarmSessions()}
+   * sessions in the background. This only happens once, the first time the application context is
+   * refreshed, and only if the pool is enabled, so Sauce sessions are never pre-warmed: a Sauce job
+   * is named when its session starts, and a pre-warmed session would run every later test under the
+   * pre-warmed name.
+   */
+  @EventListener(ContextRefreshedEvent.class)
+  public void prewarm() {
+    var prewarmSessions = getDesiredCapabilities().getSessionPool().getPrewarmSessions();
+    if (!isEnabled() || prewarmSessions <= 0 || !prewarmStarted.compareAndSet(false, true)) {
+      return;
+    }
+    prewarmDriverManager = new WebDriverManager(getDesiredCapabilities(),
+        getSeleniumGridRestTemplate(), this);
+    prewarmCapabilityKey = prewarmDriverManager.getCapabilityKey();
+    var threadCount = new AtomicInteger();
+    prewarmExecutor = Executors.newFixedThreadPool(prewarmSessions, runnable -> {
+      var thread = new Thread(runnable, "scaffold-session-prewarm-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+    log.info(String.format("Pre-warming %s browser sessions in the background.", prewarmSessions));
+    refill(prewarmCapabilityKey,
+        getCapabilityPools().computeIfAbsent(prewarmCapabilityKey, key -> new CapabilityPool()));
+  }
+
+  /**
+   * Leases a session for the capability set. An idle session is reused when one passes its health
+   * check. Otherwise, a new session is started with the driver factory if the capability set has
+   * not reached its maximum number of sessions and no session is already being pre-warmed for it.
+   * If it has, this waits for a session to be returned or pre-warmed.
+   *
+   * @param capabilityKey the key that represents the capability set of the session
+   * @param driverFactory starts a new {@link WebDriver} when there is no idle session to reuse
+   * @return the leased {@link WebDriver}
+   */
+  WebDriver lease(String capabilityKey, Supplier<WebDriver> driverFactory) {
+    var config = getDesiredCapabilities().getSessionPool();
+    var pool = getCapabilityPools().computeIfAbsent(capabilityKey, key -> new CapabilityPool());
+    var start = System.nanoTime();
+    var deadline = start + TimeUnit.SECONDS.toNanos(config.getLeaseTimeoutInSeconds());
+
+    try {
+      while (true) {
+        var session = pool.getIdleSessions().pollFirst();
+        if (session == null && pool.getStartingSessions().get() == 0
+            && pool.tryReserve(config.getMaxSessions())) {
+          recordLease(start);
+          var webDriver = startSession(capabilityKey, pool, driverFactory);
+          refill(capabilityKey, pool);
+          return webDriver;
+        }
+        if (session == null) {
+          var remaining = deadline - System.nanoTime();
+          if (remaining <= 0) {
+            throw new WebDriverManagerException(String.format(
+                "Timed out after %s seconds waiting to lease a session from the pool. All %s sessions "
+                    + "are in use. Consider raising the max sessions of the session pool.",
+                config.getLeaseTimeoutInSeconds(), config.getMaxSessions()));
+          }
+          session = pool.getIdleSessions().pollFirst(
+              Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(LEASE_POLL_INTERVAL_IN_MILLIS)),
+              TimeUnit.NANOSECONDS);
+          if (session == null) {
+            // Loop back around in case a session was discarded and freed up room for a new one
+            continue;
+          }
+        }
+        if (isHealthy(session)) {
+          recordLease(start);
+          if (session.getUses().getAndIncrement() > 0) {
+            reuseCount.increment();
+          }
+          getLeasedSessions().put(session.getWebDriver(), session);
+          refill(capabilityKey, pool);
+          return session.getWebDriver();
+        }
+        discard(pool, session);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new WebDriverManagerException("Interrupted while waiting to lease a pooled session", e);
+    }
+  }
+
+  /**
+   * Returns a leased session to the pool. The session is reset before it can be leased again. If
+   * the reset fails or the session has served its maximum number of tests, it is quit instead.
+   * <p>
+   * A {@link WebDriver} that was not leased from this pool is simply quit.
+   *
+   * @param webDriver the {@link WebDriver} being returned
+   */
+  void release(WebDriver webDriver) {
+    var session = getLeasedSessions().remove(webDriver);
+    if (session == null) {
+      quit(webDriver);
+      return;
+    }
+    var pool = getCapabilityPools().get(session.getCapabilityKey());
+    var maxUses = getDesiredCapabilities().getSessionPool().getMaxUsesPerSession();
+    if (session.getUses().get() >= maxUses || !reset(session)) {
+      discard(pool, session);
+      return;
+    }
+    pool.getIdleSessions().offerFirst(session);
+  }
+
+  /**
+   * Quits every session the pool knows about and logs the pool statistics. This runs when the
+   * application context is closed at the end of the test run.
+   */
+  @PreDestroy
+  public void shutdown() {
+    shuttingDown = true;
+    if (prewarmExecutor != null) {
+      prewarmExecutor.shutdownNow();
+    }
+    getCapabilityPools().values().forEach(pool -> {
+      PooledSession session;
+      while ((session = pool.getIdleSessions().pollFirst()) != null) {
+        discard(pool, session);
+      }
+    });
+    getLeasedSessions().values().forEach(session -> quit(session.getWebDriver()));
+    getLeasedSessions().clear();
+    if (getLeaseCount() > 0) {
+      log.info(String.format(
+          "Session pool served %s leases, reused a session %s times (reuse ratio %.2f), discarded %s "
+              + "sessions, and waited an average of %.1f ms per lease.",
+          getLeaseCount(), getReuseCount(), getReuseRatio(), getDiscardCount(),
+          getAverageLeaseWaitMillis()));
+    }
+  }
+
+  /**
+   * @return the number of sessions that have been leased from the pool
+   */
+  public long getLeaseCount() {
+    return leaseCount.sum();
+  }
+
+  /**
+   * @return the number of leases that were served by a session that had already been used by an
+   * earlier test
+   */
+  public long getReuseCount() {
+    return reuseCount.sum();
+  }
+
+  /**
+   * @return the number of sessions that have been quit because they were unhealthy, failed to reset,
+   * or reached their maximum number of uses
+   */
+  public long getDiscardCount() {
+    return discardCount.sum();
+  }
+
+  /**
+   * @return the number of sessions that were started in the background by pre-warming
+   */
+  public long getPrewarmCount() {
+    return prewarmCount.sum();
+  }
+
+  /**
+   * @return the ratio of leases that were served by an already started session, between 0 and 1
+   */
+  public double getReuseRatio() {
+    var leases = getLeaseCount();
+    return leases == 0 ? 0D : (double) getReuseCount() / leases;
+  }
+
+  /**
+   * @return the total time tests have spent waiting to lease a session, in milliseconds. This does
+   * not include the time it takes to start a new session.
+   */
+  public double getTotalLeaseWaitMillis() {
+    return leaseWaitNanos.sum() / 1_000_000D;
+  }
+
+  /**
+   * @return the average time a test waited to lease a session, in milliseconds
+   */
+  public double getAverageLeaseWaitMillis() {
+    var leases = getLeaseCount();
+    return leases == 0 ? 0D : getTotalLeaseWaitMillis() / leases;
+  }
+
+  /**
+   * @return the number of sessions that are currently open across every capability set, whether
+   * they are idle or leased
+   */
+  public int getOpenSessionCount() {
+    return getCapabilityPools().values().stream()
+        .mapToInt(pool -> pool.getOpenSessions().get())
+        .sum();
+  }
+
+  /**
+   * Starts a new session for a slot that has already been reserved with
+   * {@link CapabilityPool#tryReserve(int)}. If the session fails to start, the slot is given back.
+   */
+  private WebDriver startSession(String capabilityKey, CapabilityPool pool,
+      Supplier<WebDriver> driverFactory) {
+    WebDriver webDriver;
+    try {
+      webDriver = driverFactory.get();
+    } catch (RuntimeException e) {
+      pool.getOpenSessions().decrementAndGet();
+      throw e;
+    }
+    var session = new PooledSession(capabilityKey, webDriver);
+    session.getUses().incrementAndGet();
+    getLeasedSessions().put(webDriver, session);
+    return webDriver;
+  }
+
+  /**
+   * Starts sessions in the background until the capability set has
+   * {@link DesiredCapabilitiesConfigurationProperties.SessionPool#getPrewarmSessions()} ready or
+   * starting, or until it reaches its maximum number of sessions. Only the capability set of this
+   * application context is pre-warmed.
+   */
+  private void refill(String capabilityKey, CapabilityPool pool) {
+    var config = getDesiredCapabilities().getSessionPool();
+    if (prewarmExecutor == null || shuttingDown || !capabilityKey.equals(prewarmCapabilityKey)) {
+      return;
+    }
+    while (pool.getIdleSessions().size() + pool.getStartingSessions().get()
+        < config.getPrewarmSessions() && pool.tryReserve(config.getMaxSessions())) {
+      pool.getStartingSessions().incrementAndGet();
+      prewarmExecutor.execute(() -> warmSession(capabilityKey, pool));
+    }
+  }
+
+  /**
+   * Starts a session for a slot that has already been reserved and adds it to the ready sessions.
+   */
+  private void warmSession(String capabilityKey, CapabilityPool pool) {
+    try {
+      var webDriver = prewarmDriverManager.configureWebDriver(PREWARM_SESSION_NAME);
+      if (shuttingDown) {
+        pool.getOpenSessions().decrementAndGet();
+        quit(webDriver);
+        return;
+      }
+      pool.getIdleSessions().offerLast(new PooledSession(capabilityKey, webDriver));
+      prewarmCount.increment();
+    } catch (Exception e) {
+      pool.getOpenSessions().decrementAndGet();
+      log.error("Error pre-warming browser session: " + getStackTrace(e));
+    } finally {
+      pool.getStartingSessions().decrementAndGet();
+    }
+  }
+
+  /**
+   * A session is considered healthy if the browser still responds with its current window handle.
+   * Remote sessions that have been idle for too long are closed by the remote end and fail here.
+   */
+  private boolean isHealthy(PooledSession session) {
+    try {
+      return session.getWebDriver().getWindowHandle() != null;
+    } catch (Exception e) {
+      log.debug(String.format("Pooled session failed its health check: %s", e.getMessage()));
+      return false;
+    }
+  }
+
+  /**
+   * Resets the browser state of a session so the next test starts from a clean browser.
+   */
+  private boolean reset(PooledSession session) {
+    var webDriver = session.getWebDriver();
+    try {
+      var windowHandles = new ArrayList<>(webDriver.getWindowHandles());
+      if (windowHandles.size() > 1) {
+        for (var windowHandle : windowHandles.subList(1, windowHandles.size())) {
+          webDriver.switchTo().window(windowHandle).close();
+        }
+        webDriver.switchTo().window(windowHandles.get(0));
+      }
+      if (webDriver instanceof JavascriptExecutor) {
+        ((JavascriptExecutor) webDriver).executeScript(CLEAR_STORAGE_SCRIPT);
+      }
+      webDriver.manage().deleteAllCookies();
+      webDriver.get(getDesiredCapabilities().getSessionPool().getResetUrl());
+      return true;
+    } catch (Exception e) {
+      log.debug(String.format("Pooled session failed to reset: %s", e.getMessage()));
+      return false;
+    }
+  }
+
+  private void discard(CapabilityPool pool, PooledSession session) {
+    pool.getOpenSessions().decrementAndGet();
+    discardCount.increment();
+    quit(session.getWebDriver());
+  }
+
+  private void quit(WebDriver webDriver) {
+    var quitExecutor = WebDriverQuitExecutor.getInstance(getDesiredCapabilities());
+    if (quitExecutor.isEnabled()) {
+      quitExecutor.quit(webDriver);
+      return;
+    }
+    var sessionLimiter = WebDriverSessionLimiter.getInstance(getDesiredCapabilities());
+    try {
+      sessionLimiter.acquire();
+      try {
+        ScaffoldMeters.recordSessionQuit(webDriver::quit);
+      } finally {
+        sessionLimiter.release();
+      }
+    } catch (Exception e) {
+      log.error("Error quitting pooled browser: " + getStackTrace(e));
+    }
+  }
+
+  private void recordLease(long start) {
+    leaseCount.increment();
+    leaseWaitNanos.add(System.nanoTime() - start);
+  }
+
+  /**
+   * The idle sessions and open session count for a single capability set. Open sessions include the
+   * ones that are still being started in the background.
+   */
+  @Getter
+  private static class CapabilityPool {
+
+    private final BlockingDeque<PooledSession> idleSessions = new LinkedBlockingDeque<>();
+    private final AtomicInteger openSessions = new AtomicInteger();
+    private final AtomicInteger startingSessions = new AtomicInteger();
+
+    /**
+     * Reserves room for a new session if the capability set has not reached its maximum.
+     *
+     * @param maxSessions the maximum number of open sessions
+     * @return true if room was reserved
+     */
+    private boolean tryReserve(int maxSessions) {
+      var open = openSessions.get();
+      while (open < maxSessions) {
+        if (openSessions.compareAndSet(open, open + 1)) {
+          return true;
+        }
+        open = openSessions.get();
+      }
+      return false;
+    }
+  }
+
+  /**
+   * A session that belongs to the pool.
+   */
+  @Getter
+  private static class PooledSession {
+
+    private final String capabilityKey;
+    private final WebDriver webDriver;
+    private final AtomicInteger uses = new AtomicInteger();
+
+    private PooledSession(String capabilityKey, WebDriver webDriver) {
+      this.capabilityKey = capabilityKey;
+      this.webDriver = webDriver;
+    }
+  }
+}
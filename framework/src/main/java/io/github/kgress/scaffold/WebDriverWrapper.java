@@ -4,11 +4,14 @@ import static io.github.kgress.scaffold.util.AutomationUtils.sleep;
 
 import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties;
 import io.github.kgress.scaffold.exception.WebDriverWrapperException;
+import io.github.kgress.scaffold.models.enums.FillMode;
 import java.io.File;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
@@ -45,6 +48,39 @@ public class WebDriverWrapper {
     @Setter
     private LinkedList<String> registeredWindows = new LinkedList<>();
 
+    @Getter
+    private final ElementLookupStatistics elementLookupStatistics = new ElementLookupStatistics();
+
+    @Getter
+    private final SettleStatistics settleStatistics = new SettleStatistics();
+
+    @Getter
+    private final CommandStatistics commandStatistics;
+
+    @Getter
+    private final DesiredCapabilitiesConfigurationProperties desiredCapabilities;
+
+    /**
+     * The settle strategy of the page that was verified last, if it has one.
+     */
+    private volatile SettleStrategy pageSettleStrategy;
+
+    /**
+     * The settle strategy from the spring profile, created the first time it's needed.
+     */
+    private volatile SettleStrategy configuredSettleStrategy;
+
+    /**
+     * The script timeout last set on the base driver, so it's only sent to the browser when it changes.
+     */
+    private long scriptTimeoutInMillis = -1L;
+
+    /**
+     * Counts the documents the browser has been on. It's bumped whenever this wrapper navigates or switches windows,
+     * which tells cached elements from an older document that they can no longer be used.
+     */
+    private final AtomicLong documentGeneration = new AtomicLong();
+
     /**
      * Takes a raw {@link WebDriver} instance and wraps it up in a wonderful blanket for thread-safe handling.
      * @param baseWebDriver         the root {@link WebDriver}
@@ -53,7 +89,136 @@ public class WebDriverWrapper {
      */
     WebDriverWrapper(WebDriver baseWebDriver, Long waitTimeoutInSeconds) {
         this.baseWebDriver = baseWebDriver;
+        this.commandStatistics = CommandTimingExecutor.startTest(baseWebDriver);
         this.automationWait = new AutomationWait(this, waitTimeoutInSeconds);
+        this.desiredCapabilities = new DesiredCapabilitiesConfigurationProperties();
+        this.desiredCapabilities.setWaitTimeoutInSeconds(waitTimeoutInSeconds);
+    }
+
+    /**
+     * Takes a raw {@link WebDriver} instance and wraps it up using the settings from the desired capabilities.
+     * @param baseWebDriver         the root {@link WebDriver}
+     * @param desiredCapabilities   the {@link DesiredCapabilitiesConfigurationProperties} for the current run
+     */
+    WebDriverWrapper(WebDriver baseWebDriver, DesiredCapabilitiesConfigurationProperties desiredCapabilities) {
+        this.baseWebDriver = baseWebDriver;
+        this.commandStatistics = CommandTimingExecutor.startTest(baseWebDriver);
+        this.automationWait = new AutomationWait(this, desiredCapabilities.getWaitTimeoutInSeconds());
+        this.desiredCapabilities = desiredCapabilities;
+    }
+
+    /**
+     * Determines if elements should cache the raw {@link WebElement} they resolve to.
+     *
+     * @return true if the element cache is enabled
+     */
+    public boolean isElementCacheEnabled() {
+        return getDesiredCapabilities().getElementLookup().isCacheEnabled();
+    }
+
+    /**
+     * Determines if elements should try a single find before falling back to waiting for them to be displayed.
+     *
+     * @return true if the element lookup fast path is enabled
+     */
+    public boolean isElementFastPathEnabled() {
+        return getDesiredCapabilities().getElementLookup().isFastPathEnabled();
+    }
+
+    /**
+     * Determines if clicks should find, scroll, and hit test the element with a single script before clicking it.
+     *
+     * @return true if fused clicks are enabled
+     */
+    public boolean isFusedClickEnabled() {
+        return getDesiredCapabilities().getInteraction().isFusedClickEnabled();
+    }
+
+    /**
+     * Gets the {@link FillMode} used by {@code clearAndSendKeys} when none is given.
+     *
+     * @return the configured {@link FillMode}
+     */
+    public FillMode getFillMode() {
+        return getDesiredCapabilities().getInteraction().getFillMode();
+    }
+
+    /**
+     * Determines if the built in {@link AutomationWait} conditions should be evaluated inside the browser.
+     *
+     * @return true if browser side conditions are enabled
+     */
+    public boolean isBrowserSideConditionsEnabled() {
+        return getDesiredCapabilities().getBrowserSideWait().isConditionsEnabled();
+    }
+
+    /**
+     * Returns the {@link SettleStrategy} used after clicking an element when the click doesn't choose its own. This is
+     * the strategy of the page that was verified last if it has a {@link Settle} annotation, and otherwise the
+     * strategy from the spring profile.
+     *
+     * @return the {@link SettleStrategy}
+     */
+    public SettleStrategy getSettleStrategy() {
+        var settleStrategy = pageSettleStrategy;
+        if (settleStrategy != null) {
+            return settleStrategy;
+        }
+        if (configuredSettleStrategy == null) {
+            configuredSettleStrategy = SettleStrategies.forConfiguration(getDesiredCapabilities().getSettle());
+        }
+        return configuredSettleStrategy;
+    }
+
+    /**
+     * Sets the {@link SettleStrategy} of the page that was verified last.
+     *
+     * @param pageSettleStrategy the page's strategy, or null to use the strategy from the spring profile
+     */
+    void setPageSettleStrategy(SettleStrategy pageSettleStrategy) {
+        this.pageSettleStrategy = pageSettleStrategy;
+    }
+
+    /**
+     * Records the time spent waiting for the page to settle in {@link #getSettleStatistics()}.
+     *
+     * @param settleStrategy the strategy that was used
+     * @param nanos          the time spent, in nanoseconds
+     */
+    void recordSettle(SettleStrategy settleStrategy, long nanos) {
+        settleStatistics.recordSettle(settleStrategy.getName(), nanos);
+    }
+
+    /**
+     * Makes sure asynchronous scripts are allowed to run for at least the given time. The timeout is only sent to the
+     * browser when it's longer than the one set before, so repeated waits don't cost an extra round trip each.
+     *
+     * @param timeoutInMillis the minimum script timeout in milliseconds
+     */
+    public void ensureScriptTimeout(long timeoutInMillis) {
+        if (timeoutInMillis > scriptTimeoutInMillis) {
+            manage().timeouts().setScriptTimeout(timeoutInMillis, TimeUnit.MILLISECONDS);
+            scriptTimeoutInMillis = timeoutInMillis;
+        }
+    }
+
+    /**
+     * Returns the current document generation. Any element that was cached under a different generation belongs to
+     * a page or window that's no longer in front of us.
+     *
+     * @return the document generation as a {@link Long}
+     */
+    public long getDocumentGeneration() {
+        return documentGeneration.get();
+    }
+
+    /**
+     * Drops every element that has been cached against this wrapper. This happens automatically when navigating or
+     * switching windows through the wrapper, but should be called after changing the page through the base
+     * {@link WebDriver} directly.
+     */
+    public void invalidateElementCache() {
+        documentGeneration.incrementAndGet();
     }
 
     /**
@@ -82,6 +247,7 @@ public class WebDriverWrapper {
      * @param url the URL to navigate to
      */
     public void get(String url) {
+        invalidateElementCache();
         getBaseWebDriver().get(url);
     }
 
@@ -149,6 +315,7 @@ public class WebDriverWrapper {
      * @return as a {@link Navigation}
      */
     public Navigation navigate() {
+        invalidateElementCache();
         return getBaseWebDriver().navigate();
     }
 
@@ -200,6 +367,7 @@ public class WebDriverWrapper {
      * @return as a {@link TargetLocator}
      */
     public TargetLocator switchTo() {
+        invalidateElementCache();
         return getBaseWebDriver().switchTo();
     }
 
@@ -219,6 +387,7 @@ public class WebDriverWrapper {
      * @param windowHandle the window id
      */
     public void switchToWindow(String windowHandle) {
+        invalidateElementCache();
         getBaseWebDriver().switchTo().window(windowHandle);
     }
 
@@ -314,6 +483,7 @@ public class WebDriverWrapper {
      * Quits the current WebDriver instance, closing all open windows
      */
     public void quit() {
+        invalidateElementCache();
         try {
             getBaseWebDriver().quit();
         } catch (Exception e) {
@@ -330,6 +500,7 @@ public class WebDriverWrapper {
         if (this.getWindowHandles().size() > 1) {
             synchronizeWindows = true;
         }
+        invalidateElementCache();
         getBaseWebDriver().close();
         // After closing the window, we can synchronize our windows
         if (synchronizeWindows) {
@@ -0,0 +1,16 @@
+package io.github.kgress.scaffold.exception;
+
+public class ElementFactoryException extends RuntimeException {
+
+  public ElementFactoryException(String message) {
+    super(message);
+  }
+
+  public ElementFactoryException(String message, Throwable cause) {
+    super(message, cause);
+  }
+
+  public ElementFactoryException(Throwable cause) {
+    super(cause);
+  }
+}
@@ -0,0 +1,16 @@
+package io.github.kgress.scaffold.exception;
+
+public class SettleStrategyException extends RuntimeException {
+
+  public SettleStrategyException(String message) {
+    super(message);
+  }
+
+  public SettleStrategyException(String message, Throwable cause) {
+    super(message, cause);
+  }
+
+  public SettleStrategyException(Throwable cause) {
+    super(cause);
+  }
+}
@@ -0,0 +1,151 @@
+package io.github.kgress.scaffold.util;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormatSymbols;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.Value;
+
+/**
+ * Thread safe parsing for the values of typed elements, like the dates of a
+ * {@link io.github.kgress.scaffold.webelements.DateWebElement} or the amounts of a
+ * {@link io.github.kgress.scaffold.webelements.CurrencyWebElement}.
+ *
+ * The {@link java.text.DateFormat} and {@link java.text.NumberFormat} classes can't be shared between threads without
+ * locking, which serializes a suite running in parallel. Everything cached here is immutable instead, so every test
+ * thread can share it freely.
+ */
+public final class ValueParsers {
+
+    private static final Map<FormatterKey, DateTimeFormatter> DATE_TIME_FORMATTERS = new ConcurrentHashMap<>();
+    private static final Map<Locale, NumberSymbols> NUMBER_SYMBOLS = new ConcurrentHashMap<>();
+
+    private ValueParsers() {
+    }
+
+    /**
+     * Returns the {@link DateTimeFormatter} for a pattern in the default locale, creating it only the first time the
+     * pattern is used.
+     *
+     * @see DateTimeFormatter#ofPattern(String)
+     * @param pattern   the pattern, like {@code MM/dd/yyyy}
+     * @return the {@link DateTimeFormatter}
+     */
+    public static DateTimeFormatter getDateTimeFormatter(String pattern) {
+        return getDateTimeFormatter(pattern, Locale.getDefault(Locale.Category.FORMAT));
+    }
+
+    /**
+     * Returns the {@link DateTimeFormatter} for a pattern and locale, creating it only the first time the pattern is
+     * used with that locale.
+     *
+     * @see DateTimeFormatter#ofPattern(String, Locale)
+     * @param pattern   the pattern, like {@code dd MMM yyyy}
+     * @param locale    the locale for month and day names
+     * @return the {@link DateTimeFormatter}
+     */
+    public static DateTimeFormatter getDateTimeFormatter(String pattern, Locale locale) {
+        return DATE_TIME_FORMATTERS.computeIfAbsent(new FormatterKey(pattern, locale),
+                key -> DateTimeFormatter.ofPattern(key.getPattern(), key.getLocale()));
+    }
+
+    /**
+     * Parses a number written the way a locale writes it, like {@code 1,234.5} in the US or {@code 1.234,5} in
+     * Germany. Grouping separators and spaces are ignored, and a leading minus sign or surrounding parentheses make
+     * the number negative.
+     *
+     * @param text      the text to parse
+     * @param locale    the locale the number is written in
+     * @return the number as a {@link BigDecimal}
+     * @throws NumberFormatException if the text isn't a number in that locale
+     */
+    public static BigDecimal parseNumber(String text, Locale locale) {
+        return getNumberSymbols(locale).parse(text, false);
+    }
+
+    /**
+     * Parses an amount of money written the way a locale writes it, like {@code $1,234.50} in the US or
+     * {@code 1.234,50 EUR} in Germany. The locale's currency symbol and currency code are ignored along with
+     * everything {@link #parseNumber(String, Locale)} ignores.
+     *
+     * @param text      the text to parse
+     * @param locale    the locale the amount is written in
+     * @return the amount as a {@link BigDecimal}
+     * @throws NumberFormatException if the text isn't an amount in that locale
+     */
+    public static BigDecimal parseCurrency(String text, Locale locale) {
+        return getNumberSymbols(locale).parse(text, true);
+    }
+
+    private static NumberSymbols getNumberSymbols(Locale locale) {
+        return NUMBER_SYMBOLS.computeIfAbsent(locale, NumberSymbols::new);
+    }
+
+    /**
+     * The key of a cached {@link DateTimeFormatter}.
+     */
+    @Value
+    private static class FormatterKey {
+        String pattern;
+        Locale locale;
+    }
+
+    /**
+     * The symbols a locale writes numbers with, copied out of its {@link DecimalFormatSymbols} once so they can be
+     * read by any thread.
+     */
+    private static final class NumberSymbols {
+
+        private final Locale locale;
+        private final char groupingSeparator;
+        private final char decimalSeparator;
+        private final char minusSign;
+        private final String currencySymbol;
+        private final String currencyCode;
+
+        private NumberSymbols(Locale locale) {
+            var symbols = DecimalFormatSymbols.getInstance(locale);
+            this.locale = locale;
+            this.groupingSeparator = symbols.getGroupingSeparator();
+            this.decimalSeparator = symbols.getDecimalSeparator();
+            this.minusSign = symbols.getMinusSign();
+            this.currencySymbol = symbols.getCurrencySymbol();
+            this.currencyCode = symbols.getInternationalCurrencySymbol();
+        }
+
+        private BigDecimal parse(String text, boolean currency) {
+            var value = text.strip();
+            if (currency) {
+                value = value.replace(currencySymbol, "").replace(currencyCode, "").strip();
+            }
+            var negative = false;
+            if (value.startsWith("(") && value.endsWith(")")) {
+                negative = true;
+                value = value.substring(1, value.length() - 1);
+            }
+            var digits = new StringBuilder();
+            for (var character : value.toCharArray()) {
+                if (Character.isDigit(character)) {
+                    digits.append(Character.digit(character, 10));
+                } else if (character == decimalSeparator) {
+                    digits.append('.');
+                } else if ((character == minusSign || character == '-') && digits.length() == 0) {
+                    negative = true;
+                } else if (character != groupingSeparator && character != '+' && !Character.isSpaceChar(character)) {
+                    throw notANumber(text);
+                }
+            }
+            if (digits.length() == 0) {
+                throw notANumber(text);
+            }
+            var number = new BigDecimal(digits.toString());
+            return negative ? number.negate() : number;
+        }
+
+        private NumberFormatException notANumber(String text) {
+            return new NumberFormatException(String.format("\"%s\" is not a number in %s", text, locale));
+        }
+    }
+}
@@ -1,11 +1,41 @@
 package io.github.kgress.scaffold.webelements;
 
 import io.github.kgress.scaffold.BaseWebElement;
+import io.github.kgress.scaffold.FormStateElement;
+import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties;
+import io.github.kgress.scaffold.models.enums.FillMode;
+import lombok.extern.slf4j.Slf4j;
 import org.openqa.selenium.By;
 import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 
-public class BaseClickableAndTypableWebElement extends BaseClickableWebElement {
+import java.util.Map;
+import java.util.Objects;
+
+@Slf4j
+public class BaseClickableAndTypableWebElement extends BaseClickableWebElement implements FormStateElement {
+
+    /**
+     * Sets the value of the input or text area in {@code arguments[0]} to {@code arguments[1]} through the native
+     * value setter, so frameworks that track the value, like React, see the change, then fires {@code input} and
+     * {@code change} events. Returns the value the element has afterwards, or an error when it isn't editable.
+     */
+    private static final String FAST_FILL_SCRIPT = ""
+            + "var element = arguments[0];"
+            + "var prototype = element instanceof HTMLTextAreaElement ? HTMLTextAreaElement.prototype"
+            + "    : element instanceof HTMLInputElement ? HTMLInputElement.prototype : null;"
+            + "if (!prototype) {"
+            + "  return {error: 'not an input or text area'};"
+            + "}"
+            + "if (element.disabled || element.readOnly) {"
+            + "  return {error: 'not editable'};"
+            + "}"
+            + "element.focus();"
+            + "Object.getOwnPropertyDescriptor(prototype, 'value').set.call(element, arguments[1]);"
+            + "element.dispatchEvent(new Event('input', {bubbles: true}));"
+            + "element.dispatchEvent(new Event('change', {bubbles: true}));"
+            + "return {value: element.value};";
 
     /**
      * Creates a new {@link BaseClickableAndTypableWebElement}. It is highly recommended using
@@ -118,7 +148,7 @@ public class BaseClickableAndTypableWebElement extends BaseClickableWebElement {
      * @param keys  the text or keyboard action to execute
      */
     public void sendKeys(CharSequence ...keys) {
-        getRawWebElement().sendKeys(keys);
+        interactWithRawWebElement(element -> element.sendKeys(keys));
     }
 
     /**
@@ -127,7 +157,7 @@ public class BaseClickableAndTypableWebElement extends BaseClickableWebElement {
      * @return as {@link String}
      */
     public String getValue() {
-        return getRawWebElement().getAttribute("value");
+        return readRawWebElement(element -> element.getAttribute("value"));
     }
 
     /**
@@ -136,19 +166,99 @@ public class BaseClickableAndTypableWebElement extends BaseClickableWebElement {
      * @see WebElement#clear()
      */
     public void clear() {
-        getRawWebElement().clear();
+        interactWithRawWebElement(WebElement::clear);
     }
 
     /**
      * Clears the input field and sends the given keys. If the string is null or empty, this will simply have the
      * effect of clearing the field. NOTE: If you just send whitespace, it *will* be typed into the field.
      *
+     * The text is filled in the {@link FillMode} configured with
+     * {@link DesiredCapabilitiesConfigurationProperties.Interaction#setFillMode(FillMode)}, which types it one key at
+     * a time by default.
+     *
      * @param keys the text to send to the input
      */
     public void clearAndSendKeys(String keys) {
-        this.clear();
-        if (keys != null && keys.length() > 0) {
-            this.sendKeys(keys);
+        clearAndSendKeys(keys, Objects.requireNonNullElse(getWebDriverWrapper().getFillMode(), FillMode.NATIVE));
+    }
+
+    /**
+     * Clears the input field and fills in the given text in a specific {@link FillMode}. With {@link FillMode#FAST},
+     * a single script sets the value through the input's native value setter, fires the {@code input} and
+     * {@code change} events that frameworks like React and Angular listen for, and reads the value back. When the
+     * value reads back differently, like on an input that formats what's typed into it, the text is typed natively
+     * instead.
+     *
+     * @param keys      the text to send to the input
+     * @param fillMode  how to fill in the text
+     */
+    public void clearAndSendKeys(String keys, FillMode fillMode) {
+        if (fillMode == FillMode.FAST && fillFast(keys == null ? "" : keys)) {
+            return;
+        }
+        interactWithRawWebElement(element -> {
+            element.clear();
+            if (keys != null && keys.length() > 0) {
+                element.sendKeys(keys);
+            }
+        });
+    }
+
+    @Override
+    public Map<String, Object> toFormStateChange(Object state) {
+        return Map.of("kind", "text", "value", toText(state));
+    }
+
+    @Override
+    public Object setFormStateWithWebDriver(Object state) {
+        var text = toText(state);
+        return readRawWebElement(element -> {
+            var previous = element.getAttribute("value");
+            if (!text.equals(previous)) {
+                element.clear();
+                if (!text.isEmpty()) {
+                    element.sendKeys(text);
+                }
+            }
+            return previous;
+        });
+    }
+
+    /**
+     * Converts a state given to {@link #setFormState(Map)} into the text to fill in.
+     *
+     * @param state     the text, or a number
+     * @return the text as {@link String}
+     */
+    private String toText(Object state) {
+        if (state instanceof CharSequence || state instanceof Number) {
+            return state.toString();
+        }
+        throw new IllegalArgumentException(String.format(
+                "The text of %s must be a string or a number, but was %s", this, state));
+    }
+
+    /**
+     * Fills in the text with {@link #FAST_FILL_SCRIPT}.
+     *
+     * @param text  the text to fill in
+     * @return true if the value of the element is now the text
+     */
+    private boolean fillFast(String text) {
+        try {
+            var result = (Map<?, ?>) readRawWebElement(element -> getWebDriverWrapper()
+                    .getJavascriptExecutor()
+                    .executeScript(FAST_FILL_SCRIPT, element, text));
+            if (result != null && text.equals(result.get("value"))) {
+                return true;
+            }
+            var reason = result != null && result.containsKey("error") ? result.get("error")
+                    : "the value read back differently";
+            log.debug(String.format("Could not fill %s with a script (%s), typing the text instead", this, reason));
+        } catch (WebDriverException | ClassCastException e) {
+            log.debug(String.format("Could not fill %s with a script: %s", this, e.getMessage()));
         }
+        return false;
     }
 }
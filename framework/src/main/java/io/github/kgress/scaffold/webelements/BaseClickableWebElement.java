@@ -1,9 +1,14 @@
 package io.github.kgress.scaffold.webelements;
 
 import io.github.kgress.scaffold.BaseWebElement;
+import io.github.kgress.scaffold.Settle;
+import io.github.kgress.scaffold.SettleStrategies;
+import io.github.kgress.scaffold.SettleStrategy;
 import io.github.kgress.scaffold.WebDriverWrapper;
 import io.github.kgress.scaffold.WebElementWait;
+import io.github.kgress.scaffold.models.enums.SettleStrategyType;
 import org.openqa.selenium.By;
+import org.openqa.selenium.ElementClickInterceptedException;
 import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebElement;
 
@@ -125,17 +130,64 @@ public class BaseClickableWebElement extends BaseWebElement {
      *
      * - Scrolling the element into current view
      * - Performing the click action on the element
-     * - Waits for the page to load prior to proceeding
+     * - Waits for the page to settle prior to proceeding
      *
      * Scrolling the element into view will invoke {@link BaseWebElement#getRawWebElement()} and
      * therefore the element will {@link WebElementWait#waitUntilDisplayed()}. Because the wait
      * already is occurring during the scroll, we should not invoke another wait call and instead
      * find the element directly through selenium, using the {@link WebDriverWrapper}. After
-     * the element is found and clicked on, wait until the page is loaded before proceeding.
+     * the element is found and clicked on, wait for the page to settle before proceeding.
+     *
+     * With {@code desired-capabilities.interaction.fused-click-enabled}, the scroll, the find, and the check that the
+     * element will receive the click are done with a single script instead, see
+     * {@link BaseWebElement#findClickableRawWebElement()}.
+     *
+     * By default, settling waits until the page is loaded. This can be changed for every click with the
+     * {@code desired-capabilities.settle.strategy} property, or for the clicks on a page with the {@link Settle}
+     * annotation.
      *
      * @see WebElement#click()
      */
     public void click() {
+        click((SettleStrategy) null);
+    }
+
+    /**
+     * Performs a click on the given element and waits for the page to settle with one of Scaffold's own strategies,
+     * instead of the strategy chosen for the page. For example, {@link SettleStrategyType#NONE} for a click that only
+     * opens a menu.
+     *
+     * @see #click()
+     * @param settleStrategyType    the {@link SettleStrategyType} to wait with
+     */
+    public void click(SettleStrategyType settleStrategyType) {
+        click(SettleStrategies.of(settleStrategyType));
+    }
+
+    /**
+     * Performs a click on the given element and waits for the page to settle with the given strategy, instead of the
+     * strategy chosen for the page.
+     *
+     * @see #click()
+     * @param settleStrategy        the {@link SettleStrategy} to wait with, or null for the page's strategy
+     */
+    public void click(SettleStrategy settleStrategy) {
+        /*
+        The strategy is chosen up front so it can prepare before the click, like the network idle
+        strategy installing its tracker so the requests the click starts are counted.
+         */
+        var strategy = prepareSettle(settleStrategy);
+
+        /*
+        With fused clicks enabled, a single script finds the element, scrolls it if needed, and
+        checks that it will receive the click. The element it returns is clicked directly. Anything
+        the script isn't sure about falls back to the regular click below.
+         */
+        if (getWebDriverWrapper().isFusedClickEnabled() && clickFused()) {
+            settle(strategy);
+            return;
+        }
+
         /*
         Scrolls the element into view so selenium can click it. Ideally we always want to scroll
         with the least amount of effort required to get the element into view. This is why the
@@ -153,8 +205,27 @@ public class BaseClickableWebElement extends BaseWebElement {
         /*
         This is a nice catch all that should happen after the element is clicked on. Sometimes
         websites may have additional javascript or ajax calls when clicking on elements. This
-        ensures the state of the page is ready.
+        ensures the state of the page is ready, in the way the page or the click asked for.
          */
-        getWebElementWait().waitUntilPageIsLoaded();
+        settle(strategy);
+    }
+
+    /**
+     * Clicks the element returned by {@link #findClickableRawWebElement()}.
+     *
+     * @return true if the element was clicked, or false if the regular click should be used instead
+     */
+    private boolean clickFused() {
+        var clickableElement = findClickableRawWebElement();
+        if (clickableElement == null) {
+            return false;
+        }
+        try {
+            clickableElement.click();
+            return true;
+        } catch (StaleElementReferenceException | ElementClickInterceptedException e) {
+            // Neither exception means the click reached the element, so it's safe to click again
+            return false;
+        }
     }
 }
@@ -1,14 +1,17 @@
 package io.github.kgress.scaffold.webelements;
 
 import io.github.kgress.scaffold.BaseWebElement;
+import io.github.kgress.scaffold.FormStateElement;
 import org.openqa.selenium.By;
 import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebElement;
 
+import java.util.Map;
+
 /**
  * Scaffold's strongly typed interpretation of a checkbox element.
  */
-public class CheckBoxWebElement extends BaseClickableWebElement {
+public class CheckBoxWebElement extends BaseClickableWebElement implements FormStateElement {
 
     /**
      * Creates a new {@link CheckBoxWebElement}. It is highly recommended using {@link By#cssSelector(String)} over
@@ -121,28 +124,48 @@ public class CheckBoxWebElement extends BaseClickableWebElement {
      * @param value the state in which the checkbox should be in.
      */
     public void check(boolean value) {
-        if (value) {
-            check();
-        } else {
-            uncheck();
-        }
+        setCheckedWithWebDriver(value);
     }
 
     /**
-     * Checks the checkbox in {@link #check(boolean)}
+     * Puts the checkbox into the given state with a single script, clicking it only when it isn't already in that
+     * state. Falls back to {@link #check(boolean)} when the checkbox can't be changed in the browser.
+     *
+     * @see BaseWebElement#setFormState(Map)
+     * @param checked   the state in which the checkbox should be in
+     * @return          true if the checkbox was checked before this call
      */
-    private void check() {
-        if (!getRawWebElement().isSelected()) {
-            getRawWebElement().click();
+    public boolean ensureChecked(boolean checked) {
+        return (Boolean) setFormState(Map.of(this, checked)).get(this);
+    }
+
+    @Override
+    public Map<String, Object> toFormStateChange(Object state) {
+        if (!(state instanceof Boolean)) {
+            throw new IllegalArgumentException(String.format(
+                    "The state of checkbox %s must be true or false, but was %s", this, state));
         }
+        return Map.of("kind", "checked", "value", state);
+    }
+
+    @Override
+    public Object setFormStateWithWebDriver(Object state) {
+        return setCheckedWithWebDriver((Boolean) state);
     }
 
     /**
-     * Unchecks the checkbox in {@link #check(boolean)}
+     * Reads the checkbox's state and clicks it if it isn't in the given state, finding the raw element only once.
+     *
+     * @param checked   the state in which the checkbox should be in
+     * @return          true if the checkbox was checked before it was clicked
      */
-    private void uncheck() {
-        if (getRawWebElement().isSelected()) {
-            getRawWebElement().click();
-        }
+    private boolean setCheckedWithWebDriver(boolean checked) {
+        return readRawWebElement(element -> {
+            var previous = element.isSelected();
+            if (previous != checked) {
+                element.click();
+            }
+            return previous;
+        });
     }
 }
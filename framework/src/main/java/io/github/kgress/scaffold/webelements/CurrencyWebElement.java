@@ -0,0 +1,56 @@
+package io.github.kgress.scaffold.webelements;
+
+import io.github.kgress.scaffold.BaseWebElement;
+import io.github.kgress.scaffold.util.ValueParsers;
+import java.math.BigDecimal;
+import java.util.Locale;
+import org.openqa.selenium.By;
+
+/**
+ * Scaffold's strongly typed interpretation of an element that shows an amount of money, like a price or an order
+ * total. The locale's currency symbol and code are ignored when the amount is parsed, so {@code $1,234.50} in the US
+ * is read as {@code 1234.50}.
+ */
+public class CurrencyWebElement extends NumberWebElement {
+
+    /**
+     * Creates a new {@link CurrencyWebElement}. It is highly recommended using {@link By#cssSelector(String)} over
+     * another method, such as {@link By#xpath(String)}, in almost all cases as it can be less flaky and less reliant
+     * on DOM hierarchy.
+     *
+     * @see BaseWebElement#BaseWebElement(String)
+     * @param cssSelector   the value of the {@link By#cssSelector(String)}
+     */
+    public CurrencyWebElement(String cssSelector) {
+        super(cssSelector);
+    }
+
+    /**
+     * Use this constructor when you'd like to locate an element with a {@link By} method different from
+     * {@link By#cssSelector(String)}. We strongly recommend using {@link #CurrencyWebElement(String cssSelector)}
+     * in almost all cases.
+     *
+     * @see BaseWebElement#BaseWebElement(By)
+     * @param by    the {@link By} locator
+     */
+    public CurrencyWebElement(By by) {
+        super(by);
+    }
+
+    /**
+     * Use this constructor when you'd like to locate an element with a child and parent {@link By} together. Useful
+     * when you want a more verbose element definition in context of your websites' DOM.
+     *
+     * @see BaseWebElement#BaseWebElement(By, By)
+     * @param by        the {@link By} locator for the child element
+     * @param parentBy  the {@link By} locator for the parent element
+     */
+    public CurrencyWebElement(By by, By parentBy) {
+        super(by, parentBy);
+    }
+
+    @Override
+    protected BigDecimal parse(String text, Locale locale) {
+        return ValueParsers.parseCurrency(text, locale);
+    }
+}
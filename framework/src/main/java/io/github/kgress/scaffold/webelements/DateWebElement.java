@@ -1,10 +1,18 @@
 package io.github.kgress.scaffold.webelements;
 
 import io.github.kgress.scaffold.BaseWebElement;
+import io.github.kgress.scaffold.FormStateElement;
 import io.github.kgress.scaffold.util.AutomationUtils;
+import io.github.kgress.scaffold.util.ValueParsers;
 import java.text.DateFormat;
 import java.text.ParseException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAccessor;
 import java.util.Date;
+import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 import org.openqa.selenium.By;
 import org.openqa.selenium.StaleElementReferenceException;
@@ -17,14 +25,20 @@ import org.openqa.selenium.WebElement;
  * the intention is to provide a simple way to put dates in fields, which can frequently be tricky.
  */
 @Slf4j
-public class DateWebElement extends BaseWebElement {
+public class DateWebElement extends BaseWebElement implements FormStateElement {
 
     // Global DateFormat to be used
-    private static DateFormat dateFormat;
+    private static volatile DateFormat dateFormat;
 
     // Local DateFormat which will override the global DateFormat
     private DateFormat localDateFormat;
 
+    // Global DateTimeFormatter to be used, matching the value of an html date input by default
+    private static volatile DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ISO_LOCAL_DATE;
+
+    // Local DateTimeFormatter which will override the global DateTimeFormatter
+    private DateTimeFormatter localDateTimeFormatter;
+
     /**
      * Creates a new {@link DateWebElement}. It is highly recommended using {@link By#cssSelector(String)} over
      * another method, such as {@link By#xpath(String)}, in almost all cases as it can be less flaky and less reliant
@@ -150,12 +164,64 @@ public class DateWebElement extends BaseWebElement {
         return this;
     }
 
+    /**
+     * Sets a DateTimeFormatter which will be globally used by all DateWebElements for {@link #getLocalDate()} and
+     * {@link #getLocalDateTime()}. Unlike a {@link DateFormat}, a {@link DateTimeFormatter} is immutable, so it's
+     * shared by every thread without locking.
+     *
+     * @param dateTimeFormatter the {@link DateTimeFormatter} to use
+     */
+    public static void setGlobalDateTimeFormatter(DateTimeFormatter dateTimeFormatter) {
+        DateWebElement.dateTimeFormatter = dateTimeFormatter;
+    }
+
+    /**
+     * Sets the pattern which will be globally used by all DateWebElements for {@link #getLocalDate()} and
+     * {@link #getLocalDateTime()}. The formatter for the pattern is created once and cached.
+     *
+     * @see ValueParsers#getDateTimeFormatter(String)
+     * @param pattern the pattern to use, like {@code MM/dd/yyyy}
+     */
+    public static void setGlobalDatePattern(String pattern) {
+        setGlobalDateTimeFormatter(ValueParsers.getDateTimeFormatter(pattern));
+    }
+
+    /**
+     * Sets a DateTimeFormatter which will be used by this DateWebElement only.
+     *
+     * @param dateTimeFormatter the {@link DateTimeFormatter} to use
+     * @return the date as {@link DateWebElement}
+     */
+    public DateWebElement setDateTimeFormatter(DateTimeFormatter dateTimeFormatter) {
+        this.localDateTimeFormatter = dateTimeFormatter;
+        return this;
+    }
+
+    /**
+     * Sets the pattern which will be used by this DateWebElement only. The formatter for the pattern is created once
+     * and cached, so elements using the same pattern share it.
+     *
+     * @see ValueParsers#getDateTimeFormatter(String)
+     * @param pattern the pattern to use, like {@code MM/dd/yyyy}
+     * @return the date as {@link DateWebElement}
+     */
+    public DateWebElement setDatePattern(String pattern) {
+        return setDateTimeFormatter(ValueParsers.getDateTimeFormatter(pattern));
+    }
+
+    /**
+     * Returns the value of the element as a {@link Date}, parsed with the {@link DateFormat} set on this element or
+     * globally. The format is copied for every parse, since a {@link DateFormat} can't be used by two threads at once.
+     * Prefer {@link #getLocalDate()}, which doesn't need the copy.
+     *
+     * @return the date as {@link Date}, or null if the element has no value or the value couldn't be parsed
+     */
     public Date getValue() {
         var value = getAttribute("value");
         Date d = null;
         if (value != null && value.length() > 0) {
             try {
-                d = getDateFormat().parse(value);
+                d = ((DateFormat) getDateFormat().clone()).parse(value);
             } catch (ParseException p) {
                 log.error("Error parsing date: " + AutomationUtils.getStackTrace(p));
             }
@@ -163,6 +229,77 @@ public class DateWebElement extends BaseWebElement {
         return d;
     }
 
+    /**
+     * Returns the value of the element as a {@link LocalDate}, parsed with the {@link DateTimeFormatter} set on this
+     * element or globally. Without either, the value is expected to look like {@code 2021-12-31}, which is how html
+     * date inputs report it.
+     *
+     * @return the date as {@link LocalDate}, or null if the element has no value
+     * @throws DateTimeParseException if the value can't be parsed
+     */
+    public LocalDate getLocalDate() {
+        var value = getAttribute("value");
+        return value == null || value.isEmpty() ? null : LocalDate.parse(value, getDateTimeFormatter());
+    }
+
+    /**
+     * Returns the value of the element as a {@link LocalDateTime}, parsed with the {@link DateTimeFormatter} set on
+     * this element or globally. The formatter needs to include a time, like
+     * {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME} for an html datetime-local input.
+     *
+     * @return the date and time as {@link LocalDateTime}, or null if the element has no value
+     * @throws DateTimeParseException if the value can't be parsed
+     */
+    public LocalDateTime getLocalDateTime() {
+        var value = getAttribute("value");
+        return value == null || value.isEmpty() ? null : LocalDateTime.parse(value, getDateTimeFormatter());
+    }
+
+    @Override
+    public Map<String, Object> toFormStateChange(Object state) {
+        return Map.of("kind", "text", "value", toText(state));
+    }
+
+    @Override
+    public Object setFormStateWithWebDriver(Object state) {
+        var text = toText(state);
+        return readRawWebElement(element -> {
+            var previous = element.getAttribute("value");
+            if (!text.equals(previous)) {
+                element.clear();
+                element.sendKeys(text);
+            }
+            return previous;
+        });
+    }
+
+    /**
+     * Converts a state given to {@link #setFormState(Map)} into the text of the date, formatting dates with the
+     * applicable DateTimeFormatter.
+     *
+     * @param state     the text of the date, or a date like a {@link LocalDate}
+     * @return the text as {@link String}
+     */
+    private String toText(Object state) {
+        if (state instanceof CharSequence) {
+            return state.toString();
+        }
+        if (state instanceof TemporalAccessor) {
+            return getDateTimeFormatter().format((TemporalAccessor) state);
+        }
+        throw new IllegalArgumentException(String.format(
+                "The date of %s must be a string or a date like a LocalDate, but was %s", this, state));
+    }
+
+    /**
+     * Returns the applicable DateTimeFormatter.
+     *
+     * @return the {@link DateTimeFormatter}
+     */
+    private DateTimeFormatter getDateTimeFormatter() {
+        return localDateTimeFormatter != null ? localDateTimeFormatter : dateTimeFormatter;
+    }
+
     /**
      * Returns the applicable DateFormat.
      *
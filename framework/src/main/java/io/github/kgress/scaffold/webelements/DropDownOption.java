@@ -0,0 +1,58 @@
+package io.github.kgress.scaffold.webelements;
+
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * An immutable copy of a single option in a {@link DropDownWebElement}, read from the browser together with every
+ * other option in the drop down by {@link DropDownWebElement#getOptions()}.
+ */
+@Getter
+public class DropDownOption {
+
+    private final int index;
+    private final String value;
+
+    /**
+     * The text of the option with its whitespace collapsed, the same way the browser shows it.
+     */
+    private final String text;
+    private final boolean selected;
+
+    /**
+     * Whether the option, or the group it belongs to, is disabled.
+     */
+    private final boolean disabled;
+
+    public DropDownOption(int index, String value, String text, boolean selected, boolean disabled) {
+        this.index = index;
+        this.value = value;
+        this.text = text;
+        this.selected = selected;
+        this.disabled = disabled;
+    }
+
+    /**
+     * Creates an option from one of the results of the script in {@link DropDownWebElement#getOptions()}.
+     *
+     * @param result    the script result for one option
+     * @return the {@link DropDownOption}
+     */
+    static DropDownOption fromScriptResult(Object result) {
+        var values = (Map<?, ?>) result;
+        var index = values.get("index");
+        return new DropDownOption(
+                index instanceof Number ? ((Number) index).intValue() : 0,
+                (String) values.get("value"),
+                (String) values.get("text"),
+                Boolean.TRUE.equals(values.get("selected")),
+                Boolean.TRUE.equals(values.get("disabled")));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("DropDownOption{index=%s, value=%s, text=%s, selected=%s, disabled=%s}", index, value,
+                text, selected, disabled);
+    }
+}
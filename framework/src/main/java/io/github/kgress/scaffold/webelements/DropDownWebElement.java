@@ -1,18 +1,76 @@
 package io.github.kgress.scaffold.webelements;
 
 import io.github.kgress.scaffold.BaseWebElement;
+import io.github.kgress.scaffold.FormStateElement;
 import org.openqa.selenium.By;
 import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.Select;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
  * Scaffold's strongly typed interpretation of a dropdown element.
  */
-public class DropDownWebElement extends BaseClickableWebElement {
+public class DropDownWebElement extends BaseClickableWebElement implements FormStateElement {
+
+    /**
+     * Reads every option of the select element in {@code arguments[0]}.
+     */
+    private static final String OPTIONS_SCRIPT = ""
+            + "return Array.prototype.map.call(arguments[0].options, function (option) {"
+            + "  var group = option.parentNode;"
+            + "  return {"
+            + "    index: option.index,"
+            + "    value: option.value,"
+            + "    text: option.text,"
+            + "    selected: option.selected,"
+            + "    disabled: option.disabled || (group.tagName === 'OPTGROUP' && group.disabled)"
+            + "  };"
+            + "});";
+
+    /**
+     * Selects the options of the select element in {@code arguments[0]} whose text is {@code arguments[1]}, firing
+     * {@code input} and {@code change} events if that changed the selection. Like {@link Select}, only the first
+     * matching option is selected when the drop down doesn't allow several. Returns the value of the first matching
+     * option, or null when no enabled option has that text.
+     */
+    private static final String SELECT_BY_TEXT_SCRIPT = ""
+            + "var select = arguments[0];"
+            + "var text = arguments[1].trim().replace(/\\s+/g, ' ');"
+            + "if (select.disabled) {"
+            + "  return null;"
+            + "}"
+            + "var matches = Array.prototype.filter.call(select.options, function (option) {"
+            + "  return option.text === text;"
+            + "});"
+            + "if (!select.multiple) {"
+            + "  matches = matches.slice(0, 1);"
+            + "}"
+            + "if (matches.length === 0 || matches.some(function (option) { return option.disabled; })) {"
+            + "  return null;"
+            + "}"
+            + "var changed = false;"
+            + "matches.forEach(function (option) {"
+            + "  if (!option.selected) {"
+            + "    option.selected = true;"
+            + "    changed = true;"
+            + "  }"
+            + "});"
+            + "if (changed) {"
+            + "  select.dispatchEvent(new Event('input', {bubbles: true}));"
+            + "  select.dispatchEvent(new Event('change', {bubbles: true}));"
+            + "}"
+            + "return matches[0].value;";
+
+    /**
+     * The {@link Select} for the raw element it was last created for, so it isn't created again, with a check of the
+     * element's tag name and multiple attribute, every time the drop down is used.
+     */
+    private volatile Select cachedSelect;
 
     /**
      * Creates a new {@link DropDownWebElement}. It is highly recommended using {@link By#cssSelector(String)} over
@@ -125,8 +183,23 @@ public class DropDownWebElement extends BaseClickableWebElement {
      * @return the list of options.
      */
     public List<String> getOptionsText() {
-        return getSelectElement().getOptions().stream()
-                .map(WebElement::getText)
+        return getOptions().stream()
+                .map(DropDownOption::getText)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Reads the value, text, and selected and disabled state of every option in the drop down with a single script,
+     * instead of a round trip to the browser for every option.
+     *
+     * @return the options as a {@link List} of {@link DropDownOption}, in the order they appear in the drop down
+     */
+    public List<DropDownOption> getOptions() {
+        var result = (List<?>) readRawWebElement(element -> getWebDriverWrapper()
+                .getJavascriptExecutor()
+                .executeScript(OPTIONS_SCRIPT, element));
+        return result.stream()
+                .map(DropDownOption::fromScriptResult)
                 .collect(Collectors.toList());
     }
 
@@ -155,20 +228,100 @@ public class DropDownWebElement extends BaseClickableWebElement {
      * field alone. If someone is doing data-driven tests that contain many variables, we don't want to require
      * them to surround every instance of this method with the same if block.
      *
+     * The option is found and selected by a script in the browser. When no enabled option has exactly that text, the
+     * selection falls back to {@link Select#selectByVisibleText(String)}, which also matches partial text and throws
+     * when there's no match at all.
+     *
      * @param value     the value to select
      */
     public void selectByVisibleText(String value) {
         if (value.isBlank()) {
+            return;
+        }
+        var selectedValue = readRawWebElement(element -> getWebDriverWrapper()
+                .getJavascriptExecutor()
+                .executeScript(SELECT_BY_TEXT_SCRIPT, element, value));
+        if (selectedValue == null) {
             getSelectElement().selectByVisibleText(value);
         }
     }
 
     /**
-     * Return a Selenium {@link Select} object (a combo box) based on the underlying {@link WebElement}
+     * Selects exactly the options with the given values with a single script, leaving every other option unselected.
+     * Options that are already in the right state aren't touched, so calling this twice with the same values does
+     * nothing the second time. A drop down that doesn't allow several options takes a single value. Falls back to
+     * WebDriver when the drop down can't be changed in the browser.
+     *
+     * @see BaseWebElement#setFormState(Map)
+     * @param values    the values of the options to select
+     * @return          the values of the options that were selected before this call
+     */
+    @SuppressWarnings("unchecked")
+    public List<String> selectByValues(String... values) {
+        return (List<String>) setFormState(Map.of(this, List.of(values))).get(this);
+    }
+
+    @Override
+    public Map<String, Object> toFormStateChange(Object state) {
+        return Map.of("kind", "selected", "values", toValues(state));
+    }
+
+    @Override
+    public Object setFormStateWithWebDriver(Object state) {
+        var values = toValues(state);
+        var select = getSelectElement();
+        var previous = select.getAllSelectedOptions().stream()
+                .map(option -> option.getAttribute("value"))
+                .collect(Collectors.toList());
+        if (!select.isMultiple()) {
+            if (values.size() != 1) {
+                throw new IllegalArgumentException(String.format(
+                        "Drop down %s only allows one option to be selected, but was given %s", this, values));
+            }
+            if (!previous.equals(values)) {
+                select.selectByValue(values.get(0));
+            }
+            return previous;
+        }
+        values.forEach(select::selectByValue);
+        previous.stream()
+                .filter(value -> !values.contains(value))
+                .forEach(select::deselectByValue);
+        return previous;
+    }
+
+    /**
+     * Converts a state given to {@link #setFormState(Map)} into the values of the options to select.
+     *
+     * @param state     a single value, or a {@link Collection} of values
+     * @return          the values as a {@link List}
+     */
+    private List<String> toValues(Object state) {
+        if (state instanceof String) {
+            return List.of((String) state);
+        }
+        if (state instanceof Collection && ((Collection<?>) state).stream().allMatch(String.class::isInstance)) {
+            return ((Collection<?>) state).stream()
+                    .map(String.class::cast)
+                    .collect(Collectors.toList());
+        }
+        throw new IllegalArgumentException(String.format(
+                "The state of drop down %s must be an option value or a collection of them, but was %s", this, state));
+    }
+
+    /**
+     * Return a Selenium {@link Select} object (a combo box) based on the underlying {@link WebElement}. The same
+     * {@link Select} is handed back for as long as the underlying element is the same element on the page.
      *
      * @return the {@link Select} object
      */
     protected Select getSelectElement() {
-        return new Select(this.getRawWebElement());
+        var element = this.getRawWebElement();
+        var select = cachedSelect;
+        if (select == null || !select.getWrappedElement().equals(element)) {
+            select = new Select(element);
+            cachedSelect = select;
+        }
+        return select;
     }
 }
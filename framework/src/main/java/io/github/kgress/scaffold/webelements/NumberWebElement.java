@@ -0,0 +1,112 @@
+package io.github.kgress.scaffold.webelements;
+
+import io.github.kgress.scaffold.BaseWebElement;
+import io.github.kgress.scaffold.util.ValueParsers;
+import java.math.BigDecimal;
+import java.util.Locale;
+import org.openqa.selenium.By;
+
+/**
+ * Scaffold's strongly typed interpretation of an element that shows a number, like a quantity input or a count in a
+ * summary. The value of an input is used when the element has one, otherwise its text.
+ *
+ * Numbers are parsed with {@link ValueParsers}, which is safe to use from every test thread at once.
+ */
+public class NumberWebElement extends BaseWebElement {
+
+    // Global Locale to be used
+    private static volatile Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+
+    // Local Locale which will override the global Locale
+    private Locale localLocale;
+
+    /**
+     * Creates a new {@link NumberWebElement}. It is highly recommended using {@link By#cssSelector(String)} over
+     * another method, such as {@link By#xpath(String)}, in almost all cases as it can be less flaky and less reliant
+     * on DOM hierarchy.
+     *
+     * @see BaseWebElement#BaseWebElement(String)
+     * @param cssSelector   the value of the {@link By#cssSelector(String)}
+     */
+    public NumberWebElement(String cssSelector) {
+        super(cssSelector);
+    }
+
+    /**
+     * Use this constructor when you'd like to locate an element with a {@link By} method different from
+     * {@link By#cssSelector(String)}. We strongly recommend using {@link #NumberWebElement(String cssSelector)}
+     * in almost all cases.
+     *
+     * @see BaseWebElement#BaseWebElement(By)
+     * @param by    the {@link By} locator
+     */
+    public NumberWebElement(By by) {
+        super(by);
+    }
+
+    /**
+     * Use this constructor when you'd like to locate an element with a child and parent {@link By} together. Useful
+     * when you want a more verbose element definition in context of your websites' DOM.
+     *
+     * @see BaseWebElement#BaseWebElement(By, By)
+     * @param by        the {@link By} locator for the child element
+     * @param parentBy  the {@link By} locator for the parent element
+     */
+    public NumberWebElement(By by, By parentBy) {
+        super(by, parentBy);
+    }
+
+    /**
+     * Sets a Locale which will be globally used by all NumberWebElements and CurrencyWebElements.
+     *
+     * @param locale the {@link Locale} the numbers are written in
+     */
+    public static void setGlobalLocale(Locale locale) {
+        NumberWebElement.locale = locale;
+    }
+
+    /**
+     * Sets a Locale which will be used by this element only.
+     *
+     * @param locale the {@link Locale} the number is written in
+     * @return the element as {@link NumberWebElement}
+     */
+    public NumberWebElement setLocale(Locale locale) {
+        this.localLocale = locale;
+        return this;
+    }
+
+    /**
+     * Returns the number the element shows, parsed in the applicable locale.
+     *
+     * @return the number as {@link BigDecimal}, or null if the element is empty
+     * @throws NumberFormatException if the element doesn't show a number
+     */
+    public BigDecimal getValue() {
+        var text = readRawWebElement(element -> {
+            var value = element.getAttribute("value");
+            return value != null ? value : element.getText();
+        });
+        return text == null || text.isBlank() ? null : parse(text, getLocale());
+    }
+
+    /**
+     * Parses the text of the element in {@link #getValue()}.
+     *
+     * @param text      the text to parse
+     * @param locale    the applicable {@link Locale}
+     * @return the number as {@link BigDecimal}
+     */
+    protected BigDecimal parse(String text, Locale locale) {
+        return ValueParsers.parseNumber(text, locale);
+    }
+
+    /**
+     * Returns the applicable Locale.
+     *
+     * @return the {@link Locale}
+     */
+    protected Locale getLocale() {
+        return localLocale != null ? localLocale : locale;
+    }
+}
@@ -1,17 +1,20 @@
 package io.github.kgress.scaffold.webelements;
 
 import io.github.kgress.scaffold.BaseWebElement;
+import io.github.kgress.scaffold.FormStateElement;
 import org.openqa.selenium.By;
 import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebElement;
 
+import java.util.Map;
+
 /**
  * Scaffold's strongly typed interpretation of a radio element.
  *
  * A RadioWebElement and a CheckBoxElement can sometimes be interchangeable. In the future, we should distinguish these
  * by adding functionality that is specific to their concept.
  */
-public class RadioWebElement extends BaseClickableWebElement {
+public class RadioWebElement extends BaseClickableWebElement implements FormStateElement {
 
     /**
      * Creates a new {@link RadioWebElement}. It is highly recommended using {@link By#cssSelector(String)} over
@@ -124,6 +127,37 @@ public class RadioWebElement extends BaseClickableWebElement {
      @return the result as {@link boolean}
      */
     public boolean isSelected() {
-        return getRawWebElement().isSelected();
+        return readRawWebElement(WebElement::isSelected);
+    }
+
+    /**
+     * Selects the radio button with a single script, clicking it only when it isn't already selected. Falls back to
+     * WebDriver when the radio button can't be changed in the browser.
+     *
+     * @see BaseWebElement#setFormState(Map)
+     * @return  true if the radio button was already selected
+     */
+    public boolean ensureSelected() {
+        return (Boolean) setFormState(Map.of(this, true)).get(this);
+    }
+
+    @Override
+    public Map<String, Object> toFormStateChange(Object state) {
+        if (!Boolean.TRUE.equals(state)) {
+            throw new IllegalArgumentException(String.format("Radio button %s can only be selected. Select "
+                    + "another radio button in its group to unselect it.", this));
+        }
+        return Map.of("kind", "checked", "value", true);
+    }
+
+    @Override
+    public Object setFormStateWithWebDriver(Object state) {
+        return readRawWebElement(element -> {
+            var previous = element.isSelected();
+            if (!previous) {
+                element.click();
+            }
+            return previous;
+        });
     }
 }
@@ -5,17 +5,22 @@ import static org.mockito.Mockito.when;
 import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties;
 import io.github.kgress.scaffold.environment.config.ScaffoldConfiguration;
 import io.github.kgress.scaffold.webdrivercontext.WebDriverContextTests;
+import io.github.kgress.scaffold.webdriverpool.WebDriverSessionPoolTests;
 import io.github.kgress.scaffold.webelements.BaseClickableAndTypableWebElement;
 import io.github.kgress.scaffold.webelements.BaseClickableWebElement;
 import io.github.kgress.scaffold.webelements.ButtonWebElement;
 import io.github.kgress.scaffold.webelements.CheckBoxWebElement;
+import io.github.kgress.scaffold.webelements.CurrencyWebElement;
+import io.github.kgress.scaffold.webelements.DateWebElement;
 import io.github.kgress.scaffold.webelements.DivWebElement;
 import io.github.kgress.scaffold.webelements.DropDownWebElement;
 import io.github.kgress.scaffold.webelements.ImageWebElement;
 import io.github.kgress.scaffold.webelements.InputWebElement;
 import io.github.kgress.scaffold.webelements.LinkWebElement;
+import io.github.kgress.scaffold.webelements.NumberWebElement;
 import io.github.kgress.scaffold.webelements.RadioWebElement;
 import io.github.kgress.scaffold.webelements.StaticTextWebElement;
+import java.util.function.Supplier;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.parallel.Execution;
@@ -164,6 +169,24 @@ public abstract class BaseUnitTest {
         }
     }
 
+    /**
+     * A test class required for leasing and releasing sessions in {@link WebDriverSessionPoolTests}. The super
+     * requires package level access.
+     */
+    protected static class TestWebDriverSessionPool extends WebDriverSessionPool {
+        public TestWebDriverSessionPool(DesiredCapabilitiesConfigurationProperties desiredCapabilities) {
+            super(desiredCapabilities, null);
+        }
+
+        public WebDriver lease_fromParent(String capabilityKey, Supplier<WebDriver> driverFactory) {
+            return lease(capabilityKey, driverFactory);
+        }
+
+        public void release_fromParent(WebDriver webDriver) {
+            release(webDriver);
+        }
+    }
+
     /**
      * A nested class for testing. It's living in {@link BaseUnitTest} because it requires package access. it also
      * requires some overrides, so we can return mocks instead of invoking the real method calls.
@@ -541,4 +564,100 @@ public abstract class BaseUnitTest {
             return mockWebElementWait;
         }
     }
+
+    /**
+     * A nested class for testing. It's living in {@link BaseUnitTest} because it requires package access. it also
+     * requires some overrides, so we can return mocks instead of invoking the real method calls.
+     */
+    public class TestDateWebElement extends DateWebElement {
+
+        public TestDateWebElement(String cssSelector) {
+            super(cssSelector);
+        }
+
+        public TestDateWebElement(By by) {
+            super(by);
+        }
+
+        public TestDateWebElement(By by, By parentBy) {
+            super(by, parentBy);
+        }
+
+        @Override
+        public WebDriverWrapper getWebDriverWrapper() {
+            return mockWebDriverWrapper;
+        }
+
+        @Override
+        public void setWebElementWait() {}
+
+        @Override
+        public WebElementWait getWebElementWait() {
+            return mockWebElementWait;
+        }
+    }
+
+    /**
+     * A nested class for testing. It's living in {@link BaseUnitTest} because it requires package access. it also
+     * requires some overrides, so we can return mocks instead of invoking the real method calls.
+     */
+    public class TestNumberWebElement extends NumberWebElement {
+
+        public TestNumberWebElement(String cssSelector) {
+            super(cssSelector);
+        }
+
+        public TestNumberWebElement(By by) {
+            super(by);
+        }
+
+        public TestNumberWebElement(By by, By parentBy) {
+            super(by, parentBy);
+        }
+
+        @Override
+        public WebDriverWrapper getWebDriverWrapper() {
+            return mockWebDriverWrapper;
+        }
+
+        @Override
+        public void setWebElementWait() {}
+
+        @Override
+        public WebElementWait getWebElementWait() {
+            return mockWebElementWait;
+        }
+    }
+
+    /**
+     * A nested class for testing. It's living in {@link BaseUnitTest} because it requires package access. it also
+     * requires some overrides, so we can return mocks instead of invoking the real method calls.
+     */
+    public class TestCurrencyWebElement extends CurrencyWebElement {
+
+        public TestCurrencyWebElement(String cssSelector) {
+            super(cssSelector);
+        }
+
+        public TestCurrencyWebElement(By by) {
+            super(by);
+        }
+
+        public TestCurrencyWebElement(By by, By parentBy) {
+            super(by, parentBy);
+        }
+
+        @Override
+        public WebDriverWrapper getWebDriverWrapper() {
+            return mockWebDriverWrapper;
+        }
+
+        @Override
+        public void setWebElementWait() {}
+
+        @Override
+        public WebElementWait getWebElementWait() {
+            return mockWebElementWait;
+        }
+    }
 }
@@ -0,0 +1,29 @@
+package io.github.kgress.scaffold;
+
+import lombok.Getter;
+import org.openqa.selenium.By;
+
+/**
+ * Component for testing {@link BaseComponent} that counts how many instances were built on the
+ * current thread. Cannot be nested since we're using reflection on this class.
+ */
+@Getter
+public class CountingComponent extends BaseComponent {
+
+  private static final ThreadLocal<Integer> BUILT_COUNT = ThreadLocal.withInitial(() -> 0);
+
+  private final MockBaseWebElement testField = new MockBaseWebElement(
+      By.cssSelector("#fake-field"));
+
+  public CountingComponent() {
+    BUILT_COUNT.set(BUILT_COUNT.get() + 1);
+  }
+
+  public static int getBuiltCount() {
+    return BUILT_COUNT.get();
+  }
+
+  public static void resetBuiltCount() {
+    BUILT_COUNT.set(0);
+  }
+}
@@ -1,6 +1,7 @@
 package io.github.kgress.scaffold;
 
 import java.util.List;
+import java.util.stream.Stream;
 import lombok.Getter;
 import org.mockito.Mock;
 import org.openqa.selenium.By;
@@ -29,4 +30,9 @@ public class MockComponent extends BaseComponent {
       List<X> listOfElements, Class<T> component, Integer indexCorrection) {
     return buildComponentList(listOfElements, component, indexCorrection);
   }
+
+  public <T extends BaseComponent, X extends BaseWebElement> Stream<T> streamComponents_callProtectedMethod(
+      List<X> listOfElements, Class<T> component, Integer indexCorrection) {
+    return streamComponents(listOfElements, component, indexCorrection);
+  }
 }
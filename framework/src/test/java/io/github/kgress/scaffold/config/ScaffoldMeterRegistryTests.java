@@ -0,0 +1,131 @@
+package io.github.kgress.scaffold.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.kgress.scaffold.BaseUnitTest;
+import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties;
+import io.github.kgress.scaffold.environment.metrics.FileMeterExporter;
+import io.github.kgress.scaffold.environment.metrics.ScaffoldMeterRegistry;
+import io.github.kgress.scaffold.models.enums.MetricsExportFormat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ScaffoldMeterRegistryTests extends BaseUnitTest {
+
+    @Autowired
+    private ScaffoldMeterRegistry scaffoldMeterRegistry;
+
+    @Autowired
+    private FileMeterExporter fileMeterExporter;
+
+    @TempDir
+    Path exportDirectory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void scaffoldMeterRegistry_isGlobalRegistry() {
+        assertSame(ScaffoldMeterRegistry.getGlobalRegistry(), scaffoldMeterRegistry);
+        assertFalse(new DesiredCapabilitiesConfigurationProperties().getMetrics().isExportEnabled());
+        assertTrue(fileMeterExporter.getExportFile().getFileName().toString().endsWith(".json"));
+    }
+
+    @Test
+    public void testTimer_sameNameAndTagsReturnsSameTimer() {
+        var registry = new ScaffoldMeterRegistry();
+        var timer = registry.timer("session.start", "runType", "GRID", "browser", "CHROME");
+        timer.record(Duration.ofMillis(30));
+        registry.timer("session.start", "browser", "CHROME", "runType", "GRID").record(10, TimeUnit.MILLISECONDS);
+
+        assertEquals(1, registry.getMeters().size());
+        assertEquals(2, timer.getCount());
+        assertEquals(Duration.ofMillis(40), timer.getTotalTime());
+        assertEquals(Duration.ofMillis(30), timer.getMax());
+        assertEquals(Map.of("count", 2D, "totalMillis", 40D, "maxMillis", 30D), timer.measure());
+    }
+
+    @Test
+    public void testCounter_differentTypeWithSameIdThrows() {
+        var registry = new ScaffoldMeterRegistry();
+        registry.counter("wait.timeouts", "type", "condition").increment();
+        assertThrows(IllegalArgumentException.class, () -> registry.timer("wait.timeouts", "type", "condition"));
+        assertThrows(IllegalArgumentException.class, () -> registry.counter("wait.timeouts", "type"));
+    }
+
+    @Test
+    public void testCounter_countsFromManyThreads() throws InterruptedException {
+        var registry = new ScaffoldMeterRegistry();
+        var executor = Executors.newFixedThreadPool(8);
+        for (var task = 0; task < 8; task++) {
+            executor.execute(() -> {
+                for (var increment = 0; increment < 1000; increment++) {
+                    registry.counter("stale.retries").increment();
+                    registry.summary("lookups").record(2);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(8000D, registry.counter("stale.retries").getCount());
+        assertEquals(8000, registry.summary("lookups").getCount());
+        assertEquals(2D, registry.summary("lookups").getMean());
+    }
+
+    @Test
+    public void testExport_json() throws IOException {
+        var exporter = new FileMeterExporter(createRegistry(), createConfig(MetricsExportFormat.JSON), objectMapper);
+        exporter.export();
+
+        var json = objectMapper.readTree(exporter.getExportFile().toFile());
+        assertEquals(exportDirectory, exporter.getExportFile().getParent());
+        assertEquals(2, json.get("meters").size());
+        var timer = json.get("meters").get(0);
+        assertEquals("session.start", timer.get("name").asText());
+        assertEquals("CHROME", timer.get("tags").get("browser").asText());
+        assertEquals(1D, timer.get("measurements").get("count").asDouble());
+        var gauge = json.get("meters").get(1);
+        assertEquals("gauge", gauge.get("type").asText());
+        assertEquals(3D, gauge.get("measurements").get("value").asDouble());
+    }
+
+    @Test
+    public void testExport_csv() throws IOException {
+        var exporter = new FileMeterExporter(createRegistry(), createConfig(MetricsExportFormat.CSV), objectMapper);
+        exporter.export();
+
+        var lines = Files.readAllLines(exporter.getExportFile());
+        assertTrue(exporter.getExportFile().toString().endsWith(".csv"));
+        assertEquals("timestamp,name,type,tags,statistic,value", lines.get(0));
+        assertEquals(5, lines.size());
+        assertTrue(lines.get(1).endsWith(",session.start,timer,browser=CHROME;runType=GRID,count,1.0"));
+        assertTrue(lines.get(4).endsWith(",sessions.active,gauge,,value,3.0"));
+    }
+
+    private ScaffoldMeterRegistry createRegistry() {
+        var registry = new ScaffoldMeterRegistry();
+        registry.timer("session.start", "runType", "GRID", "browser", "CHROME").record(Duration.ofSeconds(2));
+        registry.gauge("sessions.active", Map.of("active", 3), sessions -> sessions.get("active"));
+        return registry;
+    }
+
+    private DesiredCapabilitiesConfigurationProperties.Metrics createConfig(MetricsExportFormat format) {
+        var config = new DesiredCapabilitiesConfigurationProperties.Metrics();
+        config.setExportFormat(format);
+        config.setExportDirectory(exportDirectory.toString());
+        return config;
+    }
+}
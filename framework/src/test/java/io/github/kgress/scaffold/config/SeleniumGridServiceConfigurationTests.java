@@ -0,0 +1,115 @@
+package io.github.kgress.scaffold.config;
+
+import com.sun.net.httpserver.HttpServer;
+import io.github.kgress.scaffold.BaseUnitTest;
+import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties;
+import io.github.kgress.scaffold.environment.config.SeleniumGridServiceConfiguration;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.util.EntityUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SeleniumGridServiceConfigurationTests extends BaseUnitTest {
+
+    @Autowired
+    private PoolingHttpClientConnectionManager seleniumGridConnectionManager;
+
+    @Autowired
+    private CloseableHttpClient seleniumGridHttpClient;
+
+    @Test
+    public void seleniumGridConnectionManager_usesDefaultPoolSize() {
+        var pool = new DesiredCapabilitiesConfigurationProperties.HttpClientPool();
+        assertEquals(pool.getMaxTotal(), seleniumGridConnectionManager.getMaxTotal());
+        assertEquals(pool.getMaxPerRoute(), seleniumGridConnectionManager.getDefaultMaxPerRoute());
+        assertEquals(pool.getValidateAfterInactivityInMillis(),
+                seleniumGridConnectionManager.getValidateAfterInactivity());
+        assertEquals(0, seleniumGridConnectionManager.getTotalStats().getLeased());
+    }
+
+    @Test
+    public void seleniumGridConnectionManager_usesConfiguredPoolSize() {
+        var properties = new DesiredCapabilitiesConfigurationProperties();
+        properties.getHttpClientPool().setMaxTotal(8);
+        properties.getHttpClientPool().setMaxPerRoute(4);
+        properties.getHttpClientPool().setValidateAfterInactivityInMillis(500);
+
+        var connectionManager = new SeleniumGridServiceConfiguration().seleniumGridConnectionManager(properties);
+        try {
+            assertEquals(8, connectionManager.getMaxTotal());
+            assertEquals(4, connectionManager.getDefaultMaxPerRoute());
+            assertEquals(500, connectionManager.getValidateAfterInactivity());
+            assertEquals(8, connectionManager.getTotalStats().getMax());
+        } finally {
+            connectionManager.close();
+        }
+    }
+
+    @Test
+    public void seleniumGridIdleConnectionEvictor_closesIdleConnections() throws Exception {
+        var server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/status", exchange -> {
+            exchange.sendResponseHeaders(200, 2);
+            exchange.getResponseBody().write("ok".getBytes(StandardCharsets.US_ASCII));
+            exchange.close();
+        });
+        server.start();
+        var properties = new DesiredCapabilitiesConfigurationProperties();
+        properties.getHttpClientPool().setIdleEvictionInSeconds(1);
+        var configuration = new SeleniumGridServiceConfiguration();
+        var connectionManager = configuration.seleniumGridConnectionManager(properties);
+        var evictor = configuration.seleniumGridIdleConnectionEvictor(connectionManager, properties);
+        try (var httpClient = configuration.seleniumGridHttpClient(connectionManager, properties)) {
+            assertTrue(evictor.isRunning());
+            var uri = String.format("http://%s:%s/status", server.getAddress().getHostString(),
+                    server.getAddress().getPort());
+            try (var response = httpClient.execute(new HttpGet(uri))) {
+                EntityUtils.consume(response.getEntity());
+            }
+            assertEquals(1, connectionManager.getTotalStats().getAvailable());
+
+            var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (connectionManager.getTotalStats().getAvailable() > 0 && System.nanoTime() < deadline) {
+                Thread.sleep(100);
+            }
+            assertEquals(0, connectionManager.getTotalStats().getAvailable());
+        } finally {
+            evictor.shutdown();
+            connectionManager.close();
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void seleniumGridIdleConnectionEvictor_notStartedWhenDisabled() {
+        var properties = new DesiredCapabilitiesConfigurationProperties();
+        properties.getHttpClientPool().setIdleEvictionInSeconds(0);
+        var configuration = new SeleniumGridServiceConfiguration();
+        var connectionManager = configuration.seleniumGridConnectionManager(properties);
+        try {
+            assertFalse(configuration.seleniumGridIdleConnectionEvictor(connectionManager, properties).isRunning());
+        } finally {
+            connectionManager.close();
+        }
+    }
+
+    @Test
+    public void seleniumGridRestTemplate_usesPooledClient() {
+        var requestFactory = seleniumGridRestTemplate.getRequestFactory();
+        assertTrue(requestFactory instanceof HttpComponentsClientHttpRequestFactory);
+        assertSame(seleniumGridHttpClient, ((HttpComponentsClientHttpRequestFactory) requestFactory).getHttpClient());
+    }
+}
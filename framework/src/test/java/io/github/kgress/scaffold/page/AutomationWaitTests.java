@@ -2,15 +2,38 @@ package io.github.kgress.scaffold.page;
 
 import io.github.kgress.scaffold.AutomationWait;
 import io.github.kgress.scaffold.BaseUnitTest;
+import io.github.kgress.scaffold.BaseWebElement;
 import io.github.kgress.scaffold.SharedTestVariables;
+import io.github.kgress.scaffold.WaitCondition;
 import io.github.kgress.scaffold.WebDriverWrapper;
+import io.github.kgress.scaffold.environment.metrics.ScaffoldMeterRegistry;
 import io.github.kgress.scaffold.webelements.DivWebElement;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class AutomationWaitTests extends BaseUnitTest {
@@ -205,15 +228,204 @@ public class AutomationWaitTests extends BaseUnitTest {
         assertEquals(BASE_TIMEOUT, testAutomationWait.getTimeoutInSeconds());
     }
 
+    @Test
+    public void testWaitUntilAllDisplayed_oneScriptForAllElements() {
+        var firstElement = new TestDivWebElement("#first");
+        var secondElement = new TestDivWebElement(By.xpath("//div[@id='second']"));
+        when(mockWebDriverWrapper.getJavascriptExecutor()).thenReturn(mockJavascriptExecutor);
+        when(mockJavascriptExecutor.executeAsyncScript(anyString(), anyList(), eq(BASE_TIMEOUT * 1000L)))
+                .thenReturn(Map.of("ready", true, "missing", List.of(1L)));
+
+        var missingElements = testAutomationWait.waitUntilAllDisplayed(List.of(firstElement, secondElement));
+        assertEquals(List.of(secondElement), missingElements);
+        verify(mockJavascriptExecutor, times(1)).executeAsyncScript(anyString(), anyList(), anyLong());
+    }
+
+    @Test
+    public void testWaitUntilAllDisplayed_waitsOnRemainingElementsUntilDeadline() {
+        var elementTimeouts = new ArrayList<Long>();
+        var automationWait = new TestAutomationWait(mockWebDriverWrapper, BASE_TIMEOUT) {
+            @Override
+            public WebElement waitUntilDisplayed(BaseWebElement element, Long setTempTimeout) {
+                elementTimeouts.add(setTempTimeout);
+                throw new TimeoutException("Not displayed");
+            }
+        };
+        var firstElement = new TestDivWebElement(By.linkText("first"));
+        var secondElement = new TestDivWebElement(By.linkText("second"));
+
+        var missingElements = automationWait.waitUntilAllDisplayed(List.of(firstElement, secondElement), TEMP_TIMEOUT);
+
+        assertEquals(List.of(firstElement, secondElement), missingElements);
+        assertEquals(2, elementTimeouts.size());
+        elementTimeouts.forEach(timeout -> assertTrue(timeout < TEMP_TIMEOUT));
+    }
+
+    @Test
+    public void testWaitUntilAllDisplayed_pageNotLoaded() {
+        when(mockWebDriverWrapper.getJavascriptExecutor()).thenReturn(mockJavascriptExecutor);
+        when(mockJavascriptExecutor.executeAsyncScript(anyString(), anyList(), anyLong()))
+                .thenReturn(Map.of("ready", false, "missing", List.of(0L)));
+        assertThrows(TimeoutException.class, () -> testAutomationWait
+                .waitUntilAllDisplayed(List.of(new TestDivWebElement("#first")), TEMP_TIMEOUT));
+    }
+
+    @Test
+    public void testWaitForTextToContain_inBrowser_success() {
+        when(mockWebDriverWrapper.isBrowserSideConditionsEnabled()).thenReturn(true);
+        when(mockWebDriverWrapper.getJavascriptExecutor()).thenReturn(mockJavascriptExecutor);
+        when(mockJavascriptExecutor.executeAsyncScript(anyString(), anyMap(), eq(TEMP_TIMEOUT * 1000L)))
+                .thenReturn(Map.of("satisfied", true, "value", true));
+        var textIsThere = testAutomationWait.waitForTextToContain(
+                new TestDivWebElement("#text"), SharedTestVariables.TEXT_1, TEMP_TIMEOUT);
+        assertTrue(textIsThere);
+        verify(mockJavascriptExecutor, never()).executeScript(anyString(), any());
+    }
+
+    @Test
+    public void testWaitUntilDisplayed_inBrowser_fail() {
+        when(mockWebDriverWrapper.isBrowserSideConditionsEnabled()).thenReturn(true);
+        when(mockWebDriverWrapper.getJavascriptExecutor()).thenReturn(mockJavascriptExecutor);
+        when(mockJavascriptExecutor.executeAsyncScript(anyString(), anyMap(), anyLong()))
+                .thenReturn(Map.of("satisfied", false));
+        var exception = assertThrows(TimeoutException.class, () ->
+                testAutomationWait.waitUntilDisplayed(new TestDivWebElement("#missing")));
+        assertTrue(exception.getMessage().contains("in the browser"));
+    }
+
+    @Test
+    public void testWaitUntilElementIsEnabled_inBrowser_fallsBackToJvm() {
+        when(mockWebDriverWrapper.isBrowserSideConditionsEnabled()).thenReturn(true);
+        when(mockWebDriverWrapper.getJavascriptExecutor()).thenReturn(mockJavascriptExecutor);
+        when(mockJavascriptExecutor.executeAsyncScript(anyString(), anyMap(), anyLong()))
+                .thenThrow(new WebDriverException("async scripts are not supported"));
+        when(mockDivWebElement.getBy()).thenReturn(By.cssSelector("#enabled"));
+        when(mockDivWebElement.isEnabled()).thenReturn(true);
+        assertTrue(testAutomationWait.waitUntilElementIsEnabled(mockDivWebElement));
+    }
+
+    @Test
+    public void testAllOf_batchesNativeConditionsIntoOneScript() {
+        when(mockWebDriverWrapper.getJavascriptExecutor()).thenReturn(mockJavascriptExecutor);
+        when(mockJavascriptExecutor.executeScript(anyString(), anyList())).thenReturn(List.of(true, true));
+        var customCondition = WaitCondition.of("custom", input -> true);
+
+        var result = testAutomationWait.allOf(
+                WaitCondition.notDisplayed(new TestDivWebElement("#spinner")),
+                WaitCondition.textContains(new TestDivWebElement("#toast"), SharedTestVariables.TEXT_1),
+                customCondition);
+        assertEquals(3, result.getSatisfiedConditions().size());
+        assertTrue(result.getSlowestCondition().isPresent());
+        verify(mockJavascriptExecutor, times(1)).executeScript(anyString(), anyList());
+    }
+
+    @Test
+    public void testAnyOf_customConditionMet() {
+        when(mockWebDriverWrapper.getJavascriptExecutor()).thenReturn(mockJavascriptExecutor);
+        when(mockJavascriptExecutor.executeScript(anyString(), anyList())).thenReturn(List.of(false));
+        var customCondition = WaitCondition.of("custom", input -> true);
+
+        var result = testAutomationWait.anyOf(WaitCondition.enabled(new TestDivWebElement("#button")),
+                customCondition);
+        assertEquals(1, result.getSatisfiedConditions().size());
+        assertEquals(customCondition, result.getSlowestCondition().orElseThrow().getCondition());
+    }
+
+    @Test
+    public void testAllOf_jvmConditionWithMissingElement_notMetWithoutWaiting() {
+        when(mockWebDriverWrapper.getJavascriptExecutor()).thenReturn(mockJavascriptExecutor);
+        when(mockJavascriptExecutor.executeScript(anyString(), anyList()))
+                .thenThrow(new WebDriverException("scripts are not supported"));
+        when(mockWebDriverWrapper.findElement(By.cssSelector("#button"))).thenReturn(mockRawWebElement);
+        when(mockRawWebElement.isEnabled()).thenReturn(true);
+        when(mockWebDriverWrapper.findElement(By.cssSelector("#missing")))
+                .thenThrow(new NoSuchElementException("#missing"));
+        var missingCondition = WaitCondition.enabled(new TestDivWebElement("#missing"));
+
+        var start = System.nanoTime();
+        var exception = assertThrows(TimeoutException.class, () -> testAutomationWait.allOf(
+                List.of(WaitCondition.enabled(new TestDivWebElement("#button")), missingCondition),
+                TEMP_TIMEOUT));
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < (TEMP_TIMEOUT + 1) * 1000L);
+        assertTrue(exception.getMessage().contains("Not met: [" + missingCondition + "]"));
+        verify(mockWebElementWait, never()).waitUntilDisplayed();
+    }
+
+    @Test
+    public void testSequence_fail() {
+        var firstCondition = WaitCondition.of("first", input -> true);
+        var secondCondition = WaitCondition.of("second", input -> false);
+        var exception = assertThrows(TimeoutException.class, () ->
+                testAutomationWait.sequence(firstCondition, secondCondition));
+        assertTrue(exception.getMessage().contains("Not met: [second]"));
+    }
+
+    @Test
+    public void testWaitUntilNetworkIdle_success() {
+        when(mockWebDriverWrapper.getJavascriptExecutor()).thenReturn(mockJavascriptExecutor);
+        when(mockJavascriptExecutor.executeAsyncScript(anyString(),
+                eq(Map.of("quietPeriod", 250L, "maxInflight", 1)), eq(BASE_TIMEOUT * 1000L)))
+                .thenReturn(Map.of("idle", true, "inflight", 1L));
+        assertTrue(testAutomationWait.waitUntilNetworkIdle(Duration.ofMillis(250), 1));
+    }
+
+    @Test
+    public void testWaitUntilNetworkIdle_fail() {
+        when(mockWebDriverWrapper.getJavascriptExecutor()).thenReturn(mockJavascriptExecutor);
+        when(mockJavascriptExecutor.executeAsyncScript(anyString(), anyMap(), eq(TEMP_TIMEOUT * 1000L)))
+                .thenReturn(Map.of("idle", false, "inflight", 3L));
+        var exception = assertThrows(TimeoutException.class, () ->
+                testAutomationWait.waitUntilNetworkIdle(Duration.ofMillis(500), 0, TEMP_TIMEOUT));
+        assertTrue(exception.getMessage().contains("3 request(s) still in flight"));
+    }
+
+    @Test
+    public void testWaitUntilNetworkIdle_fail_recordsTimeout() {
+        var registry = new ScaffoldMeterRegistry();
+        testAutomationWait.setMeterRegistry_fromParent(registry);
+        when(mockWebDriverWrapper.getJavascriptExecutor()).thenReturn(mockJavascriptExecutor);
+        when(mockJavascriptExecutor.executeAsyncScript(anyString(), anyMap(), eq(BASE_TIMEOUT * 1000L)))
+                .thenReturn(Map.of("idle", false, "inflight", 1L));
+        assertThrows(TimeoutException.class, () -> testAutomationWait.waitUntilNetworkIdle());
+        assertEquals(1D, registry.counter("scaffold.wait.timeouts", "type", "network-idle").getCount());
+        assertEquals(1, registry.timer("scaffold.wait", "type", "network-idle").getCount());
+        assertEquals(2, registry.getMeters().size());
+    }
+
+    @Test
+    public void testWaitUntilElementIsEnabled_fail_recordsOnlyTheOutermostWait() {
+        var registry = new ScaffoldMeterRegistry();
+        testAutomationWait.setMeterRegistry_fromParent(registry);
+        when(mockDivWebElement.isEnabled()).thenReturn(false);
+        assertThrows(TimeoutException.class, () -> testAutomationWait.waitUntilElementIsEnabled(mockDivWebElement));
+        // The JVM condition is waited on with waitForCustomCondition, which isn't recorded on its own
+        assertEquals(1D, registry.counter("scaffold.wait.timeouts", "type", "enabled").getCount());
+        assertEquals(1, registry.timer("scaffold.wait", "type", "enabled").getCount());
+        assertEquals(2, registry.getMeters().size());
+    }
+
+    @Test
+    public void testInstallNetworkTracker() {
+        when(mockWebDriverWrapper.getJavascriptExecutor()).thenReturn(mockJavascriptExecutor);
+        testAutomationWait.installNetworkTracker();
+        verify(mockJavascriptExecutor, times(1)).executeScript(contains("installNetworkTracker();"));
+        verify(mockJavascriptExecutor, never()).executeAsyncScript(anyString(), any());
+    }
+
     private static class TestAutomationWait extends AutomationWait {
         public TestAutomationWait(WebDriverWrapper webDriverWrapper, Long timeoutInSeconds) {
             super(webDriverWrapper, timeoutInSeconds);
         }
+
+        public void setMeterRegistry_fromParent(ScaffoldMeterRegistry meterRegistry) {
+            setMeterRegistry(meterRegistry);
+        }
     }
 
     private TestAutomationWait createTestAutomationWait() {
         var testAutomationWait = new TestAutomationWait(mockWebDriverWrapper, BASE_TIMEOUT);
-        when(mockWebDriverWrapper.getBaseWebDriver()).thenReturn(mockBaseWebDriver);
+        // Lenient because the browser side waits never create a WebDriverWait
+        lenient().when(mockWebDriverWrapper.getBaseWebDriver()).thenReturn(mockBaseWebDriver);
         return testAutomationWait;
     }
 }
@@ -1,13 +1,18 @@
 package io.github.kgress.scaffold.page;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import io.github.kgress.scaffold.CountingComponent;
 import io.github.kgress.scaffold.MockBaseWebElement;
 import io.github.kgress.scaffold.MockComponent;
 import io.github.kgress.scaffold.exception.ComponentException;
 import io.github.kgress.scaffold.util.AutomationUtils;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.openqa.selenium.By;
@@ -79,4 +84,61 @@ public class BaseComponentTests {
     assertEquals(expectedGetByIndex1,
         AutomationUtils.getUnderlyingLocatorByString(output.get(1).getTestField().getBy()));
   }
+
+  @Test
+  public void testBuildComponentList_buildsComponentOnce() {
+    final var cssParentAndChild = new MockBaseWebElement(
+        By.cssSelector("#fake-parent #fake-child"));
+    final var listOfElements = Arrays.asList(cssParentAndChild, cssParentAndChild);
+    CountingComponent.resetBuiltCount();
+    final var output = MockComponent.buildComponentList_callProtectedMethod(listOfElements,
+        CountingComponent.class, 0);
+    assertEquals(0, CountingComponent.getBuiltCount());
+    assertSame(output.get(1), output.get(1));
+    assertEquals(1, CountingComponent.getBuiltCount());
+  }
+
+  @Test
+  public void testBuildComponentList_modifiable() {
+    final var expectedGetByIndex0 = "#fake-parent #fake-child:nth-child(2) #fake-field";
+    final var cssParentAndChild = new MockBaseWebElement(
+        By.cssSelector("#fake-parent #fake-child"));
+    final var listOfElements = Arrays.asList(cssParentAndChild, cssParentAndChild);
+    final var output = MockComponent.buildComponentList_callProtectedMethod(listOfElements,
+        MockComponent.class, 0);
+    final var first = output.get(0);
+    output.sort(Comparator.comparing(component -> component.getTestField().getBy().toString(),
+        Comparator.reverseOrder()));
+    assertEquals(expectedGetByIndex0,
+        AutomationUtils.getUnderlyingLocatorByString(output.get(0).getTestField().getBy()));
+    output.add(first);
+    output.set(0, first);
+    assertEquals(3, output.size());
+    assertSame(first, output.get(0));
+  }
+
+  @Test
+  public void testStreamComponents_buildsUntilFound() {
+    final var cssParentAndChild = new MockBaseWebElement(
+        By.cssSelector("#fake-parent #fake-child"));
+    final var listOfElements = Arrays.asList(cssParentAndChild, cssParentAndChild);
+    CountingComponent.resetBuiltCount();
+    final var output = MockComponent.streamComponents_callProtectedMethod(listOfElements,
+        CountingComponent.class, 0).findFirst();
+    assertTrue(output.isPresent());
+    assertEquals(1, CountingComponent.getBuiltCount());
+  }
+
+  @Test
+  public void testStreamComponents_cssAsBy() {
+    final var expectedGetByIndex1 = "#fake-parent #fake-child:nth-child(2) #fake-field-2";
+    final var cssParentAndChild = new MockBaseWebElement(
+        By.cssSelector("#fake-parent #fake-child"));
+    final var listOfElements = Arrays.asList(cssParentAndChild, cssParentAndChild);
+    final var output = MockComponent.streamComponents_callProtectedMethod(listOfElements,
+        MockComponent.class, 0).collect(Collectors.toList());
+    assertEquals(2, output.size());
+    assertEquals(expectedGetByIndex1,
+        AutomationUtils.getUnderlyingLocatorByString(output.get(1).getTestField2().getBy()));
+  }
 }
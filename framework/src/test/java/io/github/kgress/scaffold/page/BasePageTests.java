@@ -4,15 +4,38 @@ import io.github.kgress.scaffold.AutomationWait;
 import io.github.kgress.scaffold.BasePage;
 import io.github.kgress.scaffold.BaseUnitTest;
 import io.github.kgress.scaffold.BaseWebElement;
+import io.github.kgress.scaffold.FillResult;
+import io.github.kgress.scaffold.FormStateElement;
+import io.github.kgress.scaffold.Settle;
+import io.github.kgress.scaffold.SettleStrategies;
+import io.github.kgress.scaffold.SharedTestVariables;
+import io.github.kgress.scaffold.models.enums.SettleStrategyType;
 import io.github.kgress.scaffold.webelements.DivWebElement;
 import io.github.kgress.scaffold.webelements.InputWebElement;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.TimeoutException;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 public class BasePageTests extends BaseUnitTest {
@@ -29,6 +52,9 @@ public class BasePageTests extends BaseUnitTest {
     @Mock
     private InputWebElement mockInputWebElement;
 
+    @Mock
+    private FormStateElement mockFormStateElement;
+
     @BeforeEach
     public void setup() {
         testBasePage = new TestPage();
@@ -88,6 +114,101 @@ public class BasePageTests extends BaseUnitTest {
         assertTrue(exception.getMessage().contains("The intended page failed to load"));
     }
 
+    @Test
+    public void verifyIsOnPage_inBrowser_reportsEveryMissingElement() {
+        when(mockAutomationWait.isBrowserSidePageVerificationEnabled()).thenReturn(true);
+        when(mockAutomationWait.waitUntilAllDisplayed(List.of(mockDivWebElement, mockInputWebElement)))
+                .thenReturn(List.of(mockDivWebElement, mockInputWebElement));
+        var exception = assertThrows(TimeoutException.class, () ->
+                testBasePage.verifyIsOnPage_callProtectedMethod(mockDivWebElement, mockInputWebElement));
+        assertTrue(exception.getMessage().contains("Could not find the elements"));
+        verify(mockDivWebElement, never()).isDisplayed();
+    }
+
+    @Test
+    public void verifyIsOnPage_setsPageSettleStrategy() {
+        when(mockAutomationWait.waitUntilPageIsLoaded()).thenReturn(true);
+        when(mockDivWebElement.isDisplayed()).thenReturn(true);
+        new SettledTestPage().verifyIsOnPage_callProtectedMethod(mockDivWebElement);
+        verify(mockAutomationWait, times(1)).setPageSettleStrategy(SettleStrategies.NONE);
+    }
+
+    @Test
+    public void fill_inBrowser() {
+        var input = new TestInputWebElement(SharedTestVariables.CSS_SELECTOR1);
+        var checkBox = new TestCheckboxWebElement(By.className(SharedTestVariables.CLASS_NAME));
+        when(mockWebDriverWrapper.getJavascriptExecutor()).thenReturn(mockJavascriptExecutor);
+        when(mockJavascriptExecutor.executeScript(anyString(), any()))
+                .thenReturn(List.of(Map.of("previous", "old text"), Map.of("previous", false)));
+
+        var values = new LinkedHashMap<FormStateElement, Object>();
+        values.put(input, SharedTestVariables.SEND_KEYS_TEXT);
+        values.put(checkBox, true);
+        var fillResult = testBasePage.fill_callProtectedMethod(values);
+
+        assertTrue(fillResult.isSuccessful());
+        assertEquals("old text", fillResult.getFieldResult(input).orElseThrow().getPreviousValue());
+        assertEquals(false, fillResult.getFieldResult(checkBox).orElseThrow().getPreviousValue());
+        verify(mockJavascriptExecutor, times(1)).executeScript(anyString(), any());
+        verifyNoInteractions(mockRawWebElement);
+    }
+
+    @Test
+    public void fill_keepsMapOrderAroundWebDriverFields() {
+        var firstInput = new TestInputWebElement(SharedTestVariables.CSS_SELECTOR1);
+        var lastInput = new TestInputWebElement(By.id(SharedTestVariables.CLASS_NAME));
+        when(mockWebDriverWrapper.getJavascriptExecutor()).thenReturn(mockJavascriptExecutor);
+        when(mockJavascriptExecutor.executeScript(anyString(), any()))
+                .thenReturn(List.of(Map.of("previous", "first")))
+                .thenReturn(List.of(Map.of("previous", "last")));
+        when(mockFormStateElement.toFormStateChange(SharedTestVariables.SEND_KEYS_TEXT))
+                .thenReturn(Map.of("kind", "text", "value", SharedTestVariables.SEND_KEYS_TEXT));
+        when(mockFormStateElement.setFormStateWithWebDriver(SharedTestVariables.SEND_KEYS_TEXT))
+                .thenReturn("middle");
+
+        var values = new LinkedHashMap<FormStateElement, Object>();
+        values.put(firstInput, SharedTestVariables.SEND_KEYS_TEXT);
+        values.put(mockFormStateElement, SharedTestVariables.SEND_KEYS_TEXT);
+        values.put(lastInput, SharedTestVariables.SEND_KEYS_TEXT);
+        var fillResult = testBasePage.fill_callProtectedMethod(values);
+
+        assertTrue(fillResult.isSuccessful());
+        assertEquals("first", fillResult.getFieldResult(firstInput).orElseThrow().getPreviousValue());
+        assertEquals("middle", fillResult.getFieldResult(mockFormStateElement).orElseThrow().getPreviousValue());
+        assertEquals("last", fillResult.getFieldResult(lastInput).orElseThrow().getPreviousValue());
+        var inOrder = inOrder(mockJavascriptExecutor, mockFormStateElement);
+        inOrder.verify(mockJavascriptExecutor).executeScript(anyString(), any());
+        inOrder.verify(mockFormStateElement).setFormStateWithWebDriver(SharedTestVariables.SEND_KEYS_TEXT);
+        inOrder.verify(mockJavascriptExecutor).executeScript(anyString(), any());
+    }
+
+    @Test
+    public void fill_reportsEveryFailedField() {
+        var input = new TestInputWebElement(SharedTestVariables.CSS_SELECTOR1);
+        var checkBox = new TestCheckboxWebElement(By.className(SharedTestVariables.CLASS_NAME));
+        var dropDown = new TestDropDownWebElement(By.id(SharedTestVariables.CLASS_NAME));
+        when(mockWebDriverWrapper.getJavascriptExecutor()).thenReturn(mockJavascriptExecutor);
+        when(mockJavascriptExecutor.executeScript(anyString(), any()))
+                .thenReturn(List.of(Map.of("previous", ""), Map.of("error", "missing")));
+        when(mockSelect.isMultiple()).thenReturn(false);
+        doThrow(new NoSuchElementException("Cannot locate option with value: Corellia"))
+                .when(mockSelect).selectByValue(SharedTestVariables.DROPDOWN_VALUE);
+
+        var values = new LinkedHashMap<FormStateElement, Object>();
+        values.put(input, SharedTestVariables.SEND_KEYS_TEXT);
+        values.put(checkBox, "yes");
+        values.put(dropDown, SharedTestVariables.DROPDOWN_VALUE);
+        var fillResult = testBasePage.fill_callProtectedMethod(values);
+
+        assertFalse(fillResult.isSuccessful());
+        assertTrue(fillResult.getFieldResult(input).orElseThrow().isSuccessful());
+        assertEquals(List.of(checkBox, dropDown), fillResult.getFailures().stream()
+                .map(FillResult.FieldResult::getElement)
+                .collect(Collectors.toList()));
+        var exception = assertThrows(IllegalArgumentException.class, fillResult::throwIfFailed);
+        assertEquals(1, exception.getSuppressed().length);
+    }
+
     /**
      * This nested class is only intended for unit testing purposes. It should never be used for production code. We
      * required a mocked automation wait in order to properly set the
@@ -103,5 +224,13 @@ public class BasePageTests extends BaseUnitTest {
         Boolean verifyIsOnPage_callProtectedMethod(BaseWebElement... element) {
             return verifyIsOnPage(element);
         }
+
+        FillResult fill_callProtectedMethod(Map<? extends FormStateElement, ?> values) {
+            return fill(values);
+        }
+    }
+
+    @Settle(SettleStrategyType.NONE)
+    class SettledTestPage extends TestPage {
     }
 }
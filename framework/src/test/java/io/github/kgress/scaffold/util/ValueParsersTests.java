@@ -0,0 +1,45 @@
+package io.github.kgress.scaffold.util;
+
+import io.github.kgress.scaffold.BaseUnitTest;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+
+import static io.github.kgress.scaffold.util.ValueParsers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ValueParsersTests extends BaseUnitTest {
+
+    @Test
+    public void testGetDateTimeFormatterIsCached() {
+        assertSame(getDateTimeFormatter("dd MMM yyyy", Locale.US), getDateTimeFormatter("dd MMM yyyy", Locale.US),
+                "The same pattern and locale should share a formatter");
+        assertNotSame(getDateTimeFormatter("dd MMM yyyy", Locale.US),
+                getDateTimeFormatter("dd MMM yyyy", Locale.FRANCE),
+                "A different locale should get its own formatter");
+    }
+
+    @Test
+    public void testParseNumber() {
+        assertEquals(new BigDecimal("1234567.89"), parseNumber("1,234,567.89", Locale.US));
+        assertEquals(new BigDecimal("1234567.89"), parseNumber("1.234.567,89", Locale.GERMANY));
+        assertEquals(new BigDecimal("-5"), parseNumber(" -5 ", Locale.US));
+        assertEquals(new BigDecimal("-5"), parseNumber("(5)", Locale.US));
+    }
+
+    @Test
+    public void testParseNumberNotANumber() {
+        assertThrows(NumberFormatException.class, () -> parseNumber("", Locale.US));
+        assertThrows(NumberFormatException.class, () -> parseNumber("1.2.3x", Locale.US));
+        assertThrows(NumberFormatException.class, () -> parseNumber("$5", Locale.US),
+                "A currency symbol isn't part of a plain number");
+    }
+
+    @Test
+    public void testParseCurrency() {
+        assertEquals(new BigDecimal("1234.50"), parseCurrency("$1,234.50", Locale.US));
+        assertEquals(new BigDecimal("1234.50"), parseCurrency("USD 1,234.50", Locale.US));
+        assertEquals(new BigDecimal("-3.10"), parseCurrency("-$3.10", Locale.US));
+    }
+}
@@ -0,0 +1,47 @@
+package io.github.kgress.scaffold.webdriverpool;
+
+import io.github.kgress.scaffold.BaseUnitTest;
+import io.github.kgress.scaffold.WebDriverQuitExecutor;
+import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+public class WebDriverQuitExecutorTests extends BaseUnitTest {
+
+    @Mock
+    private WebDriver mockQuitWebDriver;
+
+    @Test
+    public void testQuit_drainsQueuedQuits() {
+        var quitExecutor = new WebDriverQuitExecutor(new DesiredCapabilitiesConfigurationProperties());
+        quitExecutor.quit(mockQuitWebDriver);
+        quitExecutor.drain();
+        verify(mockQuitWebDriver).quit();
+        assertEquals(1, quitExecutor.getQuitCount());
+        assertEquals(0, quitExecutor.getFailureCount());
+    }
+
+    @Test
+    public void testQuit_afterDrainQuitsOnCaller() {
+        var quitExecutor = new WebDriverQuitExecutor(new DesiredCapabilitiesConfigurationProperties());
+        quitExecutor.drain();
+        quitExecutor.quit(mockQuitWebDriver);
+        verify(mockQuitWebDriver).quit();
+        assertEquals(1, quitExecutor.getQuitCount());
+    }
+
+    @Test
+    public void testQuit_countsFailures() {
+        doThrow(new WebDriverException("Session is gone")).when(mockQuitWebDriver).quit();
+        var quitExecutor = new WebDriverQuitExecutor(new DesiredCapabilitiesConfigurationProperties());
+        quitExecutor.quit(mockQuitWebDriver);
+        quitExecutor.drain();
+        assertEquals(1, quitExecutor.getFailureCount());
+    }
+}
@@ -0,0 +1,58 @@
+package io.github.kgress.scaffold.webdriverpool;
+
+import io.github.kgress.scaffold.BaseUnitTest;
+import io.github.kgress.scaffold.WebDriverSessionLimiter;
+import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties;
+import io.github.kgress.scaffold.exception.WebDriverManagerException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WebDriverSessionLimiterTests extends BaseUnitTest {
+
+    private DesiredCapabilitiesConfigurationProperties.SessionLimiter limiterConfig;
+
+    @BeforeEach
+    public void setupLimiterConfig() {
+        limiterConfig = new DesiredCapabilitiesConfigurationProperties.SessionLimiter();
+        limiterConfig.setMaxConcurrentRequests(1);
+        limiterConfig.setAcquireTimeoutInSeconds(0L);
+    }
+
+    @Test
+    public void testAcquire_afterRelease() {
+        var limiter = new WebDriverSessionLimiter(limiterConfig);
+        limiter.acquire();
+        limiter.release();
+        limiter.acquire();
+        limiter.release();
+        assertEquals(2, limiter.getAcquireCount());
+        assertEquals(0, limiter.getQueueDepth());
+        assertEquals(1, limiter.getMaxQueueDepth());
+    }
+
+    @Test
+    public void testAcquire_timesOutWhenAllPermitsAreTaken() {
+        var limiter = new WebDriverSessionLimiter(limiterConfig);
+        limiter.acquire();
+        assertThrows(WebDriverManagerException.class, limiter::acquire);
+        assertEquals(0, limiter.getQueueDepth());
+    }
+
+    @Test
+    public void testAcquire_rateLimited() {
+        limiterConfig.setRequestsPerSecond(20);
+        var limiter = new WebDriverSessionLimiter(limiterConfig);
+        var start = System.nanoTime();
+        for (var i = 0; i < 3; i++) {
+            limiter.acquire();
+            limiter.release();
+        }
+        // The first request uses the burst token, the next two wait 50 ms each
+        var elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        assertTrue(elapsedMillis >= 90, "Expected the rate limit to space out requests but took " + elapsedMillis);
+    }
+}
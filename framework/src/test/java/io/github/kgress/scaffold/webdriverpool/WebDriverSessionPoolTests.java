@@ -0,0 +1,147 @@
+package io.github.kgress.scaffold.webdriverpool;
+
+import io.github.kgress.scaffold.BaseUnitTest;
+import io.github.kgress.scaffold.environment.config.DesiredCapabilitiesConfigurationProperties;
+import io.github.kgress.scaffold.exception.WebDriverManagerException;
+import io.github.kgress.scaffold.models.enums.desktop.RunType;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class WebDriverSessionPoolTests extends BaseUnitTest {
+
+    private static final String CAPABILITY_KEY = "LOCAL|CHROME";
+
+    @Mock(extraInterfaces = JavascriptExecutor.class)
+    private WebDriver mockPooledWebDriver;
+
+    @Mock
+    private WebDriver mockReplacementWebDriver;
+
+    @Mock
+    private WebDriver.Options mockOptions;
+
+    private DesiredCapabilitiesConfigurationProperties poolCapabilities;
+
+    /**
+     * The pool reads its settings from the desired capabilities, so each test gets its own copy rather than changing
+     * the shared bean that other tests are using in parallel.
+     */
+    @BeforeEach
+    public void setupPoolCapabilities() {
+        poolCapabilities = new DesiredCapabilitiesConfigurationProperties();
+        poolCapabilities.setRunType(RunType.LOCAL);
+        poolCapabilities.getSessionPool().setEnabled(true);
+        poolCapabilities.getSessionPool().setMaxSessions(1);
+        poolCapabilities.getSessionPool().setLeaseTimeoutInSeconds(0L);
+    }
+
+    @Test
+    public void testIsEnabled_unitRunType() {
+        poolCapabilities.setRunType(RunType.UNIT);
+        assertFalse(new TestWebDriverSessionPool(poolCapabilities).isEnabled());
+    }
+
+    @Test
+    public void testIsEnabled_sauceRunTypes() {
+        poolCapabilities.setRunType(RunType.SAUCE);
+        assertFalse(new TestWebDriverSessionPool(poolCapabilities).isEnabled());
+        poolCapabilities.setRunType(RunType.SAUCE_MOBILE_EMULATOR);
+        assertFalse(new TestWebDriverSessionPool(poolCapabilities).isEnabled());
+        poolCapabilities.setRunType(RunType.GRID);
+        assertTrue(new TestWebDriverSessionPool(poolCapabilities).isEnabled());
+    }
+
+    @Test
+    public void testPrewarm_skipsSauceRunTypes() {
+        poolCapabilities.setRunType(RunType.SAUCE);
+        poolCapabilities.getSessionPool().setPrewarmSessions(1);
+        var pool = new TestWebDriverSessionPool(poolCapabilities);
+        pool.prewarm();
+        assertEquals(0, pool.getPrewarmCount());
+        assertEquals(0, pool.getOpenSessionCount());
+    }
+
+    @Test
+    public void testLease_startsNewSession() {
+        var pool = new TestWebDriverSessionPool(poolCapabilities);
+        assertTrue(pool.isEnabled());
+        assertEquals(mockPooledWebDriver, pool.lease_fromParent(CAPABILITY_KEY, () -> mockPooledWebDriver));
+        assertEquals(1, pool.getLeaseCount());
+        assertEquals(0, pool.getReuseCount());
+        assertEquals(1, pool.getOpenSessionCount());
+    }
+
+    @Test
+    public void testRelease_reusesResetSession() {
+        when(mockPooledWebDriver.getWindowHandles()).thenReturn(Set.of("main"));
+        when(mockPooledWebDriver.manage()).thenReturn(mockOptions);
+        when(mockPooledWebDriver.getWindowHandle()).thenReturn("main");
+        var pool = new TestWebDriverSessionPool(poolCapabilities);
+        var starts = new AtomicInteger();
+
+        pool.lease_fromParent(CAPABILITY_KEY, () -> {
+            starts.incrementAndGet();
+            return mockPooledWebDriver;
+        });
+        pool.release_fromParent(mockPooledWebDriver);
+        var reused = pool.lease_fromParent(CAPABILITY_KEY, () -> {
+            starts.incrementAndGet();
+            return mockReplacementWebDriver;
+        });
+
+        assertEquals(mockPooledWebDriver, reused);
+        assertEquals(1, starts.get());
+        assertEquals(0.5D, pool.getReuseRatio());
+        verify(mockOptions).deleteAllCookies();
+        verify(mockPooledWebDriver).get("about:blank");
+    }
+
+    @Test
+    public void testLease_discardsUnhealthySession() {
+        when(mockPooledWebDriver.getWindowHandles()).thenReturn(Set.of("main"));
+        when(mockPooledWebDriver.manage()).thenReturn(mockOptions);
+        when(mockPooledWebDriver.getWindowHandle()).thenThrow(new WebDriverException("Session is gone"));
+        var pool = new TestWebDriverSessionPool(poolCapabilities);
+
+        pool.lease_fromParent(CAPABILITY_KEY, () -> mockPooledWebDriver);
+        pool.release_fromParent(mockPooledWebDriver);
+        var replacement = pool.lease_fromParent(CAPABILITY_KEY, () -> mockReplacementWebDriver);
+
+        assertEquals(mockReplacementWebDriver, replacement);
+        assertEquals(1, pool.getDiscardCount());
+        verify(mockPooledWebDriver).quit();
+    }
+
+    @Test
+    public void testRelease_quitsSessionAtMaxUses() {
+        poolCapabilities.getSessionPool().setMaxUsesPerSession(1);
+        var pool = new TestWebDriverSessionPool(poolCapabilities);
+
+        pool.lease_fromParent(CAPABILITY_KEY, () -> mockPooledWebDriver);
+        pool.release_fromParent(mockPooledWebDriver);
+
+        verify(mockPooledWebDriver).quit();
+        assertEquals(0, pool.getOpenSessionCount());
+    }
+
+    @Test
+    public void testLease_timesOutWhenPoolIsExhausted() {
+        var pool = new TestWebDriverSessionPool(poolCapabilities);
+        pool.lease_fromParent(CAPABILITY_KEY, () -> mockPooledWebDriver);
+        assertThrows(WebDriverManagerException.class, () ->
+                pool.lease_fromParent(CAPABILITY_KEY, () -> mockReplacementWebDriver));
+    }
+}
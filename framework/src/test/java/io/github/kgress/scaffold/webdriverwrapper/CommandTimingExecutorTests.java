@@ -0,0 +1,107 @@
+package io.github.kgress.scaffold.webdriverwrapper;
+
+import io.github.kgress.scaffold.BaseUnitTest;
+import io.github.kgress.scaffold.CommandTimingExecutor;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.Response;
+import org.openqa.selenium.remote.SessionId;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class CommandTimingExecutorTests extends BaseUnitTest {
+
+    private static final SessionId SESSION_ID = new SessionId("session");
+
+    @Test
+    public void testExecute_recordsEveryCommandForTheTest() throws IOException {
+        var delegate = mock(CommandExecutor.class);
+        var response = new Response(SESSION_ID);
+        when(delegate.execute(any())).thenReturn(response);
+        var executor = new CommandTimingExecutor(delegate);
+
+        executor.execute(new Command(null, DriverCommand.NEW_SESSION));
+        var statistics = CommandTimingExecutor.startTest(getTimedDriver(executor));
+        assertSame(response, executor.execute(new Command(SESSION_ID, DriverCommand.FIND_ELEMENT, Map.of())));
+        executor.execute(new Command(SESSION_ID, DriverCommand.FIND_ELEMENT, Map.of()));
+
+        // The first test on the session also gets the command that started it
+        assertEquals(1, statistics.getHistogram(DriverCommand.NEW_SESSION).getCount());
+        assertEquals(2, statistics.getHistogram(DriverCommand.FIND_ELEMENT).getCount());
+        assertEquals(3, statistics.getCount());
+        assertTrue(statistics.toString().contains(DriverCommand.FIND_ELEMENT + ": count=2"));
+    }
+
+    @Test
+    public void testExecute_nextTestStartsWithNewStatistics() throws IOException {
+        var delegate = mock(CommandExecutor.class);
+        when(delegate.execute(any())).thenReturn(new Response(SESSION_ID));
+        var executor = new CommandTimingExecutor(delegate);
+        var driver = getTimedDriver(executor);
+
+        var firstTest = CommandTimingExecutor.startTest(driver);
+        executor.execute(new Command(SESSION_ID, DriverCommand.CLICK_ELEMENT, Map.of()));
+        var secondTest = CommandTimingExecutor.startTest(driver);
+        executor.execute(new Command(SESSION_ID, DriverCommand.SCREENSHOT, Map.of()));
+
+        assertEquals(Set.of(DriverCommand.CLICK_ELEMENT), firstTest.getCommandNames());
+        assertEquals(Set.of(DriverCommand.SCREENSHOT), secondTest.getCommandNames());
+    }
+
+    @Test
+    public void testExecute_commandsAfterEndTestAreNotRecordedForTheTest() throws IOException {
+        var delegate = mock(CommandExecutor.class);
+        when(delegate.execute(any())).thenReturn(new Response(SESSION_ID));
+        var executor = new CommandTimingExecutor(delegate);
+        var driver = getTimedDriver(executor);
+
+        var firstTest = CommandTimingExecutor.startTest(driver);
+        executor.execute(new Command(SESSION_ID, DriverCommand.CLICK_ELEMENT, Map.of()));
+        CommandTimingExecutor.endTest(driver);
+        // Like the session pool resetting the session after the test released it
+        executor.execute(new Command(SESSION_ID, DriverCommand.DELETE_ALL_COOKIES, Map.of()));
+        var secondTest = CommandTimingExecutor.startTest(driver);
+        executor.execute(new Command(SESSION_ID, DriverCommand.SCREENSHOT, Map.of()));
+
+        assertEquals(Set.of(DriverCommand.CLICK_ELEMENT), firstTest.getCommandNames());
+        assertEquals(Set.of(DriverCommand.SCREENSHOT), secondTest.getCommandNames());
+    }
+
+    @Test
+    public void testExecute_recordsFailedCommands() throws IOException {
+        var delegate = mock(CommandExecutor.class);
+        when(delegate.execute(any())).thenThrow(new IOException("connection reset"));
+        var executor = new CommandTimingExecutor(delegate);
+        var statistics = CommandTimingExecutor.startTest(getTimedDriver(executor));
+
+        assertThrows(IOException.class,
+                () -> executor.execute(new Command(SESSION_ID, DriverCommand.GET, Map.of())));
+        assertEquals(1, statistics.getHistogram(DriverCommand.GET).getCount());
+    }
+
+    @Test
+    public void testStartTest_untimedDriver() {
+        var statistics = CommandTimingExecutor.startTest(mockBaseWebDriver);
+        assertEquals(0, statistics.getCount());
+        assertEquals("no commands timed", statistics.toString());
+    }
+
+    private RemoteWebDriver getTimedDriver(CommandTimingExecutor executor) {
+        var driver = mock(RemoteWebDriver.class);
+        when(driver.getCommandExecutor()).thenReturn(executor);
+        return driver;
+    }
+}
@@ -0,0 +1,70 @@
+package io.github.kgress.scaffold.webdriverwrapper;
+
+import io.github.kgress.scaffold.BaseUnitTest;
+import io.github.kgress.scaffold.LatencyHistogram;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LatencyHistogramTests extends BaseUnitTest {
+
+    @Test
+    public void testGetValueAtPercentile_empty() {
+        var histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(Duration.ZERO, histogram.getValueAtPercentile(99));
+        assertEquals(Duration.ZERO, histogram.getMax());
+    }
+
+    @Test
+    public void testGetValueAtPercentile_withinBucketPrecision() {
+        var histogram = new LatencyHistogram();
+        for (var millis = 1; millis <= 1000; millis++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+        assertEquals(1000, histogram.getCount());
+        assertWithinPrecision(500, histogram.getValueAtPercentile(50));
+        assertWithinPrecision(950, histogram.getValueAtPercentile(95));
+        assertWithinPrecision(990, histogram.getValueAtPercentile(99));
+        assertEquals(Duration.ofMillis(1000), histogram.getMax());
+        assertEquals(Duration.ofMillis(1000), histogram.getValueAtPercentile(100));
+        assertWithinPrecision(500, histogram.getMean());
+    }
+
+    @Test
+    public void testGetValueAtPercentile_smallValuesAreExact() {
+        var histogram = new LatencyHistogram();
+        histogram.record(TimeUnit.MICROSECONDS.toNanos(3));
+        histogram.record(TimeUnit.MICROSECONDS.toNanos(7));
+        assertEquals(Duration.ofNanos(3_000), histogram.getValueAtPercentile(50));
+        assertEquals(Duration.ofNanos(7_000), histogram.getValueAtPercentile(99));
+    }
+
+    @Test
+    public void testRecord_concurrently() throws Exception {
+        var histogram = new LatencyHistogram();
+        var executor = Executors.newFixedThreadPool(8);
+        for (var thread = 0; thread < 8; thread++) {
+            executor.submit(() -> {
+                for (var i = 0; i < 10_000; i++) {
+                    histogram.record(TimeUnit.MILLISECONDS.toNanos(i % 100));
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        assertEquals(80_000, histogram.getCount());
+        assertWithinPrecision(99, histogram.getMax());
+    }
+
+    private void assertWithinPrecision(long expectedMillis, Duration actual) {
+        var actualMillis = actual.toNanos() / 1_000_000D;
+        assertTrue(Math.abs(actualMillis - expectedMillis) <= expectedMillis * 0.07,
+                String.format("Expected about %sms but was %sms", expectedMillis, actualMillis));
+    }
+}
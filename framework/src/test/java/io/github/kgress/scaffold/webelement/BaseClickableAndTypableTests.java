@@ -2,9 +2,12 @@ package io.github.kgress.scaffold.webelement;
 
 import io.github.kgress.scaffold.BaseUnitTest;
 import io.github.kgress.scaffold.SharedTestVariables;
+import io.github.kgress.scaffold.models.enums.FillMode;
 import org.junit.jupiter.api.Test;
 import org.openqa.selenium.By;
 
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
 
@@ -47,6 +50,42 @@ public class BaseClickableAndTypableTests extends BaseUnitTest {
         verify(mockRawWebElement, times(1)).sendKeys(SharedTestVariables.SEND_KEYS_TEXT);
     }
 
+    @Test
+    public void testBaseClickableAndTypable_byCss_clearAndSendKeys_fast() {
+        setBaseWhen(elementByCssSelector);
+        when(mockWebDriverWrapper.getJavascriptExecutor()).thenReturn(mockJavascriptExecutor);
+        when(mockJavascriptExecutor.executeScript(anyString(), eq(mockRawWebElement),
+                eq(SharedTestVariables.SEND_KEYS_TEXT)))
+                .thenReturn(Map.of("value", SharedTestVariables.SEND_KEYS_TEXT));
+        elementByCssSelector.clearAndSendKeys(SharedTestVariables.SEND_KEYS_TEXT, FillMode.FAST);
+        verify(mockRawWebElement, never()).clear();
+        verify(mockRawWebElement, never()).sendKeys(any());
+    }
+
+    @Test
+    public void testBaseClickableAndTypable_byCss_clearAndSendKeys_configuredFast() {
+        setBaseWhen(elementByCssSelector);
+        when(mockWebDriverWrapper.getFillMode()).thenReturn(FillMode.FAST);
+        when(mockWebDriverWrapper.getJavascriptExecutor()).thenReturn(mockJavascriptExecutor);
+        when(mockJavascriptExecutor.executeScript(anyString(), eq(mockRawWebElement),
+                eq(SharedTestVariables.SEND_KEYS_TEXT)))
+                .thenReturn(Map.of("value", SharedTestVariables.SEND_KEYS_TEXT));
+        elementByCssSelector.clearAndSendKeys(SharedTestVariables.SEND_KEYS_TEXT);
+        verify(mockRawWebElement, never()).sendKeys(any());
+    }
+
+    @Test
+    public void testBaseClickableAndTypable_byCss_clearAndSendKeys_fastFallsBackWhenValueDiffers() {
+        setBaseWhen(elementByCssSelector);
+        when(mockWebDriverWrapper.getJavascriptExecutor()).thenReturn(mockJavascriptExecutor);
+        when(mockJavascriptExecutor.executeScript(anyString(), eq(mockRawWebElement),
+                eq(SharedTestVariables.SEND_KEYS_TEXT)))
+                .thenReturn(Map.of("value", "formatted"));
+        elementByCssSelector.clearAndSendKeys(SharedTestVariables.SEND_KEYS_TEXT, FillMode.FAST);
+        verify(mockRawWebElement, times(1)).clear();
+        verify(mockRawWebElement, times(1)).sendKeys(SharedTestVariables.SEND_KEYS_TEXT);
+    }
+
     @Test
     public void testBaseClickableAndTypable_byClass_sendKeys() {
         setBaseWhen(elementByClassName);
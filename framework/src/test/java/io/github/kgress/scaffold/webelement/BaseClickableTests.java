@@ -1,11 +1,28 @@
 package io.github.kgress.scaffold.webelement;
 
+import io.github.kgress.scaffold.AutomationWait;
 import io.github.kgress.scaffold.BaseUnitTest;
+import io.github.kgress.scaffold.BaseWebElement;
 import io.github.kgress.scaffold.SharedTestVariables;
+import io.github.kgress.scaffold.models.enums.SettleStrategyType;
 import org.junit.jupiter.api.Test;
 import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebElement;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.Mockito.*;
 
 public class BaseClickableTests extends BaseUnitTest {
@@ -22,7 +39,93 @@ public class BaseClickableTests extends BaseUnitTest {
         clickAndVerifyIsClicked(element);
     }
 
+    @Test
+    public void testBaseClickable_click_settlesWithReadyStateByDefault() {
+        var element = new TestBaseClickableWebElement(SharedTestVariables.CSS_SELECTOR1);
+        clickAndVerifyIsClicked(element);
+        verify(mockWebElementWait, times(1)).waitUntilPageIsLoaded();
+    }
+
+    @Test
+    public void testBaseClickable_click_settleStrategyTypeOverride() {
+        var element = new TestBaseClickableWebElement(SharedTestVariables.CSS_SELECTOR1);
+        setClickWhens(element);
+        element.click(SettleStrategyType.NONE);
+        verify(mockRawWebElement, times(1)).click();
+        verify(mockWebElementWait, never()).waitUntilPageIsLoaded();
+    }
+
+    @Test
+    public void testBaseClickable_click_customSettleStrategy() {
+        var element = new TestBaseClickableWebElement(SharedTestVariables.CSS_SELECTOR1);
+        var settledElements = new ArrayList<BaseWebElement>();
+        setClickWhens(element);
+        element.click(settledElements::add);
+        assertEquals(List.of(element), settledElements);
+        verify(mockWebElementWait, never()).waitUntilPageIsLoaded();
+    }
+
+    @Test
+    public void testBaseClickable_click_networkIdleCountsRequestStartedByClick() {
+        var element = new TestBaseClickableWebElement(SharedTestVariables.CSS_SELECTOR1);
+        var automationWait = new AutomationWait(mockWebDriverWrapper, 1L);
+        var trackerInstalled = new AtomicBoolean();
+        var inflight = new AtomicInteger();
+        setClickWhens(element);
+        when(mockWebDriverWrapper.findElement(element.getBy())).thenReturn(mockRawWebElement);
+        when(mockWebElementWait.getWebDriverWrapper()).thenReturn(mockWebDriverWrapper);
+        when(mockWebDriverWrapper.getAutomationWait()).thenReturn(automationWait);
+        when(mockWebDriverWrapper.getDesiredCapabilities()).thenReturn(desiredCapabilities);
+        when(mockJavascriptExecutor.executeScript(contains("installNetworkTracker();")))
+                .thenAnswer(invocation -> {
+                    trackerInstalled.set(true);
+                    return null;
+                });
+        // The click starts a request that's still in flight, which only the installed tracker sees
+        doAnswer(invocation -> trackerInstalled.get() ? inflight.incrementAndGet() : null)
+                .when(mockRawWebElement).click();
+        when(mockJavascriptExecutor.executeAsyncScript(anyString(), anyMap(), anyLong()))
+                .thenAnswer(invocation -> Map.of("idle", inflight.get() == 0, "inflight", inflight.get()));
+
+        var exception = assertThrows(TimeoutException.class, () ->
+                element.click(SettleStrategyType.NETWORK_IDLE));
+        assertTrue(exception.getMessage().contains("1 request(s) still in flight"));
+        var inOrder = inOrder(mockJavascriptExecutor, mockRawWebElement);
+        inOrder.verify(mockJavascriptExecutor).executeScript(contains("installNetworkTracker();"));
+        inOrder.verify(mockRawWebElement).click();
+    }
+
+    @Test
+    public void testBaseClickable_fusedClick() {
+        var element = new TestBaseClickableWebElement(SharedTestVariables.CSS_SELECTOR1);
+        when(mockWebDriverWrapper.isFusedClickEnabled()).thenReturn(true);
+        when(mockWebDriverWrapper.getJavascriptExecutor()).thenReturn(mockJavascriptExecutor);
+        when(mockJavascriptExecutor.executeScript(anyString(), anyMap()))
+                .thenReturn(Map.of("status", "ready", "element", mockRawWebElement));
+        element.click(SettleStrategyType.NONE);
+        verify(mockRawWebElement, times(1)).click();
+        verify(mockWebDriverWrapper, never()).findElement(any());
+        verify(mockWebElementWait, never()).waitUntilDisplayed();
+    }
+
+    @Test
+    public void testBaseClickable_fusedClick_obscuredFallsBack() {
+        var element = new TestBaseClickableWebElement(SharedTestVariables.CSS_SELECTOR1);
+        setClickWhens(element);
+        when(mockWebDriverWrapper.isFusedClickEnabled()).thenReturn(true);
+        when(mockJavascriptExecutor.executeScript(anyString(), anyMap()))
+                .thenReturn(Map.of("status", "obscured", "element", mockRawWebElement));
+        element.click(SettleStrategyType.NONE);
+        verify(mockRawWebElement, times(1)).click();
+    }
+
     private void clickAndVerifyIsClicked(TestBaseClickableWebElement element) {
+        setClickWhens(element);
+        element.click();
+        verify(mockRawWebElement, times(1)).click();
+    }
+
+    private void setClickWhens(TestBaseClickableWebElement element) {
         when(mockWebElementWait.waitUntilDisplayed()).thenReturn(mockRawWebElement);
         when(element.getRawWebElement()).thenReturn(mockRawWebElement);
         when(mockWebDriverWrapper.getJavascriptExecutor()).thenReturn(mockJavascriptExecutor);
@@ -30,7 +133,5 @@ public class BaseClickableTests extends BaseUnitTest {
                 .getJavascriptExecutor()
                 .executeScript(SharedTestVariables.SCROLL_INTO_VIEW_SCRIPT, mockRawWebElement))
                 .thenReturn(mockRawWebElement);
-        element.click();
-        verify(mockRawWebElement, times(1)).click();
     }
 }
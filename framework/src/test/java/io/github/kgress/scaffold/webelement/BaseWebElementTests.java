@@ -5,17 +5,33 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.github.kgress.scaffold.BaseUnitTest;
+import io.github.kgress.scaffold.BaseWebElement;
+import io.github.kgress.scaffold.ElementList;
+import io.github.kgress.scaffold.ElementLookupStatistics;
 import io.github.kgress.scaffold.MockBaseWebElement;
 import io.github.kgress.scaffold.SharedTestVariables;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.openqa.selenium.By;
 import org.openqa.selenium.Dimension;
+import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.Point;
 import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebElement;
 
 public class BaseWebElementTests extends BaseUnitTest {
 
@@ -364,6 +380,38 @@ public class BaseWebElementTests extends BaseUnitTest {
         assertEquals(expectedCombinedBy, foundElement.getBy());
     }
 
+    @Test
+    public void testFindElementList_className_indexedBy() {
+        var elementList = parentBaseWebElementByClass
+                .findElementList(MockBaseWebElement.class, SharedTestVariables.CSS_SELECTOR1);
+
+        assertEquals(2, elementList.size());
+        for (var index = 0; index < elementList.size(); index++) {
+            var by = (ElementList.ByIndex) elementList.get(index).getBy();
+            assertEquals(List.of(expectedByClassName), by.getScopeBys());
+            assertEquals(By.cssSelector(SharedTestVariables.CSS_SELECTOR1), by.getChildBy());
+            assertEquals(index, by.getIndex());
+        }
+    }
+
+    @Test
+    public void testFindElementList_byIndex_findsWithinFirstParentMatch() {
+        var parentBy = By.cssSelector(SharedTestVariables.MOCK_PARENT_ELEMENT_SELECTOR);
+        var childBy = By.cssSelector(SharedTestVariables.CSS_SELECTOR1);
+        var secondChild = mock(WebElement.class);
+        var otherParent = mock(WebElement.class);
+        when(mockBaseWebDriver.findElements(parentBy)).thenReturn(List.of(mockParentRawWebElement, otherParent));
+        when(mockParentRawWebElement.findElements(expectedByClassName)).thenReturn(List.of(mockRawWebElement));
+        when(mockRawWebElement.findElements(childBy)).thenReturn(List.of(mock(WebElement.class), secondChild));
+
+        var byIndex = new ElementList.ByIndex(List.of(parentBy, expectedByClassName), childBy, 1);
+
+        assertEquals(List.of(secondChild), byIndex.findElements(mockBaseWebDriver));
+        verify(otherParent, never()).findElements(any());
+        assertEquals(List.of(), new ElementList.ByIndex(List.of(parentBy, expectedByClassName), childBy, 2)
+                .findElements(mockBaseWebDriver));
+    }
+
     @Test
     public void testExceptionHandledIsDisplayed(){
         setBaseWhen(elementByCssSelector);
@@ -395,4 +443,156 @@ public class BaseWebElementTests extends BaseUnitTest {
         assertDoesNotThrow(() -> elementByCssSelector.hasClass("class"));
         assertFalse(elementByCssSelector.hasClass("class"));
     }
+
+    @Test
+    public void testGetRawWebElement_cacheEnabled_findsOncePerDocument() {
+        var statistics = setWhenElementCacheEnabled();
+        when(mockWebDriverWrapper.findElement(expectedBy)).thenReturn(mockRawWebElement);
+        when(mockRawWebElement.getText()).thenReturn(SharedTestVariables.TEXT_1);
+
+        assertEquals(SharedTestVariables.TEXT_1, elementByCssSelector.getText());
+        assertEquals(SharedTestVariables.TEXT_1, elementByCssSelector.getText());
+
+        verify(mockWebDriverWrapper, times(1)).findElement(expectedBy);
+        assertEquals(1, statistics.getCacheHits());
+        assertEquals(1, statistics.getCacheMisses());
+    }
+
+    @Test
+    public void testGetRawWebElement_cacheEnabled_refindsAfterNavigation() {
+        setWhenElementCacheEnabled();
+        when(mockWebDriverWrapper.getDocumentGeneration()).thenReturn(0L, 1L);
+        when(mockWebDriverWrapper.findElement(expectedBy)).thenReturn(mockRawWebElement);
+
+        elementByCssSelector.getRawWebElement();
+        elementByCssSelector.getRawWebElement();
+
+        verify(mockWebDriverWrapper, times(2)).findElement(expectedBy);
+    }
+
+    @Test
+    public void testGetText_cacheEnabled_refindsStaleElement() {
+        var statistics = setWhenElementCacheEnabled();
+        when(mockWebDriverWrapper.findElement(expectedBy)).thenReturn(mockRawWebElement, mockParentRawWebElement);
+        when(mockRawWebElement.getText()).thenThrow(new StaleElementReferenceException("Element is stale"));
+        when(mockParentRawWebElement.getText()).thenReturn(SharedTestVariables.TEXT_1);
+
+        assertEquals(SharedTestVariables.TEXT_1, elementByCssSelector.getText());
+        assertEquals(1, statistics.getStaleRetries());
+        assertEquals(2, statistics.getCacheMisses());
+    }
+
+    @Test
+    public void testGetRawWebElement_fastPath_skipsWaitWhenDisplayed() {
+        var statistics = setWhenElementFastPathEnabled();
+        when(mockWebDriverWrapper.findElement(expectedBy)).thenReturn(mockRawWebElement);
+        when(mockRawWebElement.isDisplayed()).thenReturn(true);
+
+        assertEquals(mockRawWebElement, elementByCssSelector.getRawWebElement());
+        verify(mockWebElementWait, never()).waitUntilDisplayed();
+        assertEquals(1, statistics.getFastPathHits());
+        assertEquals(1, statistics.getRoundTripsSaved());
+    }
+
+    @Test
+    public void testGetRawWebElement_fastPath_usesWaitedElement() {
+        var statistics = setWhenElementFastPathEnabled();
+        when(mockWebDriverWrapper.findElement(expectedBy)).thenThrow(new NoSuchElementException("Not yet"));
+        when(mockWebElementWait.waitUntilDisplayed()).thenReturn(mockRawWebElement);
+
+        assertEquals(mockRawWebElement, elementByCssSelector.getRawWebElement());
+        verify(mockWebDriverWrapper, times(1)).findElement(expectedBy);
+        assertEquals(1, statistics.getFastPathMisses());
+        assertEquals(0, statistics.getRoundTripsSaved());
+    }
+
+    @Test
+    public void testSnapshot_byCss() {
+        setBaseWhen(elementByCssSelector);
+        when(mockWebDriverWrapper.getJavascriptExecutor()).thenReturn(mockJavascriptExecutor);
+        when(mockJavascriptExecutor.executeScript(any(), eq(mockRawWebElement), any(), any()))
+                .thenReturn(createSnapshotResult(SharedTestVariables.TEXT_1));
+
+        var snapshot = elementByCssSelector.snapshot(SharedTestVariables.CLASS_ATTRIBUTE);
+
+        assertEquals(SharedTestVariables.TEXT_1, snapshot.getText());
+        assertEquals(SharedTestVariables.TAG_NAME_1, snapshot.getTagName());
+        assertEquals(SharedTestVariables.CLASS_NAME, snapshot.getAttribute(SharedTestVariables.CLASS_ATTRIBUTE));
+        assertEquals(new Rectangle(1, 2, 4, 3), snapshot.getRect());
+        assertTrue(snapshot.isDisplayed());
+        assertTrue(snapshot.isEnabled());
+        assertFalse(snapshot.isSelected());
+    }
+
+    @Test
+    public void testSnapshot_listOfElements() {
+        var locator = Map.of("element", Map.of("using", "css", "value", SharedTestVariables.CSS_SELECTOR1));
+        when(mockWebDriverWrapper.getJavascriptExecutor()).thenReturn(mockJavascriptExecutor);
+        when(mockJavascriptExecutor.executeScript(any(), eq(List.of(locator, locator)), any(), any()))
+                .thenReturn(List.of(createSnapshotResult(SharedTestVariables.TEXT_1),
+                        createSnapshotResult(SharedTestVariables.TEXT_2)));
+
+        var snapshots = BaseWebElement.snapshot(List.of(elementByCssSelector, elementByCssSelector),
+                List.of(SharedTestVariables.CLASS_ATTRIBUTE), List.of());
+
+        assertEquals(2, snapshots.size());
+        assertEquals(SharedTestVariables.TEXT_1, snapshots.get(0).getText());
+        assertEquals(SharedTestVariables.TEXT_2, snapshots.get(1).getText());
+        verify(mockJavascriptExecutor, times(1)).executeScript(any(), any(), any(), any());
+        verify(mockWebElementWait, never()).waitUntilDisplayed();
+    }
+
+    @Test
+    public void testSnapshot_listOfElements_findsMissingElementsWithWebDriver() {
+        var elementByLinkText = new TestBaseWebElement(By.linkText(SharedTestVariables.TEXT_1));
+        var locator = Map.of("element", Map.of("using", "css", "value", SharedTestVariables.CSS_SELECTOR1));
+        var missingResult = new ArrayList<Object>();
+        missingResult.add(null);
+        missingResult.add(createSnapshotResult(SharedTestVariables.TEXT_2));
+        when(mockWebDriverWrapper.findElement(By.linkText(SharedTestVariables.TEXT_1))).thenReturn(mockRawWebElement);
+        when(mockWebDriverWrapper.findElement(expectedBy)).thenReturn(mockParentRawWebElement);
+        when(mockWebDriverWrapper.getJavascriptExecutor()).thenReturn(mockJavascriptExecutor);
+        when(mockJavascriptExecutor.executeScript(any(), eq(List.of(locator, mockRawWebElement)), any(), any()))
+                .thenReturn(missingResult);
+        when(mockJavascriptExecutor.executeScript(any(), eq(List.of(mockParentRawWebElement)), any(), any()))
+                .thenReturn(List.of(createSnapshotResult(SharedTestVariables.TEXT_1)));
+
+        var snapshots = BaseWebElement.snapshot(List.of(elementByCssSelector, elementByLinkText),
+                List.of(), List.of());
+
+        assertEquals(SharedTestVariables.TEXT_1, snapshots.get(0).getText());
+        assertEquals(SharedTestVariables.TEXT_2, snapshots.get(1).getText());
+        verify(mockWebElementWait, times(2)).waitUntilDisplayed();
+        verify(mockJavascriptExecutor, times(2)).executeScript(any(), any(), any(), any());
+    }
+
+    private Map<String, Object> createSnapshotResult(String text) {
+        var result = new HashMap<String, Object>();
+        result.put("text", text);
+        result.put("tagName", SharedTestVariables.TAG_NAME_1);
+        result.put("attributes", Map.of(SharedTestVariables.CLASS_ATTRIBUTE, SharedTestVariables.CLASS_NAME));
+        result.put("cssValues", Map.of());
+        result.put("x", 1L);
+        result.put("y", 2L);
+        result.put("width", 3L);
+        result.put("height", 4L);
+        result.put("selected", false);
+        result.put("displayed", true);
+        result.put("enabled", true);
+        return result;
+    }
+
+    private ElementLookupStatistics setWhenElementFastPathEnabled() {
+        var statistics = new ElementLookupStatistics();
+        when(mockWebDriverWrapper.isElementFastPathEnabled()).thenReturn(true);
+        when(mockWebDriverWrapper.getElementLookupStatistics()).thenReturn(statistics);
+        return statistics;
+    }
+
+    private ElementLookupStatistics setWhenElementCacheEnabled() {
+        var statistics = new ElementLookupStatistics();
+        when(mockWebDriverWrapper.isElementCacheEnabled()).thenReturn(true);
+        when(mockWebDriverWrapper.getElementLookupStatistics()).thenReturn(statistics);
+        return statistics;
+    }
 }
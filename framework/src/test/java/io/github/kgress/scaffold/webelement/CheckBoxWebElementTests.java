@@ -1,10 +1,14 @@
 package io.github.kgress.scaffold.webelement;
 
 import io.github.kgress.scaffold.BaseUnitTest;
+import io.github.kgress.scaffold.BaseWebElement;
 import io.github.kgress.scaffold.SharedTestVariables;
 import org.junit.jupiter.api.Test;
 import org.openqa.selenium.*;
 
+import java.util.List;
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -31,6 +35,43 @@ public class CheckBoxWebElementTests extends BaseUnitTest {
         verify(mockRawWebElement, times(1)).isSelected();
     }
 
+    @Test
+    public void testCheckboxWebElement_byCss_ensureChecked_inBrowser() {
+        when(mockWebDriverWrapper.getJavascriptExecutor()).thenReturn(mockJavascriptExecutor);
+        when(mockJavascriptExecutor.executeScript(anyString(), any()))
+                .thenReturn(List.of(Map.of("previous", false)));
+        assertFalse(elementByCssSelector.ensureChecked(true));
+        verify(mockJavascriptExecutor, times(1)).executeScript(anyString(), any());
+        verify(mockRawWebElement, never()).click();
+    }
+
+    @Test
+    public void testCheckboxWebElement_byCss_ensureChecked_fallsBackToWebDriver() {
+        setBaseWhen(elementByCssSelector);
+        when(mockWebDriverWrapper.getJavascriptExecutor()).thenReturn(mockJavascriptExecutor);
+        when(mockJavascriptExecutor.executeScript(anyString(), any()))
+                .thenReturn(List.of(Map.of("error", "not displayed")));
+        when(mockRawWebElement.isSelected()).thenReturn(false);
+        assertFalse(elementByCssSelector.ensureChecked(true));
+        verify(mockRawWebElement, times(1)).click();
+    }
+
+    @Test
+    public void testCheckboxWebElement_byCss_ensureChecked_clickedInBrowserIsNotClickedAgain() {
+        when(mockWebDriverWrapper.getJavascriptExecutor()).thenReturn(mockJavascriptExecutor);
+        when(mockJavascriptExecutor.executeScript(anyString(), any())).thenReturn(List.of(Map.of(
+                "error", "the click did not change the element", "previous", false, "clicked", true)));
+        assertThrows(IllegalStateException.class, () -> elementByCssSelector.ensureChecked(true));
+        verify(mockWebElementWait, never()).waitUntilDisplayed();
+        verify(mockRawWebElement, never()).click();
+    }
+
+    @Test
+    public void testCheckboxWebElement_byCss_ensureChecked_invalidState() {
+        assertThrows(IllegalArgumentException.class,
+                () -> BaseWebElement.setFormState(Map.of(elementByCssSelector, "yes")));
+    }
+
     @Test
     public void testCheckboxWebElement_byCss_click() {
         setBaseWhen(elementByCssSelector);
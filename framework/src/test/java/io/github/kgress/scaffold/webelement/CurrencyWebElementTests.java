@@ -0,0 +1,56 @@
+package io.github.kgress.scaffold.webelement;
+
+import io.github.kgress.scaffold.BaseUnitTest;
+import io.github.kgress.scaffold.SharedTestVariables;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+public class CurrencyWebElementTests extends BaseUnitTest {
+
+    private final TestCurrencyWebElement elementByCssSelector =
+            new TestCurrencyWebElement(SharedTestVariables.CSS_SELECTOR1);
+    private final TestCurrencyWebElement elementByClass =
+            new TestCurrencyWebElement(By.className(SharedTestVariables.CLASS_NAME));
+
+    @Test
+    public void testCurrencyWebElement_byCss_getValue() {
+        setBaseWhen(elementByCssSelector);
+        when(mockRawWebElement.getAttribute("value")).thenReturn(null);
+        when(mockRawWebElement.getText()).thenReturn("$1,234.50");
+        elementByCssSelector.setLocale(Locale.US);
+        assertEquals(new BigDecimal("1234.50"), elementByCssSelector.getValue());
+    }
+
+    @Test
+    public void testCurrencyWebElement_byCss_getValue_negativeInParentheses() {
+        setBaseWhen(elementByCssSelector);
+        when(mockRawWebElement.getAttribute("value")).thenReturn(null);
+        when(mockRawWebElement.getText()).thenReturn("($12.00)");
+        elementByCssSelector.setLocale(Locale.US);
+        assertEquals(new BigDecimal("-12.00"), elementByCssSelector.getValue());
+    }
+
+    @Test
+    public void testCurrencyWebElement_byClass_getValue_localLocale() {
+        setBaseWhen(elementByClass);
+        when(mockRawWebElement.getAttribute("value")).thenReturn(null);
+        when(mockRawWebElement.getText()).thenReturn("1.234,50 \u20ac");
+        elementByClass.setLocale(Locale.GERMANY);
+        assertEquals(new BigDecimal("1234.50"), elementByClass.getValue());
+    }
+
+    @Test
+    public void testCurrencyWebElement_byClass_getValue_otherCurrency() {
+        setBaseWhen(elementByClass);
+        when(mockRawWebElement.getAttribute("value")).thenReturn(null);
+        when(mockRawWebElement.getText()).thenReturn("\u00a312.00");
+        elementByClass.setLocale(Locale.US);
+        assertThrows(NumberFormatException.class, elementByClass::getValue);
+    }
+}
@@ -0,0 +1,97 @@
+package io.github.kgress.scaffold.webelement;
+
+import io.github.kgress.scaffold.BaseUnitTest;
+import io.github.kgress.scaffold.SharedTestVariables;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+
+import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+public class DateWebElementTests extends BaseUnitTest {
+
+    private final TestDateWebElement elementByCssSelector =
+            new TestDateWebElement(SharedTestVariables.CSS_SELECTOR1);
+    private final TestDateWebElement elementByClass =
+            new TestDateWebElement(By.className(SharedTestVariables.CLASS_NAME));
+
+    @Test
+    public void testDateWebElement_byCss_getLocalDate_isoByDefault() {
+        setBaseWhen(elementByCssSelector);
+        when(mockRawWebElement.getAttribute("value")).thenReturn("2021-12-31");
+        assertEquals(LocalDate.of(2021, 12, 31), elementByCssSelector.getLocalDate());
+    }
+
+    @Test
+    public void testDateWebElement_byCss_getLocalDate_localPattern() {
+        setBaseWhen(elementByCssSelector);
+        when(mockRawWebElement.getAttribute("value")).thenReturn("12/31/2021");
+        elementByCssSelector.setDatePattern("MM/dd/yyyy");
+        assertEquals(LocalDate.of(2021, 12, 31), elementByCssSelector.getLocalDate());
+    }
+
+    @Test
+    public void testDateWebElement_byCss_getLocalDate_empty() {
+        setBaseWhen(elementByCssSelector);
+        when(mockRawWebElement.getAttribute("value")).thenReturn("");
+        assertNull(elementByCssSelector.getLocalDate());
+    }
+
+    @Test
+    public void testDateWebElement_byCss_getLocalDate_invalid() {
+        setBaseWhen(elementByCssSelector);
+        when(mockRawWebElement.getAttribute("value")).thenReturn("not a date");
+        assertThrows(DateTimeParseException.class, elementByCssSelector::getLocalDate);
+    }
+
+    @Test
+    public void testDateWebElement_byClass_getLocalDateTime() {
+        setBaseWhen(elementByClass);
+        when(mockRawWebElement.getAttribute("value")).thenReturn("2021-12-31T23:59");
+        elementByClass.setDateTimeFormatter(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        assertEquals(LocalDateTime.of(2021, 12, 31, 23, 59), elementByClass.getLocalDateTime());
+    }
+
+    /**
+     * Parses the element's date from 20 threads at once, which used to corrupt the parses of a shared
+     * {@link java.text.DateFormat}. Every {@link Date} and every {@link LocalDate} has to come back right.
+     */
+    @Test
+    public void testDateWebElement_byCss_parsesFromManyThreads() throws Exception {
+        setBaseWhen(elementByCssSelector);
+        when(mockRawWebElement.getAttribute("value")).thenReturn("12/31/2021");
+        elementByCssSelector.setDateFormat(new SimpleDateFormat("MM/dd/yyyy"));
+        elementByCssSelector.setDatePattern("MM/dd/yyyy");
+        var expectedDate = new SimpleDateFormat("MM/dd/yyyy").parse("12/31/2021");
+        var expectedLocalDate = LocalDate.of(2021, 12, 31);
+
+        var executor = Executors.newFixedThreadPool(20);
+        try {
+            var legacyParses = new ArrayList<Callable<Date>>();
+            var localDateParses = new ArrayList<Callable<LocalDate>>();
+            for (var parse = 0; parse < 2000; parse++) {
+                legacyParses.add(elementByCssSelector::getValue);
+                localDateParses.add(elementByCssSelector::getLocalDate);
+            }
+            for (Future<Date> date : executor.invokeAll(legacyParses)) {
+                assertEquals(expectedDate, date.get());
+            }
+            for (Future<LocalDate> localDate : executor.invokeAll(localDateParses)) {
+                assertEquals(expectedLocalDate, localDate.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
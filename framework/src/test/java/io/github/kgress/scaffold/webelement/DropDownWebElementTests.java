@@ -2,12 +2,16 @@ package io.github.kgress.scaffold.webelement;
 
 import io.github.kgress.scaffold.BaseUnitTest;
 import io.github.kgress.scaffold.SharedTestVariables;
+import io.github.kgress.scaffold.WebDriverWrapper;
+import io.github.kgress.scaffold.WebElementWait;
+import io.github.kgress.scaffold.webelements.DropDownWebElement;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.openqa.selenium.*;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -28,9 +32,10 @@ public class DropDownWebElementTests extends BaseUnitTest {
 
     @Test
     public void testDropDownWebElement_byCss_getOptionsText() {
-        when(mockSelect.getOptions()).thenReturn(getOptions);
+        setBaseWhen(elementByCssSelector);
+        setWhenGetOptionsSucceed();
         var elementOptions = elementByCssSelector.getOptionsText();
-        assertEquals(1, elementOptions.size());
+        assertEquals(List.of(SharedTestVariables.DROPDOWN_VALUE), elementOptions);
     }
 
     @Test
@@ -46,9 +51,100 @@ public class DropDownWebElementTests extends BaseUnitTest {
     }
 
     @Test
-    public void testDropDownWebElement_byCss_selectByVisibleTest() {
+    public void testDropDownWebElement_byCss_selectByValues_inBrowser() {
+        when(mockWebDriverWrapper.getJavascriptExecutor()).thenReturn(mockJavascriptExecutor);
+        when(mockJavascriptExecutor.executeScript(anyString(), any()))
+                .thenReturn(List.of(Map.of("previous", List.of("first"))));
+        var previous = elementByCssSelector.selectByValues(SharedTestVariables.DROPDOWN_VALUE);
+        assertEquals(List.of("first"), previous);
+        verifyNoInteractions(mockSelect);
+    }
+
+    @Test
+    public void testDropDownWebElement_byCss_selectByValues_fallsBackToWebDriver() {
+        when(mockWebDriverWrapper.getJavascriptExecutor()).thenReturn(mockJavascriptExecutor);
+        when(mockJavascriptExecutor.executeScript(anyString(), any()))
+                .thenReturn(List.of(Map.of("error", "missing")));
+        when(mockSelect.isMultiple()).thenReturn(true);
+        when(mockSelect.getAllSelectedOptions()).thenReturn(getOptions);
+        when(mockRawWebElement.getAttribute("value")).thenReturn("first");
+        var previous = elementByCssSelector.selectByValues(SharedTestVariables.DROPDOWN_VALUE);
+        assertEquals(List.of("first"), previous);
+        verify(mockSelect, times(1)).selectByValue(SharedTestVariables.DROPDOWN_VALUE);
+        verify(mockSelect, times(1)).deselectByValue("first");
+    }
+
+    @Test
+    public void testDropDownWebElement_byCss_selectByValues_singleSelectTakesOneValue() {
+        when(mockWebDriverWrapper.getJavascriptExecutor()).thenReturn(mockJavascriptExecutor);
+        when(mockJavascriptExecutor.executeScript(anyString(), any()))
+                .thenReturn(List.of(Map.of("error", "only one value can be selected")));
+        when(mockSelect.isMultiple()).thenReturn(false);
+        assertThrows(IllegalArgumentException.class,
+                () -> elementByCssSelector.selectByValues("first", "second"));
+    }
+
+    @Test
+    public void testDropDownWebElement_byCss_selectByVisibleTest_blank() {
         elementByCssSelector.selectByVisibleText("");
-        verify(mockSelect, times(1)).selectByVisibleText("");
+        verifyNoInteractions(mockSelect, mockJavascriptExecutor);
+    }
+
+    @Test
+    public void testDropDownWebElement_byCss_selectByVisibleText_inBrowser() {
+        setBaseWhen(elementByCssSelector);
+        when(mockWebDriverWrapper.getJavascriptExecutor()).thenReturn(mockJavascriptExecutor);
+        when(mockJavascriptExecutor.executeScript(anyString(), eq(mockRawWebElement),
+                eq(SharedTestVariables.DROPDOWN_VALUE))).thenReturn(SharedTestVariables.DROPDOWN_VALUE);
+        elementByCssSelector.selectByVisibleText(SharedTestVariables.DROPDOWN_VALUE);
+        verifyNoInteractions(mockSelect);
+    }
+
+    @Test
+    public void testDropDownWebElement_byCss_selectByVisibleText_fallsBackToSelect() {
+        setBaseWhen(elementByCssSelector);
+        when(mockWebDriverWrapper.getJavascriptExecutor()).thenReturn(mockJavascriptExecutor);
+        when(mockJavascriptExecutor.executeScript(anyString(), eq(mockRawWebElement),
+                eq(SharedTestVariables.DROPDOWN_VALUE))).thenReturn(null);
+        elementByCssSelector.selectByVisibleText(SharedTestVariables.DROPDOWN_VALUE);
+        verify(mockSelect, times(1)).selectByVisibleText(SharedTestVariables.DROPDOWN_VALUE);
+    }
+
+    @Test
+    public void testDropDownWebElement_byCss_getOptions() {
+        setBaseWhen(elementByCssSelector);
+        setWhenGetOptionsSucceed();
+        var options = elementByCssSelector.getOptions();
+        assertEquals(1, options.size());
+        assertEquals("corellia", options.get(0).getValue());
+        assertEquals(SharedTestVariables.DROPDOWN_VALUE, options.get(0).getText());
+        assertTrue(options.get(0).isSelected());
+        assertFalse(options.get(0).isDisabled());
+        verify(mockJavascriptExecutor, times(1)).executeScript(anyString(), eq(mockRawWebElement));
+    }
+
+    @Test
+    public void testDropDownWebElement_byCss_selectElementIsCached() {
+        var element = new DropDownWebElement(SharedTestVariables.CSS_SELECTOR1) {
+            @Override
+            protected WebDriverWrapper getWebDriverWrapper() {
+                return mockWebDriverWrapper;
+            }
+
+            @Override
+            protected void setWebElementWait() {
+            }
+
+            @Override
+            public WebElementWait getWebElementWait() {
+                return mockWebElementWait;
+            }
+        };
+        setBaseWhen(element);
+        when(mockRawWebElement.getTagName()).thenReturn("select");
+        assertThrows(NoSuchElementException.class, () -> element.selectByValue("missing"));
+        assertThrows(NoSuchElementException.class, () -> element.selectByValue("missing"));
+        verify(mockRawWebElement, times(1)).getTagName();
     }
 
     @Test
@@ -219,9 +315,10 @@ public class DropDownWebElementTests extends BaseUnitTest {
 
     @Test
     public void testDropDownWebElement_byClass_getOptionsText() {
-        when(mockSelect.getOptions()).thenReturn(getOptions);
+        setBaseWhen(elementByClass);
+        setWhenGetOptionsSucceed();
         var elementOptions = elementByClass.getOptionsText();
-        assertEquals(1, elementOptions.size());
+        assertEquals(List.of(SharedTestVariables.DROPDOWN_VALUE), elementOptions);
     }
 
     @Test
@@ -237,9 +334,9 @@ public class DropDownWebElementTests extends BaseUnitTest {
     }
 
     @Test
-    public void testDropDownWebElement_byClass_selectByVisibleTest() {
+    public void testDropDownWebElement_byClass_selectByVisibleTest_blank() {
         elementByClass.selectByVisibleText("");
-        verify(mockSelect, times(1)).selectByVisibleText("");
+        verifyNoInteractions(mockSelect, mockJavascriptExecutor);
     }
 
     @Test
@@ -407,4 +504,11 @@ public class DropDownWebElementTests extends BaseUnitTest {
         setWhenScrollIntoViewFail();
         assertThrows(TimeoutException.class, elementByClass::scrollIntoView);
     }
+
+    private void setWhenGetOptionsSucceed() {
+        when(mockWebDriverWrapper.getJavascriptExecutor()).thenReturn(mockJavascriptExecutor);
+        when(mockJavascriptExecutor.executeScript(anyString(), eq(mockRawWebElement))).thenReturn(List.of(Map.of(
+                "index", 0L, "value", "corellia", "text", SharedTestVariables.DROPDOWN_VALUE, "selected", true,
+                "disabled", false)));
+    }
 }
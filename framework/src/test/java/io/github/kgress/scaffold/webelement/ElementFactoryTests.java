@@ -0,0 +1,43 @@
+package io.github.kgress.scaffold.webelement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.github.kgress.scaffold.BaseUnitTest;
+import io.github.kgress.scaffold.ElementFactory;
+import io.github.kgress.scaffold.MockBaseWebElement;
+import io.github.kgress.scaffold.SharedTestVariables;
+import io.github.kgress.scaffold.exception.ElementFactoryException;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+
+public class ElementFactoryTests extends BaseUnitTest {
+
+    private final By expectedBy = By.cssSelector(SharedTestVariables.CSS_SELECTOR1);
+    private final By expectedParentBy = By.className(SharedTestVariables.CLASS_NAME);
+
+    @Test
+    public void testCreate_byConstructor() {
+        var element = ElementFactory.create(MockBaseWebElement.class, expectedBy);
+        assertEquals(expectedBy, element.getBy());
+    }
+
+    @Test
+    public void testCreate_byAndParentByConstructor() {
+        var element = ElementFactory.create(MockBaseWebElement.class, expectedBy, expectedParentBy);
+        assertEquals(expectedBy, element.getBy());
+        assertEquals(expectedParentBy, element.getParentBy());
+    }
+
+    @Test
+    public void testCreate_webElementConstructor() {
+        var element = ElementFactory.create(MockBaseWebElement.class, mockRawWebElement);
+        assertEquals(mockRawWebElement, element.getRawWebElement());
+    }
+
+    @Test
+    public void testCreate_missingConstructor() {
+        assertThrows(ElementFactoryException.class, () ->
+                ElementFactory.create(TestBaseWebElement.class, expectedBy));
+    }
+}
@@ -0,0 +1,60 @@
+package io.github.kgress.scaffold.webelement;
+
+import io.github.kgress.scaffold.BaseUnitTest;
+import io.github.kgress.scaffold.SharedTestVariables;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+public class NumberWebElementTests extends BaseUnitTest {
+
+    private final TestNumberWebElement elementByCssSelector =
+            new TestNumberWebElement(SharedTestVariables.CSS_SELECTOR1);
+    private final TestNumberWebElement elementByClass =
+            new TestNumberWebElement(By.className(SharedTestVariables.CLASS_NAME));
+
+    @Test
+    public void testNumberWebElement_byCss_getValue_fromValueAttribute() {
+        setBaseWhen(elementByCssSelector);
+        when(mockRawWebElement.getAttribute("value")).thenReturn("1,234.5");
+        elementByCssSelector.setLocale(Locale.US);
+        assertEquals(new BigDecimal("1234.5"), elementByCssSelector.getValue());
+    }
+
+    @Test
+    public void testNumberWebElement_byCss_getValue_fromText() {
+        setBaseWhen(elementByCssSelector);
+        when(mockRawWebElement.getAttribute("value")).thenReturn(null);
+        when(mockRawWebElement.getText()).thenReturn("-42");
+        elementByCssSelector.setLocale(Locale.US);
+        assertEquals(new BigDecimal("-42"), elementByCssSelector.getValue());
+    }
+
+    @Test
+    public void testNumberWebElement_byCss_getValue_empty() {
+        setBaseWhen(elementByCssSelector);
+        when(mockRawWebElement.getAttribute("value")).thenReturn(" ");
+        assertNull(elementByCssSelector.getValue());
+    }
+
+    @Test
+    public void testNumberWebElement_byClass_getValue_localLocale() {
+        setBaseWhen(elementByClass);
+        when(mockRawWebElement.getAttribute("value")).thenReturn("1.234,5");
+        elementByClass.setLocale(Locale.GERMANY);
+        assertEquals(new BigDecimal("1234.5"), elementByClass.getValue());
+    }
+
+    @Test
+    public void testNumberWebElement_byClass_getValue_notANumber() {
+        setBaseWhen(elementByClass);
+        when(mockRawWebElement.getAttribute("value")).thenReturn("twelve");
+        elementByClass.setLocale(Locale.US);
+        assertThrows(NumberFormatException.class, elementByClass::getValue);
+    }
+}
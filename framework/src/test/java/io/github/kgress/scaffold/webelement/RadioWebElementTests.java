@@ -1,10 +1,14 @@
 package io.github.kgress.scaffold.webelement;
 
 import io.github.kgress.scaffold.BaseUnitTest;
+import io.github.kgress.scaffold.BaseWebElement;
 import io.github.kgress.scaffold.SharedTestVariables;
 import org.junit.jupiter.api.Test;
 import org.openqa.selenium.*;
 
+import java.util.List;
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 import static org.mockito.Mockito.when;
@@ -32,6 +36,32 @@ public class RadioWebElementTests extends BaseUnitTest {
         assertFalse(elementIsSelected);
     }
 
+    @Test
+    public void testRadioWebElement_byCss_ensureSelected_inBrowser() {
+        when(mockWebDriverWrapper.getJavascriptExecutor()).thenReturn(mockJavascriptExecutor);
+        when(mockJavascriptExecutor.executeScript(anyString(), any()))
+                .thenReturn(List.of(Map.of("previous", true)));
+        assertTrue(elementByCssSelector.ensureSelected());
+        verify(mockRawWebElement, never()).click();
+    }
+
+    @Test
+    public void testRadioWebElement_byCss_ensureSelected_fallsBackToWebDriver() {
+        setBaseWhen(elementByCssSelector);
+        when(mockWebDriverWrapper.getJavascriptExecutor()).thenReturn(mockJavascriptExecutor);
+        when(mockJavascriptExecutor.executeScript(anyString(), any()))
+                .thenThrow(new WebDriverException("javascript error"));
+        when(mockRawWebElement.isSelected()).thenReturn(true);
+        assertTrue(elementByCssSelector.ensureSelected());
+        verify(mockRawWebElement, never()).click();
+    }
+
+    @Test
+    public void testRadioWebElement_byCss_setFormState_cannotUnselect() {
+        assertThrows(IllegalArgumentException.class,
+                () -> BaseWebElement.setFormState(Map.of(elementByCssSelector, false)));
+    }
+
     @Test
     public void testRadioWebElement_byCss_click() {
         setBaseWhen(elementByCssSelector);
@@ -0,0 +1,16 @@
+package io.github.kgress.scaffold.models.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The ways Scaffold can fill text into an input.
+ */
+@Getter
+@AllArgsConstructor
+public enum FillMode {
+  NATIVE("Type the text one key at a time with WebDriver"),
+  FAST("Set the value with a script and fire the events a framework listens for");
+
+  private final String fillMode;
+}
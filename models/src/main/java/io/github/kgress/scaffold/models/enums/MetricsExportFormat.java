@@ -0,0 +1,16 @@
+package io.github.kgress.scaffold.models.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The file formats Scaffold can export its metrics in.
+ */
+@Getter
+@AllArgsConstructor
+public enum MetricsExportFormat {
+  JSON("A single JSON document with every meter and its measurements"),
+  CSV("One row for every measurement of every meter");
+
+  private final String metricsExportFormat;
+}
@@ -0,0 +1,19 @@
+package io.github.kgress.scaffold.models.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The ways Scaffold can wait for a page to settle after an element is clicked.
+ */
+@Getter
+@AllArgsConstructor
+public enum SettleStrategyType {
+  NONE("Don't wait after clicking"),
+  READY_STATE("Wait for the document to be complete"),
+  NETWORK_IDLE("Wait for fetch and XHR requests to finish"),
+  DOM_STABLE("Wait for the DOM to stop changing"),
+  CUSTOM("Wait with a custom strategy");
+
+  private final String settleStrategyType;
+}